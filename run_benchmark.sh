@@ -42,6 +42,21 @@ setup_algorithm() {
       RESULT_FILE="dsu-benchmark.json"
       ALGORITHM_NAME="Union-Find (DSU)"
       ;;
+    --kruskal)
+      BENCHMARK_CLASS="br.ufcg.computacao.benchmark.KruskalBenchmark"
+      RESULT_FILE="kruskal-benchmark.json"
+      ALGORITHM_NAME="Árvore Geradora Mínima (Kruskal, Filter-Kruskal e Borůvka)"
+      ;;
+    --dsu-concorrente)
+      BENCHMARK_CLASS="br.ufcg.computacao.benchmark.DisjointSetUnionConcorrenteBenchmark"
+      RESULT_FILE="dsu-concorrente-benchmark.json"
+      ALGORITHM_NAME="Union-Find Concorrente (DSU sem bloqueios)"
+      ;;
+    --alcancabilidade)
+      BENCHMARK_CLASS="br.ufcg.computacao.benchmark.AlcancabilidadeBenchmark"
+      RESULT_FILE="alcancabilidade-benchmark.json"
+      ALGORITHM_NAME="Consultas de Alcançabilidade em DAGs (com e sem índice)"
+      ;;
     *) return 1 ;;
   esac
   return 0
@@ -57,7 +72,10 @@ show_help() {
   echo "  --toposort       Ordenação Topológica"
   echo "  --bfs            Busca em Largura"
   echo "  --dsu            Union-Find (DSU)"
+  echo "  --dsu-concorrente Union-Find Concorrente (multi-thread)"
+  echo "  --kruskal        Árvore Geradora Mínima (Kruskal, Filter-Kruskal e Borůvka)"
   echo "  --menorcaminho   Menor Caminho (Comparativo): Dijkstra e Floyd-Warshall"
+  echo "  --alcancabilidade Consultas de Alcançabilidade em DAGs (com e sem índice)"
   echo
   echo "Opções:"
   echo "  --quick, -q      Modo rápido (menos iterações)"
@@ -69,7 +87,7 @@ show_help() {
 ALGORITHM=""
 while [[ $# -gt 0 ]]; do
   case "$1" in
-    --toposort|--dijkstra|--bfs|--dsu|--floyd|--menorcaminho)
+    --toposort|--dijkstra|--bfs|--dsu|--dsu-concorrente|--kruskal|--floyd|--menorcaminho|--alcancabilidade)
       if [ -n "$ALGORITHM" ]; then
         err "Especifique apenas um algoritmo por vez"
       fi
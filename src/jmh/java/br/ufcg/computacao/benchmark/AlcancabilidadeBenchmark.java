@@ -0,0 +1,132 @@
+package br.ufcg.computacao.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.ufcg.computacao.toposort.IndiceAlcancabilidade;
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Benchmark de vazão de consultas de alcançabilidade em DAGs, comparando:
+ * - busca em profundidade a cada consulta, sem índice
+ * - {@link IndiceAlcancabilidade} com o número padrão de intervalos
+ * - {@link IndiceAlcancabilidade} com um único intervalo (configuração de menor memória)
+ *
+ * O grau médio de saída é {@code 10 * densidade}. Metade das consultas usa pares
+ * aleatórios e metade usa o fim de um passeio aleatório a partir da origem, para que
+ * haja respostas positivas e negativas.
+ *
+ * @author Joyce Vitória Nascimento Rodrigues
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 2, time = 1)
+public class AlcancabilidadeBenchmark {
+
+    private static final int NUM_CONSULTAS = 1 << 12;
+
+    @Param({ "1000", "10000", "100000" })
+    private int numVertices;
+
+    @Param({ "0.1", "0.3", "0.5" })
+    private double densidade;
+
+    private Grafo grafo;
+    private IndiceAlcancabilidade indice;
+    private IndiceAlcancabilidade indiceCompacto;
+    private int[] origens;
+    private int[] destinos;
+    private int proximaConsulta;
+
+    // marcas da busca sem índice, com épocas para não limpar o vetor a cada consulta
+    private int[] marca;
+    private int[] pilha;
+    private int epoca;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        this.grafo = new Grafo(numVertices);
+        int numArestas = (int) (numVertices * 10 * densidade);
+        for (int i = 0; i < numArestas; i++) {
+            int origem = random.nextInt(numVertices - 1);
+            int destino = origem + 1 + random.nextInt(numVertices - origem - 1);
+            grafo.adicionarAresta(origem, destino);
+        }
+
+        this.indice = new IndiceAlcancabilidade(grafo);
+        this.indiceCompacto = new IndiceAlcancabilidade(grafo, 1);
+
+        this.origens = new int[NUM_CONSULTAS];
+        this.destinos = new int[NUM_CONSULTAS];
+        for (int i = 0; i < NUM_CONSULTAS; i++) {
+            int u = random.nextInt(numVertices);
+            int v = u;
+            if (i % 2 == 0) {
+                v = random.nextInt(numVertices);
+            } else {
+                for (int passo = random.nextInt(20); passo > 0 && grafo.getGrauSaida(v) > 0; passo--) {
+                    v = grafo.getAdjacente(v, random.nextInt(grafo.getGrauSaida(v)));
+                }
+            }
+            origens[i] = u;
+            destinos[i] = v;
+        }
+        this.marca = new int[numVertices];
+        this.pilha = new int[numVertices];
+    }
+
+    @Benchmark
+    public boolean consultaSemIndice() {
+        int i = proximaConsulta++ & (NUM_CONSULTAS - 1);
+        return buscaEmProfundidade(origens[i], destinos[i]);
+    }
+
+    @Benchmark
+    public boolean consultaComIndice() {
+        int i = proximaConsulta++ & (NUM_CONSULTAS - 1);
+        return indice.alcanca(origens[i], destinos[i]);
+    }
+
+    @Benchmark
+    public boolean consultaComIndiceCompacto() {
+        int i = proximaConsulta++ & (NUM_CONSULTAS - 1);
+        return indiceCompacto.alcanca(origens[i], destinos[i]);
+    }
+
+    private boolean buscaEmProfundidade(int origem, int destino) {
+        epoca++;
+        int topo = 0;
+        pilha[topo++] = origem;
+        marca[origem] = epoca;
+        while (topo > 0) {
+            int v = pilha[--topo];
+            if (v == destino) {
+                return true;
+            }
+            for (int i = 0; i < grafo.getGrauSaida(v); i++) {
+                int w = grafo.getAdjacente(v, i);
+                if (marca[w] != epoca) {
+                    marca[w] = epoca;
+                    pilha[topo++] = w;
+                }
+            }
+        }
+        return false;
+    }
+}
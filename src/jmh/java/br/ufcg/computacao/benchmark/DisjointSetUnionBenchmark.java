@@ -1,9 +1,5 @@
-<<<<<<< HEAD:src/jmh/java/br/ufcg/DisjointSetUnionBenchmark.java
-package br.ufcg;
-=======
 package br.ufcg.computacao.benchmark;
 
->>>>>>> origin/main:src/jmh/java/br/ufcg/computacao/benchmark/DisjointSetUnionBenchmark.java
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
@@ -21,12 +17,15 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
 import br.ufcg.computacao.disjointsetunion.DSU;
+import br.ufcg.computacao.disjointsetunion.DSUCompacto;
 import br.ufcg.computacao.disjointsetunion.DSULogn;
 
 /**
- * Benchmark para comparar duas versões da estrutura Disjoint Set Union (DSU):
+ * Benchmark para comparar versões da estrutura Disjoint Set Union (DSU):
  * - DSU simples (O(n))
  * - DSU otimizado com Union by Size + Path Compression (O(log n))
+ * - DSU compacto e iterativo, em um único vetor, com Path Halving ou Path Splitting
+ *   combinados com Union by Size ou Union by Rank
  *
  * A densidade controla a quantidade de operações de união simuladas,
  * análogo à densidade de arestas em grafos.
@@ -42,21 +41,16 @@ public class DisjointSetUnionBenchmark {
     @Param({ "100", "500", "1000", "5000" })
     private int numVertices;
 
-<<<<<<< HEAD:src/jmh/java/br/ufcg/DisjointSetUnionBenchmark.java
-    @Param({"10", "50", "100"})
-    private int numVertices;
-
-    @Param({"0.1", "0.3"})
-    private double densidade;
-
-=======
     @Param({ "0.1", "0.3", "0.5" })
     private double densidade;
 
->>>>>>> origin/main:src/jmh/java/br/ufcg/computacao/benchmark/DisjointSetUnionBenchmark.java
     private int[][] operacoes; // pares (a,b) para union
     private DSU dsuON;
     private DSULogn dsuOlogN;
+    private DSUCompacto dsuHalvingTamanho;
+    private DSUCompacto dsuHalvingRank;
+    private DSUCompacto dsuSplittingTamanho;
+    private DSUCompacto dsuSplittingRank;
     private Random random;
 
     @Setup
@@ -86,6 +80,20 @@ public class DisjointSetUnionBenchmark {
         for (int i = 0; i < numVertices; i++) {
             dsuOlogN.makeSet(i);
         }
+
+        // inicializa as variantes compactas
+        dsuHalvingTamanho = criarCompacto(DSUCompacto.Compressao.HALVING, DSUCompacto.Uniao.TAMANHO);
+        dsuHalvingRank = criarCompacto(DSUCompacto.Compressao.HALVING, DSUCompacto.Uniao.RANK);
+        dsuSplittingTamanho = criarCompacto(DSUCompacto.Compressao.SPLITTING, DSUCompacto.Uniao.TAMANHO);
+        dsuSplittingRank = criarCompacto(DSUCompacto.Compressao.SPLITTING, DSUCompacto.Uniao.RANK);
+    }
+
+    private DSUCompacto criarCompacto(DSUCompacto.Compressao compressao, DSUCompacto.Uniao uniao) {
+        DSUCompacto dsu = new DSUCompacto(numVertices, compressao, uniao);
+        for (int i = 0; i < numVertices; i++) {
+            dsu.makeSet(i);
+        }
+        return dsu;
     }
 
     @Benchmark
@@ -103,4 +111,31 @@ public class DisjointSetUnionBenchmark {
             blackhole.consume(dsuOlogN.findSet(op[0]));
         }
     }
-}
\ No newline at end of file
+
+    @Benchmark
+    public void benchmarkDSUHalvingTamanho(Blackhole blackhole) {
+        executarCompacto(dsuHalvingTamanho, blackhole);
+    }
+
+    @Benchmark
+    public void benchmarkDSUHalvingRank(Blackhole blackhole) {
+        executarCompacto(dsuHalvingRank, blackhole);
+    }
+
+    @Benchmark
+    public void benchmarkDSUSplittingTamanho(Blackhole blackhole) {
+        executarCompacto(dsuSplittingTamanho, blackhole);
+    }
+
+    @Benchmark
+    public void benchmarkDSUSplittingRank(Blackhole blackhole) {
+        executarCompacto(dsuSplittingRank, blackhole);
+    }
+
+    private void executarCompacto(DSUCompacto dsu, Blackhole blackhole) {
+        for (int[] op : operacoes) {
+            dsu.unionSet(op[0], op[1]);
+            blackhole.consume(dsu.findSet(op[0]));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package br.ufcg.computacao.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import br.ufcg.computacao.disjointsetunion.DSUConcorrente;
+import br.ufcg.computacao.disjointsetunion.DSULogn;
+
+/**
+ * Benchmark multi-thread para comparar:
+ * - DSU concorrente sem bloqueios (CAS em AtomicIntegerArray)
+ * - DSU O(log n) protegido por um único lock, como na ingestão paralela atual
+ *
+ * Cada thread processa uma fatia intercalada das mesmas operações de união,
+ * geradas com as densidades do {@link DisjointSetUnionBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Threads(4)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 2, time = 1)
+public class DisjointSetUnionConcorrenteBenchmark {
+
+    @Param({ "100", "500", "1000", "5000" })
+    private int numVertices;
+
+    @Param({ "0.1", "0.3", "0.5" })
+    private double densidade;
+
+    private int[] origens; // pares (origens[i], destinos[i]) para union
+    private int[] destinos;
+    private DSUConcorrente dsuConcorrente;
+    private DSULogn dsuComLock;
+
+    @Setup(Level.Trial)
+    public void gerarOperacoes() {
+        Random random = new Random(42);
+
+        // número de operações baseado na densidade
+        int maxOperacoes = (numVertices * (numVertices - 1)) / 2;
+        int numOperacoes = (int) (maxOperacoes * densidade);
+
+        this.origens = new int[numOperacoes];
+        this.destinos = new int[numOperacoes];
+        for (int i = 0; i < numOperacoes; i++) {
+            origens[i] = random.nextInt(numVertices);
+            destinos[i] = random.nextInt(numVertices);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        dsuConcorrente = new DSUConcorrente(numVertices);
+
+        dsuComLock = new DSULogn(numVertices);
+        for (int i = 0; i < numVertices; i++) {
+            dsuComLock.makeSet(i);
+        }
+    }
+
+    @Benchmark
+    public void benchmarkDSUConcorrente(Blackhole blackhole, ThreadParams threads) {
+        int passo = threads.getThreadCount();
+        for (int i = threads.getThreadIndex(); i < origens.length; i += passo) {
+            dsuConcorrente.unionSet(origens[i], destinos[i]);
+            blackhole.consume(dsuConcorrente.findSet(origens[i]));
+        }
+    }
+
+    @Benchmark
+    public void benchmarkDSUComLock(Blackhole blackhole, ThreadParams threads) {
+        int passo = threads.getThreadCount();
+        for (int i = threads.getThreadIndex(); i < origens.length; i += passo) {
+            synchronized (dsuComLock) {
+                dsuComLock.unionSet(origens[i], destinos[i]);
+                blackhole.consume(dsuComLock.findSet(origens[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package br.ufcg.computacao.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import br.ufcg.computacao.disjointsetunion.Boruvka;
+import br.ufcg.computacao.disjointsetunion.Kruskal;
+
+/**
+ * Benchmark para comparar algoritmos de árvore geradora mínima:
+ * - Kruskal sobre DSULogn com ordenação paralela das arestas
+ * - Kruskal sobre DSULogn com radix sort dos pesos inteiros
+ * - Filter-Kruskal
+ * - Borůvka paralelo sobre DSUConcorrente
+ *
+ * A densidade controla a quantidade de arestas geradas, com os mesmos
+ * parâmetros do {@link DisjointSetUnionBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 2, time = 1)
+public class KruskalBenchmark {
+
+    @Param({ "100", "500", "1000", "5000" })
+    private int numVertices;
+
+    @Param({ "0.1", "0.3", "0.5" })
+    private double densidade;
+
+    private Kruskal kruskal;
+    private Boruvka boruvka;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+
+        // número de arestas baseado na densidade
+        int maxArestas = (numVertices * (numVertices - 1)) / 2;
+        int numArestas = (int) (maxArestas * densidade);
+
+        int[] u = new int[numArestas];
+        int[] v = new int[numArestas];
+        int[] w = new int[numArestas];
+        for (int i = 0; i < numArestas; i++) {
+            u[i] = random.nextInt(numVertices);
+            v[i] = random.nextInt(numVertices);
+            w[i] = random.nextInt(1000) + 1;
+        }
+
+        this.kruskal = new Kruskal(numVertices, u, v, w);
+        this.boruvka = new Boruvka(numVertices, u, v, w);
+    }
+
+    @Benchmark
+    public void kruskalOrdenacaoParalela(Blackhole blackhole) {
+        blackhole.consume(kruskal.executar(Kruskal.Modo.ORDENACAO_PARALELA));
+    }
+
+    @Benchmark
+    public void kruskalRadix(Blackhole blackhole) {
+        blackhole.consume(kruskal.executar(Kruskal.Modo.RADIX));
+    }
+
+    @Benchmark
+    public void filterKruskal(Blackhole blackhole) {
+        blackhole.consume(kruskal.executar(Kruskal.Modo.FILTER_KRUSKAL));
+    }
+
+    @Benchmark
+    public void boruvkaParalelo(Blackhole blackhole) {
+        blackhole.consume(boruvka.executar(true));
+    }
+}
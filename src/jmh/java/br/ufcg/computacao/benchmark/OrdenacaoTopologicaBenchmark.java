@@ -17,6 +17,8 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
+import br.ufcg.computacao.toposort.CaminhosEmDAG;
+import br.ufcg.computacao.toposort.Niveis;
 import br.ufcg.computacao.toposort.OrdenacaoTopologica;
 import br.ufcg.computacao.toposort.graph.Grafo;
 
@@ -42,6 +44,7 @@ public class OrdenacaoTopologicaBenchmark {
 
     private Grafo grafo;
     private OrdenacaoTopologica ordenacaoTopologica;
+    private CaminhosEmDAG caminhosEmDAG;
     private Random random;
 
     @Setup
@@ -52,6 +55,7 @@ public class OrdenacaoTopologicaBenchmark {
         gerarGrafoAciclicoDirecionado(numVertices, densidade);
 
         this.ordenacaoTopologica = new OrdenacaoTopologica(grafo);
+        this.caminhosEmDAG = new CaminhosEmDAG(grafo);
     }
 
     private void gerarGrafoAciclicoDirecionado(int numVertices, double densidade) {
@@ -74,4 +78,22 @@ public class OrdenacaoTopologicaBenchmark {
         List<Integer> resultado = ordenacaoTopologica.ordenar();
         blackhole.consume(resultado);
     }
+
+    @Benchmark
+    public void ordenacaoTopologicaIterativa(Blackhole blackhole) {
+        int[] resultado = ordenacaoTopologica.ordenarIterativo();
+        blackhole.consume(resultado);
+    }
+
+    @Benchmark
+    public void ordenacaoPorNiveisParalela(Blackhole blackhole) {
+        Niveis resultado = ordenacaoTopologica.ordenarPorNiveis(true);
+        blackhole.consume(resultado);
+    }
+
+    @Benchmark
+    public void caminhoCriticoEmDAG(Blackhole blackhole) {
+        int[] resultado = caminhosEmDAG.caminhoCritico();
+        blackhole.consume(resultado);
+    }
 }
@@ -0,0 +1,246 @@
+package br.ufcg.computacao.disjointsetunion;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Cálculo do <strong>menor ancestral comum</strong> (<i>lowest common ancestor</i>, LCA) em
+ * florestas descritas por um vetor de pais, como os vetores {@code predecessor} do BFS e
+ * {@code pais} do Dijkstra, em que {@code -1} marca as raízes e os vértices não alcançados.
+ * </p>
+ *
+ * <p>
+ * Duas abordagens são oferecidas:
+ * <ul>
+ *   <li>{@link #tarjan(int[], int[], int[])}: algoritmo <strong>offline</strong> de Tarjan,
+ *       que responde um lote de consultas em uma única busca em profundidade usando um
+ *       {@link DSULogn}. Cada vértice, ao terminar, é unido ao pai, e o ancestral de cada conjunto
+ *       é o vértice em processamento mais profundo; o custo total é
+ *       $O((n + q) \cdot \alpha(n))$.</li>
+ *   <li>instâncias de {@code AncestralComum}: alternativa <strong>online</strong>, com
+ *       <i>Euler tour</i> e <i>sparse table</i> de mínimos por profundidade. O pré-processamento
+ *       custa $O(n \log n)$ e cada {@link #consultar(int, int)} custa $O(1)$.</li>
+ * </ul>
+ * Ambas percorrem a floresta de forma iterativa, então árvores profundas (como caminhos de
+ * milhões de vértices) não causam {@link StackOverflowError}. Vértices em árvores diferentes
+ * não têm ancestral comum, e a resposta é {@code -1}.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ *     Algoritmo offline baseado em Tarjan (1979), Applications of Path Compression on Balanced Trees
+ */
+public class AncestralComum {
+
+    // Primeira ocorrência de cada vértice no Euler tour.
+    private final int[] primeira;
+
+    // Raiz da árvore de cada vértice.
+    private final int[] raiz;
+
+    private final int[] profundidade;
+
+    // tabela[k][i]: vértice de menor profundidade entre as posições [i, i + 2^k) do tour.
+    private final int[][] tabela;
+
+    /**
+     * Constrói o índice online a partir do vetor de pais.
+     *
+     * @param pais pai de cada vértice, ou {@code -1} para as raízes.
+     * @throws IllegalArgumentException se algum pai for inválido ou o vetor contiver ciclos.
+     */
+    public AncestralComum(int[] pais) {
+        int n = pais.length;
+        int[][] filhos = filhos(pais);
+        this.primeira = new int[n];
+        this.raiz = new int[n];
+        this.profundidade = new int[n];
+
+        int tamanhoTour = Math.max(0, 2 * n - 1);
+        int[] tour = new int[tamanhoTour];
+        int posicao = 0;
+        int[] pilha = new int[n];
+        int[] cursor = new int[n];
+        int visitados = 0;
+
+        for (int r = 0; r < n; r++) {
+            if (pais[r] != -1)
+                continue;
+            int topo = 0;
+            pilha[topo++] = r;
+            raiz[r] = r;
+            primeira[r] = posicao;
+            tour[posicao++] = r;
+            visitados++;
+            while (topo > 0) {
+                int v = pilha[topo - 1];
+                if (cursor[v] < filhos[1][v + 1] - filhos[1][v]) {
+                    int c = filhos[0][filhos[1][v] + cursor[v]++];
+                    raiz[c] = r;
+                    profundidade[c] = profundidade[v] + 1;
+                    primeira[c] = posicao;
+                    tour[posicao++] = c;
+                    pilha[topo++] = c;
+                    visitados++;
+                } else {
+                    topo--;
+                    if (topo > 0)
+                        tour[posicao++] = pilha[topo - 1]; // volta ao pai
+                }
+            }
+        }
+        if (visitados < n)
+            throw new IllegalArgumentException("O vetor de pais contém ciclos.");
+
+        int niveis = posicao == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(posicao);
+        this.tabela = new int[niveis][];
+        this.tabela[0] = Arrays.copyOf(tour, posicao);
+        for (int k = 1; k < niveis; k++) {
+            int[] anterior = tabela[k - 1];
+            int tamanho = posicao - (1 << k) + 1;
+            int[] atual = new int[tamanho];
+            for (int i = 0; i < tamanho; i++)
+                atual[i] = maisRaso(anterior[i], anterior[i + (1 << (k - 1))]);
+            tabela[k] = atual;
+        }
+    }
+
+    /**
+     * Retorna o menor ancestral comum de {@code u} e {@code v}.
+     *
+     * @param u primeiro vértice.
+     * @param v segundo vértice.
+     * @return o menor ancestral comum, ou {@code -1} se estiverem em árvores diferentes.
+     * @throws IllegalArgumentException se algum vértice for inválido.
+     */
+    public int consultar(int u, int v) {
+        validar(u, primeira.length);
+        validar(v, primeira.length);
+        if (raiz[u] != raiz[v])
+            return -1;
+        int l = Math.min(primeira[u], primeira[v]);
+        int r = Math.max(primeira[u], primeira[v]);
+        int k = 31 - Integer.numberOfLeadingZeros(r - l + 1);
+        return maisRaso(tabela[k][l], tabela[k][r - (1 << k) + 1]);
+    }
+
+    private int maisRaso(int a, int b) {
+        return profundidade[a] <= profundidade[b] ? a : b;
+    }
+
+    /**
+     * Responde um lote de consultas com o algoritmo offline de Tarjan.
+     *
+     * @param pais pai de cada vértice, ou {@code -1} para as raízes.
+     * @param a primeiro vértice de cada consulta.
+     * @param b segundo vértice de cada consulta.
+     * @return o menor ancestral comum de cada consulta, ou {@code -1} se os vértices estiverem em
+     *         árvores diferentes.
+     * @throws IllegalArgumentException se os vetores de consultas tiverem tamanhos diferentes,
+     *         algum vértice for inválido ou o vetor de pais contiver ciclos.
+     */
+    public static int[] tarjan(int[] pais, int[] a, int[] b) {
+        if (a.length != b.length)
+            throw new IllegalArgumentException("Os vetores a e b devem ter o mesmo tamanho.");
+        int n = pais.length;
+        int q = a.length;
+        int[][] filhos = filhos(pais);
+
+        // consultas de cada vértice, em formato CSR: cada consulta aparece nas duas extremidades
+        int[] inicioConsultas = new int[n + 1];
+        for (int i = 0; i < q; i++) {
+            validar(a[i], n);
+            validar(b[i], n);
+            inicioConsultas[a[i] + 1]++;
+            inicioConsultas[b[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++)
+            inicioConsultas[v + 1] += inicioConsultas[v];
+        int[] consultas = new int[2 * q];
+        int[] proxima = Arrays.copyOf(inicioConsultas, n);
+        for (int i = 0; i < q; i++) {
+            consultas[proxima[a[i]]++] = i;
+            consultas[proxima[b[i]]++] = i;
+        }
+
+        int[] respostas = new int[q];
+        Arrays.fill(respostas, -1);
+        DSULogn dsu = new DSULogn(n);
+        int[] ancestral = new int[n];
+        int[] arvore = new int[n];
+        boolean[] concluido = new boolean[n];
+        int[] pilha = new int[n];
+        int[] cursor = new int[n];
+        int visitados = 0;
+
+        for (int r = 0; r < n; r++) {
+            if (pais[r] != -1)
+                continue;
+            int topo = 0;
+            pilha[topo++] = r;
+            dsu.makeSet(r);
+            ancestral[r] = r;
+            arvore[r] = r;
+            visitados++;
+            while (topo > 0) {
+                int v = pilha[topo - 1];
+                if (cursor[v] < filhos[1][v + 1] - filhos[1][v]) {
+                    int c = filhos[0][filhos[1][v] + cursor[v]++];
+                    dsu.makeSet(c);
+                    ancestral[c] = c;
+                    arvore[c] = r;
+                    pilha[topo++] = c;
+                    visitados++;
+                    continue;
+                }
+
+                // v terminou: responde as consultas cujo outro vértice já terminou
+                concluido[v] = true;
+                for (int p = inicioConsultas[v]; p < inicioConsultas[v + 1]; p++) {
+                    int i = consultas[p];
+                    int w = a[i] == v ? b[i] : a[i];
+                    if (concluido[w] && arvore[w] == r)
+                        respostas[i] = ancestral[dsu.findSet(w)];
+                }
+                topo--;
+                if (topo > 0) {
+                    int pai = pilha[topo - 1];
+                    dsu.unionSet(pai, v);
+                    ancestral[dsu.findSet(pai)] = pai;
+                }
+            }
+        }
+        if (visitados < n)
+            throw new IllegalArgumentException("O vetor de pais contém ciclos.");
+        return respostas;
+    }
+
+    /**
+     * Monta a lista de filhos de cada vértice em formato CSR.
+     *
+     * @return {@code {filhos, inicio}}: os filhos de {@code v} estão em
+     *         {@code filhos[inicio[v]..inicio[v + 1])}.
+     */
+    private static int[][] filhos(int[] pais) {
+        int n = pais.length;
+        int[] inicio = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            if (pais[v] < -1 || pais[v] >= n)
+                throw new IllegalArgumentException("Pai inválido para o vértice " + v + ": " + pais[v]);
+            if (pais[v] != -1)
+                inicio[pais[v] + 1]++;
+        }
+        for (int v = 0; v < n; v++)
+            inicio[v + 1] += inicio[v];
+        int[] filhos = new int[inicio[n]];
+        int[] proximo = Arrays.copyOf(inicio, n);
+        for (int v = 0; v < n; v++)
+            if (pais[v] != -1)
+                filhos[proximo[pais[v]]++] = v;
+        return new int[][] { filhos, inicio };
+    }
+
+    private static void validar(int v, int n) {
+        if (v < 0 || v >= n)
+            throw new IllegalArgumentException("Vértice inválido: " + v);
+    }
+}
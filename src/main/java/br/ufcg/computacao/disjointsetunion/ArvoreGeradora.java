@@ -0,0 +1,60 @@
+package br.ufcg.computacao.disjointsetunion;
+
+/**
+ * <p>
+ * Resultado de um algoritmo de <strong>floresta geradora mínima</strong> ({@link Kruskal}):
+ * os índices das arestas escolhidas, o peso total e o número de componentes da floresta.
+ * </p>
+ *
+ * <p>
+ * Os índices se referem às posições dos vetores de arestas ({@code u}, {@code v}, {@code w})
+ * passados ao algoritmo e são devolvidos em ordem crescente, o que permite comparar
+ * diretamente os resultados de implementações diferentes.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ */
+public class ArvoreGeradora {
+
+    private final int[] arestas;
+    private final long pesoTotal;
+    private final int numComponentes;
+
+    /**
+     * @param arestas índices das arestas escolhidas, em ordem crescente.
+     * @param pesoTotal soma dos pesos das arestas escolhidas.
+     * @param numComponentes número de componentes conexos da floresta.
+     */
+    public ArvoreGeradora(int[] arestas, long pesoTotal, int numComponentes) {
+        this.arestas = arestas;
+        this.pesoTotal = pesoTotal;
+        this.numComponentes = numComponentes;
+    }
+
+    /**
+     * Retorna os índices das arestas da floresta, em ordem crescente.
+     *
+     * @return os índices das arestas escolhidas.
+     */
+    public int[] getArestas() {
+        return arestas;
+    }
+
+    /**
+     * Retorna a soma dos pesos das arestas da floresta.
+     *
+     * @return o peso total.
+     */
+    public long getPesoTotal() {
+        return pesoTotal;
+    }
+
+    /**
+     * Retorna o número de componentes conexos; é 1 quando o grafo é conexo e a floresta é uma árvore.
+     *
+     * @return o número de componentes.
+     */
+    public int getNumComponentes() {
+        return numComponentes;
+    }
+}
@@ -0,0 +1,146 @@
+package br.ufcg.computacao.disjointsetunion;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Implementação paralela do algoritmo de <strong>Borůvka</strong> para a <strong>floresta
+ * geradora mínima</strong> de um grafo não direcionado e ponderado, para máquinas com
+ * vários núcleos.
+ * </p>
+ *
+ * <p>
+ * Cada rodada tem três etapas, todas paralelas:
+ * <ol>
+ *   <li>para cada aresta ativa, os representantes das extremidades são consultados no
+ *       {@link DSUConcorrente} e a aresta disputa, por CAS, o posto de menor aresta de saída
+ *       de cada um dos dois componentes;</li>
+ *   <li>a menor aresta de cada componente é adicionada à floresta com
+ *       {@link DSUConcorrente#unionSet(int, int)}; quando dois componentes escolhem a mesma
+ *       aresta, apenas a primeira união tem efeito;</li>
+ *   <li>contração: as arestas cujas extremidades passaram a estar no mesmo componente são
+ *       descartadas da lista de arestas ativas.</li>
+ * </ol>
+ * O número de componentes cai pelo menos pela metade a cada rodada, então há no máximo
+ * $O(\log V)$ rodadas, cada uma com trabalho $O(E)$.
+ * </p>
+ *
+ * <p>
+ * As arestas são comparadas por {@code (peso, índice)}, uma ordem total. Com isso a floresta
+ * é única e coincide, aresta por aresta, com a produzida pelo {@link Kruskal}, independentemente
+ * da ordem de execução das threads.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ */
+public class Boruvka {
+
+    private final int n;
+    private final int[] u;
+    private final int[] v;
+    private final int[] w;
+
+    /**
+     * Construtor que recebe o grafo em vetores de arestas, no mesmo formato do {@link Kruskal}.
+     *
+     * @param n número de vértices.
+     * @param u extremidade de origem de cada aresta.
+     * @param v extremidade de destino de cada aresta.
+     * @param w peso de cada aresta.
+     * @throws IllegalArgumentException se os vetores tiverem tamanhos diferentes.
+     */
+    public Boruvka(int n, int[] u, int[] v, int[] w) {
+        if (u.length != v.length || u.length != w.length)
+            throw new IllegalArgumentException("Os vetores u, v e w devem ter o mesmo tamanho.");
+        this.n = n;
+        this.u = u;
+        this.v = v;
+        this.w = w;
+    }
+
+    /**
+     * Executa o algoritmo em paralelo.
+     *
+     * @return a floresta geradora mínima.
+     */
+    public ArvoreGeradora executar() {
+        return executar(true);
+    }
+
+    /**
+     * Executa o algoritmo.
+     *
+     * @param paralelo {@code true} para distribuir cada etapa entre as threads do pool comum.
+     * @return a floresta geradora mínima.
+     */
+    public ArvoreGeradora executar(boolean paralelo) {
+        DSUConcorrente dsu = new DSUConcorrente(n);
+        AtomicIntegerArray menorAresta = new AtomicIntegerArray(n);
+        int[] escolhidas = new int[Math.max(0, n - 1)];
+        AtomicInteger numEscolhidas = new AtomicInteger();
+
+        // arestas ativas: inicialmente todas, exceto laços
+        int[] ativas = intervalo(0, u.length, paralelo).filter(e -> u[e] != v[e]).toArray();
+
+        while (ativas.length > 0) {
+            final int[] arestas = ativas;
+            intervalo(0, n, paralelo).forEach(c -> menorAresta.set(c, -1));
+
+            // 1. menor aresta de saída de cada componente
+            intervalo(0, arestas.length, paralelo).forEach(i -> {
+                int e = arestas[i];
+                disputar(menorAresta, dsu.findSet(u[e]), e);
+                disputar(menorAresta, dsu.findSet(v[e]), e);
+            });
+
+            // 2. união dos componentes pelas arestas escolhidas
+            intervalo(0, n, paralelo).forEach(c -> {
+                int e = menorAresta.get(c);
+                if (e != -1 && dsu.unionSet(u[e], v[e]))
+                    escolhidas[numEscolhidas.getAndIncrement()] = e;
+            });
+
+            // 3. contração: descarta arestas internas aos componentes
+            ativas = intervalo(0, arestas.length, paralelo)
+                    .map(i -> arestas[i])
+                    .filter(e -> dsu.findSet(u[e]) != dsu.findSet(v[e]))
+                    .toArray();
+        }
+
+        int total = numEscolhidas.get();
+        int[] resultado = Arrays.copyOf(escolhidas, total);
+        Arrays.sort(resultado);
+        long pesoTotal = 0;
+        for (int e : resultado)
+            pesoTotal += w[e];
+        return new ArvoreGeradora(resultado, pesoTotal, n - total);
+    }
+
+    /**
+     * Registra {@code e} como menor aresta do componente {@code c} se ela for menor que a atual.
+     */
+    private void disputar(AtomicIntegerArray menorAresta, int c, int e) {
+        while (true) {
+            int atual = menorAresta.get(c);
+            if (atual != -1 && !menor(e, atual))
+                return;
+            if (menorAresta.compareAndSet(c, atual, e))
+                return;
+        }
+    }
+
+    /**
+     * Compara duas arestas por peso, desempatando pelo índice.
+     */
+    private boolean menor(int a, int b) {
+        return w[a] < w[b] || (w[a] == w[b] && a < b);
+    }
+
+    private static IntStream intervalo(int inicio, int fim, boolean paralelo) {
+        IntStream indices = IntStream.range(inicio, fim);
+        return paralelo ? indices.parallel() : indices;
+    }
+}
@@ -0,0 +1,364 @@
+package br.ufcg.computacao.disjointsetunion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Cálculo de <strong>componentes conexos</strong> lendo a lista de arestas diretamente de um
+ * arquivo, em fluxo, sem carregar o grafo na memória.
+ * </p>
+ *
+ * <p>
+ * As arestas são lidas com NIO em lotes de tamanho fixo e entregues a um {@link DSULogn}
+ * (sequencial) ou a um {@link DSUConcorrente} (lote distribuído entre as threads do pool comum).
+ * A memória usada é $O(V)$: o DSU, o vetor de rótulos e buffers de tamanho constante; nenhuma
+ * aresta é guardada depois de processada.
+ * </p>
+ *
+ * <p>
+ * Formatos de entrada:
+ * <ul>
+ *   <li>{@link Formato#TEXTO}: dois vértices por aresta, separados por espaços, tabulações ou
+ *       quebras de linha; linhas iniciadas por {@code #} ou {@code %} são comentários. O arquivo
+ *       é lido em blocos por um {@link FileChannel} e analisado byte a byte, sem criar
+ *       {@code String}s.</li>
+ *   <li>{@link Formato#BINARIO}: pares de {@code int} de 32 bits em <i>big-endian</i> (o formato
+ *       de {@link java.io.DataOutputStream}), lidos por mapeamento em memória.</li>
+ * </ul>
+ * O arquivo de saída usa o mesmo formato: uma linha {@code "v c"} por vértice no formato texto, ou
+ * um {@code int} por vértice no binário, onde {@code c} é o identificador do componente de
+ * {@code v}, numerado de {@code 0} a {@code componentes - 1} na ordem do menor vértice.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ */
+public class ComponentesConexos {
+
+    /**
+     * Formato dos arquivos de arestas e de componentes.
+     */
+    public enum Formato {
+        /** Vértices em decimal, separados por espaços em branco. */
+        TEXTO,
+        /** Pares de {@code int} de 32 bits em big-endian. */
+        BINARIO
+    }
+
+    /**
+     * Estrutura usada para unir os vértices.
+     */
+    public enum Estrutura {
+        /** {@link DSULogn}, com os lotes processados por uma única thread. */
+        SEQUENCIAL,
+        /** {@link DSUConcorrente}, com cada lote dividido entre as threads do pool comum. */
+        CONCORRENTE
+    }
+
+    /**
+     * Resumo de uma execução.
+     */
+    public static class Resultado {
+
+        private final long numArestas;
+        private final int numComponentes;
+        private final long nanos;
+
+        Resultado(long numArestas, int numComponentes, long nanos) {
+            this.numArestas = numArestas;
+            this.numComponentes = numComponentes;
+            this.nanos = nanos;
+        }
+
+        /** @return o número de arestas lidas. */
+        public long getNumArestas() {
+            return numArestas;
+        }
+
+        /** @return o número de componentes conexos. */
+        public int getNumComponentes() {
+            return numComponentes;
+        }
+
+        /** @return o tempo total de leitura, união e escrita, em nanossegundos. */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /** @return a vazão da execução, em arestas por segundo. */
+        public double getArestasPorSegundo() {
+            return nanos == 0 ? 0 : numArestas * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d arestas, %d componentes, %.3f s (%.0f arestas/s)",
+                    numArestas, numComponentes, nanos / 1e9, getArestasPorSegundo());
+        }
+    }
+
+    // Arestas por lote.
+    private static final int TAMANHO_LOTE = 1 << 16;
+
+    // Tamanho do buffer de leitura do texto e de escrita, em bytes.
+    private static final int TAMANHO_BUFFER = 1 << 20;
+
+    // Tamanho máximo de cada segmento mapeado na leitura binária, em bytes (múltiplo de 8).
+    private static final long TAMANHO_MAXIMO_SEGMENTO = 1L << 30;
+
+    private final int numVertices;
+    private final Formato formato;
+    private final Estrutura estrutura;
+    private final int tamanhoLote;
+
+    // Lote atual: extremidades intercaladas (u0, v0, u1, v1, ...).
+    private int[] lote;
+    private int usados;
+    private long numArestas;
+
+    private DSULogn dsuSequencial;
+    private DSUConcorrente dsuConcorrente;
+
+    /**
+     * @param numVertices número de vértices; os vértices são {@code 0..numVertices-1}.
+     * @param formato formato dos arquivos de arestas e de componentes.
+     * @param estrutura estrutura usada para unir os vértices.
+     */
+    public ComponentesConexos(int numVertices, Formato formato, Estrutura estrutura) {
+        this(numVertices, formato, estrutura, TAMANHO_LOTE);
+    }
+
+    /**
+     * Construtor que permite escolher o tamanho do lote, útil em testes.
+     *
+     * @param numVertices número de vértices.
+     * @param formato formato dos arquivos.
+     * @param estrutura estrutura usada para unir os vértices.
+     * @param tamanhoLote número de arestas por lote.
+     */
+    ComponentesConexos(int numVertices, Formato formato, Estrutura estrutura, int tamanhoLote) {
+        if (numVertices < 0)
+            throw new IllegalArgumentException("Número de vértices inválido: " + numVertices);
+        if (tamanhoLote <= 0)
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo: " + tamanhoLote);
+        this.numVertices = numVertices;
+        this.formato = formato;
+        this.estrutura = estrutura;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    /**
+     * Lê as arestas, calcula os componentes e grava o componente de cada vértice.
+     *
+     * @param arestas o arquivo de arestas.
+     * @param saida o arquivo de componentes, que é sobrescrito.
+     * @return o resumo da execução, incluindo a vazão em arestas por segundo.
+     * @throws IOException se a leitura ou a escrita falharem, ou se o arquivo de arestas estiver malformado.
+     * @throws IllegalArgumentException se uma aresta tiver um vértice fora do intervalo.
+     */
+    public Resultado processar(Path arestas, Path saida) throws IOException {
+        long inicio = System.nanoTime();
+        this.lote = new int[2 * tamanhoLote];
+        this.usados = 0;
+        this.numArestas = 0;
+        if (estrutura == Estrutura.SEQUENCIAL) {
+            this.dsuSequencial = new DSULogn(numVertices);
+            for (int v = 0; v < numVertices; v++)
+                this.dsuSequencial.makeSet(v);
+        } else {
+            this.dsuConcorrente = new DSUConcorrente(numVertices);
+        }
+
+        try (FileChannel entrada = FileChannel.open(arestas, StandardOpenOption.READ)) {
+            if (formato == Formato.TEXTO)
+                lerTexto(entrada);
+            else
+                lerBinario(entrada);
+        }
+        descarregarLote();
+
+        int[] rotulos = new int[numVertices];
+        int numComponentes = rotular(rotulos);
+        gravar(rotulos, saida);
+        this.lote = null;
+        this.dsuSequencial = null;
+        this.dsuConcorrente = null;
+        return new Resultado(numArestas, numComponentes, System.nanoTime() - inicio);
+    }
+
+    /**
+     * Analisa o texto em blocos, acumulando dígitos entre chamadas de leitura.
+     */
+    private void lerTexto(FileChannel entrada) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+        long numero = 0;
+        boolean emNumero = false;
+        boolean emComentario = false;
+        boolean inicioLinha = true;
+        int pendente = -1; // primeira extremidade de uma aresta incompleta
+
+        while (entrada.read(buffer) >= 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                byte c = buffer.get();
+                if (emComentario) {
+                    if (c == '\n') {
+                        emComentario = false;
+                        inicioLinha = true;
+                    }
+                } else if (c >= '0' && c <= '9') {
+                    numero = numero * 10 + (c - '0');
+                    if (numero > Integer.MAX_VALUE)
+                        throw new IOException("Vértice grande demais na aresta " + numArestas + ".");
+                    emNumero = true;
+                    inicioLinha = false;
+                } else if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                    if (emNumero) {
+                        if (pendente < 0) {
+                            pendente = (int) numero;
+                        } else {
+                            adicionar(pendente, (int) numero);
+                            pendente = -1;
+                        }
+                        numero = 0;
+                        emNumero = false;
+                    }
+                    if (c == '\n')
+                        inicioLinha = true;
+                } else if (inicioLinha && (c == '#' || c == '%')) {
+                    emComentario = true;
+                } else {
+                    throw new IOException("Caractere inválido na aresta " + numArestas + ": '" + (char) c + "'");
+                }
+            }
+            buffer.clear();
+        }
+
+        if (emNumero) {
+            if (pendente < 0)
+                throw new IOException("Aresta incompleta no fim do arquivo.");
+            adicionar(pendente, (int) numero);
+        } else if (pendente >= 0) {
+            throw new IOException("Aresta incompleta no fim do arquivo.");
+        }
+    }
+
+    /**
+     * Mapeia o arquivo binário em segmentos e copia os pares diretamente para o lote.
+     */
+    private void lerBinario(FileChannel entrada) throws IOException {
+        long tamanho = entrada.size();
+        if (tamanho % 8 != 0)
+            throw new IOException("Tamanho do arquivo binário não é múltiplo de 8 bytes: " + tamanho);
+
+        for (long posicao = 0; posicao < tamanho; posicao += TAMANHO_MAXIMO_SEGMENTO) {
+            long bytes = Math.min(TAMANHO_MAXIMO_SEGMENTO, tamanho - posicao);
+            IntBuffer inteiros = entrada.map(FileChannel.MapMode.READ_ONLY, posicao, bytes).asIntBuffer();
+            while (inteiros.hasRemaining()) {
+                int quantidade = Math.min(lote.length - usados, inteiros.remaining());
+                inteiros.get(lote, usados, quantidade);
+                for (int i = usados; i < usados + quantidade; i += 2)
+                    validar(lote[i], lote[i + 1]);
+                usados += quantidade;
+                numArestas += quantidade / 2;
+                if (usados == lote.length)
+                    descarregarLote();
+            }
+        }
+    }
+
+    private void adicionar(int u, int v) {
+        validar(u, v);
+        lote[usados++] = u;
+        lote[usados++] = v;
+        numArestas++;
+        if (usados == lote.length)
+            descarregarLote();
+    }
+
+    private void validar(int u, int v) {
+        if (u < 0 || u >= numVertices || v < 0 || v >= numVertices)
+            throw new IllegalArgumentException("Vértices inválidos: " + u + ", " + v);
+    }
+
+    /**
+     * Une as extremidades de todas as arestas do lote atual e o esvazia.
+     */
+    private void descarregarLote() {
+        final int[] arestas = lote;
+        if (estrutura == Estrutura.SEQUENCIAL) {
+            for (int i = 0; i < usados; i += 2)
+                dsuSequencial.unionSet(arestas[i], arestas[i + 1]);
+        } else {
+            IntStream.range(0, usados / 2).parallel()
+                    .forEach(i -> dsuConcorrente.unionSet(arestas[2 * i], arestas[2 * i + 1]));
+        }
+        usados = 0;
+    }
+
+    /**
+     * Numera os componentes na ordem do menor vértice de cada um.
+     *
+     * @return o número de componentes.
+     */
+    private int rotular(int[] rotulos) {
+        int[] rotuloDaRaiz = new int[numVertices];
+        int numComponentes = 0;
+        for (int v = 0; v < numVertices; v++) {
+            int raiz = estrutura == Estrutura.SEQUENCIAL ? dsuSequencial.findSet(v) : dsuConcorrente.findSet(v);
+            if (rotuloDaRaiz[raiz] == 0)
+                rotuloDaRaiz[raiz] = ++numComponentes;
+            rotulos[v] = rotuloDaRaiz[raiz] - 1;
+        }
+        return numComponentes;
+    }
+
+    private void gravar(int[] rotulos, Path saida) throws IOException {
+        try (FileChannel canal = FileChannel.open(saida, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+            for (int v = 0; v < numVertices; v++) {
+                if (buffer.remaining() < 24) // espaço para a maior linha: dois int, espaço e quebra
+                    escreverTudo(canal, buffer);
+                if (formato == Formato.BINARIO) {
+                    buffer.putInt(rotulos[v]);
+                } else {
+                    escreverDecimal(buffer, v);
+                    buffer.put((byte) ' ');
+                    escreverDecimal(buffer, rotulos[v]);
+                    buffer.put((byte) '\n');
+                }
+            }
+            escreverTudo(canal, buffer);
+        }
+    }
+
+    private static void escreverTudo(FileChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            canal.write(buffer);
+        buffer.clear();
+    }
+
+    private static void escreverDecimal(ByteBuffer buffer, int valor) {
+        if (valor == 0) {
+            buffer.put((byte) '0');
+            return;
+        }
+        int inicio = buffer.position();
+        while (valor > 0) {
+            buffer.put((byte) ('0' + valor % 10));
+            valor /= 10;
+        }
+        for (int i = inicio, j = buffer.position() - 1; i < j; i++, j--) { // inverte os dígitos
+            byte aux = buffer.get(i);
+            buffer.put(i, buffer.get(j));
+            buffer.put(j, aux);
+        }
+    }
+}
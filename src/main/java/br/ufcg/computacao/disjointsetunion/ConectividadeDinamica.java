@@ -0,0 +1,203 @@
+package br.ufcg.computacao.disjointsetunion;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Resolução <strong>offline</strong> de consultas de conectividade em um grafo não direcionado
+ * que sofre inserções e remoções de arestas ao longo do tempo.
+ * </p>
+ *
+ * <p>
+ * A entrada é uma linha do tempo de eventos {@code (tipo, u, v)}, onde o tipo é
+ * {@link #ADICIONAR}, {@link #REMOVER} ou {@link #CONSULTAR}. Cada aresta fica ativa em um
+ * intervalo de tempo {@code [adição, remoção)}; os intervalos são distribuídos em uma
+ * <strong>árvore de segmentos sobre o tempo</strong>, de modo que cada um é guardado em
+ * $O(\log m)$ nós. Uma busca em profundidade na árvore aplica as arestas de cada nó em um
+ * {@link DSURollback} ao descer e as desfaz ao subir; ao chegar na folha de uma consulta, o
+ * DSU contém exatamente as arestas ativas naquele instante.
+ * </p>
+ *
+ * <p>
+ * Cada aresta é unida $O(\log m)$ vezes e cada busca no DSU custa $O(\log n)$, totalizando
+ * $O(m \log m \log n)$ para {@code m} eventos, em vez de reconstruir os componentes a cada
+ * remoção. Subárvores sem consultas não são visitadas.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ */
+public class ConectividadeDinamica {
+
+    /** Insere a aresta {@code (u, v)}. Arestas repetidas são permitidas. */
+    public static final int ADICIONAR = 0;
+    /** Remove uma cópia da aresta {@code (u, v)}, que deve estar presente. */
+    public static final int REMOVER = 1;
+    /** Pergunta se {@code u} e {@code v} estão conectados naquele instante. */
+    public static final int CONSULTAR = 2;
+
+    private final int n;
+
+    // Intervalos [inicio, fim) de atividade; o início é o índice do evento de adição.
+    private int[] intervaloInicio;
+    private int[] intervaloFim;
+    private int numIntervalos;
+
+    // Arestas de cada nó da árvore de segmentos, em formato CSR, como índices de eventos de adição.
+    private int[] inicioNo;
+    private int[] arestas;
+
+    // Número de consultas nos tempos [0, t), para podar subárvores sem consultas.
+    private int[] consultasAte;
+
+    private int[] tipos;
+    private int[] u;
+    private int[] v;
+    private boolean[] respostas;
+    private int proximaResposta;
+    private DSURollback dsu;
+
+    /**
+     * @param n número de vértices do grafo.
+     */
+    public ConectividadeDinamica(int n) {
+        this.n = n;
+    }
+
+    /**
+     * Processa a linha do tempo de eventos.
+     *
+     * @param tipos tipo de cada evento.
+     * @param u primeira extremidade de cada evento.
+     * @param v segunda extremidade de cada evento.
+     * @return a resposta de cada {@link #CONSULTAR}, na ordem em que aparecem.
+     * @throws IllegalArgumentException se os vetores tiverem tamanhos diferentes, um tipo for
+     *         desconhecido ou uma aresta for removida sem estar presente.
+     */
+    public boolean[] resolver(int[] tipos, int[] u, int[] v) {
+        if (tipos.length != u.length || tipos.length != v.length)
+            throw new IllegalArgumentException("Os vetores tipos, u e v devem ter o mesmo tamanho.");
+        int m = tipos.length;
+        this.tipos = tipos;
+        this.u = u;
+        this.v = v;
+
+        this.consultasAte = new int[m + 1];
+        for (int t = 0; t < m; t++)
+            this.consultasAte[t + 1] = this.consultasAte[t] + (tipos[t] == CONSULTAR ? 1 : 0);
+        this.respostas = new boolean[this.consultasAte[m]];
+        this.proximaResposta = 0;
+        calcularIntervalos();
+        if (this.respostas.length == 0)
+            return this.respostas;
+
+        construirArvore(m);
+
+        this.dsu = new DSURollback(n);
+        percorrer(1, 0, m);
+        return this.respostas;
+    }
+
+    /**
+     * Associa cada adição à remoção correspondente, preenchendo os vetores de intervalos
+     * {@code [inicio, fim)} de atividade de cada aresta.
+     */
+    private void calcularIntervalos() {
+        int m = tipos.length;
+        Map<Long, ArrayDeque<Integer>> abertas = new HashMap<>();
+        this.intervaloInicio = new int[m];
+        this.intervaloFim = new int[m];
+        this.numIntervalos = 0;
+
+        for (int t = 0; t < m; t++) {
+            if (tipos[t] == CONSULTAR)
+                continue;
+            if (tipos[t] != ADICIONAR && tipos[t] != REMOVER)
+                throw new IllegalArgumentException("Tipo de evento desconhecido: " + tipos[t]);
+            long chave = chave(u[t], v[t]);
+            if (tipos[t] == ADICIONAR) {
+                abertas.computeIfAbsent(chave, c -> new ArrayDeque<>()).push(t);
+            } else {
+                ArrayDeque<Integer> pilha = abertas.get(chave);
+                if (pilha == null || pilha.isEmpty())
+                    throw new IllegalArgumentException("Aresta removida sem estar presente: " + u[t] + " " + v[t]);
+                registrarIntervalo(pilha.pop(), t);
+            }
+        }
+        // adições nunca removidas ficam ativas até o fim
+        for (ArrayDeque<Integer> pilha : abertas.values())
+            for (int s : pilha)
+                registrarIntervalo(s, m);
+    }
+
+    private void registrarIntervalo(int inicio, int fim) {
+        this.intervaloInicio[numIntervalos] = inicio;
+        this.intervaloFim[numIntervalos] = fim;
+        this.numIntervalos++;
+    }
+
+    /**
+     * Distribui os intervalos nos nós da árvore de segmentos, em duas passadas: contagem e
+     * preenchimento.
+     */
+    private void construirArvore(int m) {
+        int numNos = 4 * m;
+        int[] contagem = new int[numNos + 1];
+        for (int i = 0; i < numIntervalos; i++)
+            distribuir(1, 0, m, intervaloInicio[i], intervaloFim[i], contagem, -1);
+
+        this.inicioNo = new int[numNos + 1];
+        for (int no = 0; no < numNos; no++)
+            this.inicioNo[no + 1] = this.inicioNo[no] + contagem[no];
+        int[] posicao = Arrays.copyOf(this.inicioNo, numNos);
+        this.arestas = new int[this.inicioNo[numNos]];
+        for (int i = 0; i < numIntervalos; i++)
+            distribuir(1, 0, m, intervaloInicio[i], intervaloFim[i], posicao, intervaloInicio[i]);
+    }
+
+    /**
+     * Percorre os nós cujo intervalo {@code [l, r)} está contido em {@code [a, b)}. Na passada de
+     * contagem ({@code evento < 0}) incrementa {@code acumulador}; na de preenchimento grava o
+     * evento de adição na próxima posição livre do nó.
+     */
+    private void distribuir(int no, int l, int r, int a, int b, int[] acumulador, int evento) {
+        if (b <= l || r <= a || consultasAte[r] == consultasAte[l])
+            return;
+        if (a <= l && r <= b) {
+            if (evento < 0)
+                acumulador[no]++;
+            else
+                arestas[acumulador[no]++] = evento;
+            return;
+        }
+        int meio = (l + r) >>> 1;
+        distribuir(2 * no, l, meio, a, b, acumulador, evento);
+        distribuir(2 * no + 1, meio, r, a, b, acumulador, evento);
+    }
+
+    private void percorrer(int no, int l, int r) {
+        if (consultasAte[r] == consultasAte[l])
+            return;
+        int marcador = dsu.snapshot();
+        for (int p = inicioNo[no]; p < inicioNo[no + 1]; p++)
+            dsu.unionSet(u[arestas[p]], v[arestas[p]]);
+
+        if (r - l == 1) {
+            respostas[proximaResposta++] = dsu.findSet(u[l]) == dsu.findSet(v[l]);
+        } else {
+            int meio = (l + r) >>> 1;
+            percorrer(2 * no, l, meio);
+            percorrer(2 * no + 1, meio, r);
+        }
+        dsu.rollback(marcador);
+    }
+
+    /**
+     * Chave da aresta não direcionada, independente da ordem das extremidades.
+     */
+    private static long chave(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | (Math.max(a, b) & 0xffffffffL);
+    }
+}
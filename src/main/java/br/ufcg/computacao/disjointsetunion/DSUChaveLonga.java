@@ -0,0 +1,248 @@
+package br.ufcg.computacao.disjointsetunion;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Implementação <strong>expansível</strong> da estrutura <strong>Disjoint Set Union (DSU)</strong>
+ * para elementos identificados por chaves {@code long} arbitrárias, sem conhecer o tamanho do
+ * universo de antemão.
+ * </p>
+ *
+ * <p>
+ * Cada chave nova recebe uma posição densa ({@code 0, 1, 2, ...}) por meio de uma tabela hash
+ * de endereçamento aberto com sondagem linear, implementada apenas com vetores primitivos
+ * (sem <i>boxing</i>). A tabela guarda somente a posição densa; a chave correspondente é lida
+ * do vetor {@code chaves} na comparação. Os vetores crescem geometricamente conforme novas
+ * chaves chegam.
+ * </p>
+ *
+ * <p>
+ * Pais e tamanhos ficam em um único {@code int[]}, como no {@link DSUCompacto}: valores
+ * negativos indicam uma raiz e o tamanho do seu conjunto. A busca é iterativa, com
+ * <i>Path Halving</i>, e a união é por tamanho. Cada elemento ocupa um {@code int} de pai,
+ * um {@code long} de chave e cerca de dois {@code int} da tabela hash.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ */
+public class DSUChaveLonga {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    // Maior tabela hash possível: a maior potência de 2 que cabe em um vetor.
+    private static final int MAX_TABELA = 1 << 30;
+
+    /** Número máximo de elementos, limitado pela tabela hash com fator de carga 1/2. */
+    public static final int MAX_ELEMENTOS = MAX_TABELA >> 1;
+
+    // Pai de cada posição densa, ou -tamanho quando a posição é raiz.
+    private int[] parent;
+
+    // Chave original de cada posição densa.
+    private long[] chaves;
+
+    // Tabela hash: posição densa + 1, ou 0 quando vazia. O tamanho é sempre potência de 2.
+    private int[] tabela;
+
+    private int numElementos;
+    private int numConjuntos;
+
+    /**
+     * Construtor com capacidade inicial padrão.
+     */
+    public DSUChaveLonga() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * Construtor com capacidade inicial informada, útil quando o volume aproximado é conhecido.
+     *
+     * @param capacidadeInicial número de elementos esperado.
+     * @throws IllegalArgumentException se a capacidade for negativa ou maior que {@link #MAX_ELEMENTOS}.
+     */
+    public DSUChaveLonga(int capacidadeInicial) {
+        if (capacidadeInicial < 0 || capacidadeInicial > MAX_ELEMENTOS)
+            throw new IllegalArgumentException("Capacidade inicial inválida: " + capacidadeInicial);
+        int capacidade = Math.max(CAPACIDADE_INICIAL, capacidadeInicial);
+        this.parent = new int[capacidade];
+        this.chaves = new long[capacidade];
+        // potência de 2 com pelo menos o dobro da capacidade, calculada em long para não transbordar
+        long tamanhoTabela = Long.highestOneBit(capacidade - 1L) << 2;
+        this.tabela = new int[(int) Math.min(tamanhoTabela, MAX_TABELA)];
+    }
+
+    /**
+     * Inicializa um conjunto contendo apenas o elemento {@code chave}, se ele ainda não existir.
+     *
+     * @param chave identificador do elemento.
+     * @return {@code true} se o elemento foi criado, {@code false} se já existia.
+     */
+    public boolean makeSet(long chave) {
+        int antes = numElementos;
+        posicao(chave, true);
+        return numElementos > antes;
+    }
+
+    /**
+     * Une os conjuntos que contêm os elementos {@code a} e {@code b}, criando-os se necessário.
+     *
+     * @param a elemento pertencente ao primeiro conjunto.
+     * @param b elemento pertencente ao segundo conjunto.
+     * @return {@code true} se os conjuntos eram distintos e foram unidos.
+     */
+    public boolean unionSet(long a, long b) {
+        int ra = raiz(posicao(a, true));
+        int rb = raiz(posicao(b, true));
+        if (ra == rb)
+            return false;
+
+        if (parent[ra] > parent[rb]) { // ra tem menos elementos
+            int aux = ra;
+            ra = rb;
+            rb = aux;
+        }
+        parent[ra] += parent[rb];
+        parent[rb] = ra;
+        numConjuntos--;
+        return true;
+    }
+
+    /**
+     * Encontra o representante (líder) do conjunto ao qual o elemento {@code chave} pertence.
+     *
+     * @param chave elemento cujo representante será encontrado.
+     * @return a chave do representante do conjunto.
+     * @throws IllegalArgumentException se o elemento nunca foi criado.
+     */
+    public long findSet(long chave) {
+        int p = posicao(chave, false);
+        if (p < 0)
+            throw new IllegalArgumentException("Elemento desconhecido: " + chave);
+        return chaves[raiz(p)];
+    }
+
+    /**
+     * Verifica se o elemento já foi criado.
+     *
+     * @param chave identificador do elemento.
+     * @return {@code true} se o elemento existe.
+     */
+    public boolean contains(long chave) {
+        return posicao(chave, false) >= 0;
+    }
+
+    /**
+     * Retorna o tamanho do conjunto que contém {@code chave}.
+     *
+     * @param chave elemento do conjunto.
+     * @return o número de elementos do conjunto.
+     * @throws IllegalArgumentException se o elemento nunca foi criado.
+     */
+    public int sizeOf(long chave) {
+        int p = posicao(chave, false);
+        if (p < 0)
+            throw new IllegalArgumentException("Elemento desconhecido: " + chave);
+        return -parent[raiz(p)];
+    }
+
+    /**
+     * Retorna o número de elementos criados.
+     *
+     * @return o número de elementos.
+     */
+    public int getNumElementos() {
+        return numElementos;
+    }
+
+    /**
+     * Retorna o número de conjuntos disjuntos.
+     *
+     * @return o número de conjuntos.
+     */
+    public int getNumConjuntos() {
+        return numConjuntos;
+    }
+
+    /**
+     * Busca iterativa da raiz com <i>Path Halving</i>.
+     */
+    private int raiz(int v) {
+        while (parent[v] >= 0) {
+            int pai = parent[v];
+            if (parent[pai] < 0)
+                return pai;
+            parent[v] = parent[pai];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    /**
+     * Localiza a posição densa de {@code chave} na tabela hash.
+     *
+     * @param chave a chave procurada.
+     * @param criar {@code true} para criar o elemento caso não exista.
+     * @return a posição densa, ou {@code -1} se não existir e {@code criar} for falso.
+     */
+    private int posicao(long chave, boolean criar) {
+        int mascara = tabela.length - 1;
+        int i = espalhar(chave) & mascara;
+        while (true) {
+            int entrada = tabela[i];
+            if (entrada == 0)
+                break;
+            if (chaves[entrada - 1] == chave)
+                return entrada - 1;
+            i = (i + 1) & mascara;
+        }
+        if (!criar)
+            return -1;
+        if (numElementos == MAX_ELEMENTOS)
+            throw new IllegalStateException("Número máximo de elementos atingido: " + MAX_ELEMENTOS);
+
+        if (numElementos == parent.length) {
+            // crescimento de 1,5x, em long para não transbordar perto do limite
+            int capacidade = (int) Math.min(parent.length + (long) (parent.length >> 1), MAX_ELEMENTOS);
+            parent = Arrays.copyOf(parent, capacidade);
+            chaves = Arrays.copyOf(chaves, capacidade);
+        }
+        int nova = numElementos++;
+        parent[nova] = -1;
+        chaves[nova] = chave;
+        numConjuntos++;
+        tabela[i] = nova + 1;
+
+        if (numElementos * 2 > tabela.length) // fator de carga máximo de 1/2
+            redimensionarTabela();
+        return nova;
+    }
+
+    /**
+     * Dobra a tabela hash e reinsere todas as posições densas.
+     */
+    private void redimensionarTabela() {
+        int[] nova = new int[tabela.length << 1];
+        int mascara = nova.length - 1;
+        for (int p = 0; p < numElementos; p++) {
+            int i = espalhar(chaves[p]) & mascara;
+            while (nova[i] != 0)
+                i = (i + 1) & mascara;
+            nova[i] = p + 1;
+        }
+        this.tabela = nova;
+    }
+
+    /**
+     * Função de espalhamento de 64 bits (finalizador do MurmurHash3).
+     */
+    private static int espalhar(long chave) {
+        long h = chave;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
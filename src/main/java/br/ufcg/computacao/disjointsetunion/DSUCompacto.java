@@ -0,0 +1,171 @@
+package br.ufcg.computacao.disjointsetunion;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Implementação <strong>iterativa e compacta</strong> da estrutura
+ * <strong>Disjoint Set Union (DSU)</strong>, que guarda pais e tamanhos (ou ranks)
+ * em um único vetor {@code int[]}.
+ * </p>
+ *
+ * <p>
+ * Cada posição {@code parent[v]} tem dois significados:
+ * <ul>
+ *   <li>{@code parent[v] >= 0}: {@code v} não é raiz e {@code parent[v]} é o seu pai;</li>
+ *   <li>{@code parent[v] < 0}: {@code v} é raiz e {@code -parent[v]} é o tamanho do conjunto
+ *       (união por tamanho) ou o rank mais um (união por rank).</li>
+ * </ul>
+ * Isso usa metade da memória de {@link DSULogn}, que mantém os vetores {@code parent} e
+ * {@code size} separados.
+ * </p>
+ *
+ * <p>
+ * O {@code findSet} é um laço, sem recursão, e portanto não gera {@link StackOverflowError}
+ * em cadeias longas. A heurística de encurtamento de caminho e a de união são escolhidas
+ * na construção:
+ * <ul>
+ *   <li><i>Path Halving</i>: cada nó visitado em posição par passa a apontar para o avô,
+ *       e a busca salta dois níveis por vez;</li>
+ *   <li><i>Path Splitting</i>: todo nó visitado passa a apontar para o avô;</li>
+ *   <li><i>Union by Size</i> ou <i>Union by Rank</i>: a raiz do conjunto menor (ou de menor rank)
+ *       é ligada à do maior.</li>
+ * </ul>
+ * Qualquer combinação mantém a complexidade amortizada quase constante, $O(\alpha(n))$.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ *     Estrutura baseada em Tarjan &amp; van Leeuwen (1984), Worst-case Analysis of Set Union Algorithms
+ */
+public class DSUCompacto {
+
+    /**
+     * Heurística de encurtamento de caminho aplicada no {@code findSet}.
+     */
+    public enum Compressao {
+        /** Cada nó visitado passa a apontar para o avô, saltando dois níveis por vez. */
+        HALVING,
+        /** Todo nó visitado passa a apontar para o avô. */
+        SPLITTING
+    }
+
+    /**
+     * Critério para escolher qual raiz se torna filha na união.
+     */
+    public enum Uniao {
+        /** A raiz do conjunto com menos elementos se torna filha. */
+        TAMANHO,
+        /** A raiz de menor rank (limite superior da altura) se torna filha. */
+        RANK
+    }
+
+    private final int[] parent;
+    private final Compressao compressao;
+    private final Uniao uniao;
+
+    /**
+     * Construtor com <i>Path Halving</i> e <i>Union by Size</i>.
+     *
+     * @param n número de elementos (tamanho do universo).
+     */
+    public DSUCompacto(int n){
+        this(n, Compressao.HALVING, Uniao.TAMANHO);
+    }
+
+    /**
+     * Construtor que permite escolher as heurísticas.
+     *
+     * @param n número de elementos (tamanho do universo).
+     * @param compressao heurística de encurtamento de caminho.
+     * @param uniao critério de união.
+     */
+    public DSUCompacto(int n, Compressao compressao, Uniao uniao){
+        this.parent = new int[n];
+        // todos começam como conjuntos unitários: com 0, o elemento pareceria filho de 0
+        Arrays.fill(this.parent, -1);
+        this.compressao = compressao;
+        this.uniao = uniao;
+    }
+
+    /**
+     * Inicializa (ou reinicia) um conjunto contendo apenas o elemento {@code v}.
+     * Todos os elementos já começam como conjuntos unitários na construção.
+     * <p>
+     * O valor {@code -1} indica uma raiz de tamanho 1 (ou de rank 0).
+     * </p>
+     *
+     * @param v elemento que será inicializado como um conjunto próprio.
+     */
+    public void makeSet(int v){
+        this.parent[v] = -1;
+    }
+
+    /**
+     * Une os conjuntos que contêm os elementos {@code a} e {@code b}.
+     *
+     * @param a elemento pertencente ao primeiro conjunto.
+     * @param b elemento pertencente ao segundo conjunto.
+     * @return {@code true} se os conjuntos eram distintos e foram unidos.
+     */
+    public boolean unionSet(int a, int b){
+        a = findSet(a);
+        b = findSet(b);
+        if(a == b)
+            return false;
+
+        // as raízes guardam valores negativos: o mais negativo é o maior conjunto (ou rank)
+        if(this.parent[a] > this.parent[b]){
+            int aux = a;
+            a = b;
+            b = aux;
+        }
+        if(this.uniao == Uniao.TAMANHO)
+            this.parent[a] += this.parent[b];
+        else if(this.parent[a] == this.parent[b])
+            this.parent[a]--; // ranks iguais: a altura cresce em um
+        this.parent[b] = a;
+        return true;
+    }
+
+    /**
+     * Encontra o representante (líder) do conjunto ao qual o elemento {@code v} pertence.
+     *
+     * @param v elemento cujo representante será encontrado.
+     * @return o representante (líder) do conjunto de {@code v}.
+     */
+    public int findSet(int v){
+        int[] p = this.parent;
+        if(this.compressao == Compressao.HALVING){
+            while(p[v] >= 0){
+                int pai = p[v];
+                if(p[pai] < 0)
+                    return pai;
+                p[v] = p[pai];
+                v = p[v];
+            }
+        } else {
+            while(p[v] >= 0){
+                int pai = p[v];
+                if(p[pai] < 0)
+                    return pai;
+                p[v] = p[pai];
+                v = pai;
+            }
+        }
+        return v;
+    }
+
+    /**
+     * Retorna o tamanho do conjunto que contém {@code v}.
+     * Disponível apenas com <i>Union by Size</i>.
+     *
+     * @param v elemento do conjunto.
+     * @return o número de elementos do conjunto de {@code v}.
+     * @throws IllegalStateException se a união for por rank.
+     */
+    public int sizeOf(int v){
+        if(this.uniao != Uniao.TAMANHO)
+            throw new IllegalStateException("Tamanhos só são mantidos com união por tamanho.");
+        return -this.parent[findSet(v)];
+    }
+}
@@ -0,0 +1,143 @@
+package br.ufcg.computacao.disjointsetunion;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <p>
+ * Implementação <strong>concorrente e sem bloqueios</strong> da estrutura
+ * <strong>Disjoint Set Union (DSU)</strong>, para que várias threads possam unir
+ * conjuntos e consultar representantes ao mesmo tempo sem um lock global.
+ * </p>
+ *
+ * <p>
+ * O vetor {@code parent} é um {@link AtomicIntegerArray} e toda alteração é feita por
+ * <i>compare-and-set</i> (CAS):
+ * <ul>
+ *   <li><b>União por índice</b> (Anderson–Woll / Jayanti–Tarjan): cada elemento tem uma
+ *       prioridade fixa, obtida embaralhando o seu índice, e a raiz de menor prioridade é
+ *       ligada à de maior prioridade com um único CAS. Se outra thread alterar uma das raízes
+ *       antes, a operação recomeça.</li>
+ *   <li><b>Divisão de caminho</b> (<i>path splitting</i>) no {@code findSet}: cada nó visitado
+ *       passa a apontar para o avô. A tentativa de CAS nunca é repetida, então uma busca não
+ *       espera por outras threads.</li>
+ * </ul>
+ * Como a prioridade de um nó é sempre menor que a do seu pai, não se formam ciclos, e
+ * o custo amortizado por operação é quase constante.
+ * </p>
+ *
+ * <p>
+ * O método {@link #sameSet(int, int)} é linearizável mesmo com uniões simultâneas: se os
+ * representantes forem diferentes e o primeiro ainda for raiz, os elementos estavam em
+ * conjuntos distintos naquele instante; caso contrário a consulta é repetida.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ *     Estrutura baseada em Anderson &amp; Woll (1991) e Jayanti &amp; Tarjan (2016)
+ */
+public class DSUConcorrente {
+
+    private final AtomicIntegerArray parent;
+
+    /**
+     * Construtor que inicializa todos os elementos como conjuntos unitários.
+     *
+     * @param n número de elementos (tamanho do universo).
+     */
+    public DSUConcorrente(int n) {
+        this.parent = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++)
+            this.parent.set(v, v);
+    }
+
+    /**
+     * Encontra o representante (líder) do conjunto ao qual o elemento {@code v} pertence,
+     * aplicando divisão de caminho de forma iterativa.
+     *
+     * @param v elemento cujo representante será encontrado.
+     * @return o representante (líder) do conjunto de {@code v} no momento da consulta.
+     */
+    public int findSet(int v) {
+        while (true) {
+            int p = this.parent.get(v);
+            if (p == v)
+                return v;
+            int avo = this.parent.get(p);
+            if (p != avo)
+                this.parent.compareAndSet(v, p, avo); // falha apenas se outra thread já encurtou
+            v = p;
+        }
+    }
+
+    /**
+     * Une os conjuntos que contêm os elementos {@code a} e {@code b}.
+     *
+     * @param a elemento pertencente ao primeiro conjunto.
+     * @param b elemento pertencente ao segundo conjunto.
+     * @return {@code true} se esta chamada uniu dois conjuntos distintos,
+     *         {@code false} se os elementos já estavam no mesmo conjunto.
+     */
+    public boolean unionSet(int a, int b) {
+        while (true) {
+            a = findSet(a);
+            b = findSet(b);
+            if (a == b)
+                return false;
+            if (menorPrioridade(b, a)) {
+                int aux = a;
+                a = b;
+                b = aux;
+            }
+            // a tem a menor prioridade e passa a apontar para b, desde que ainda seja raiz
+            if (this.parent.compareAndSet(a, a, b))
+                return true;
+        }
+    }
+
+    /**
+     * Verifica se {@code a} e {@code b} pertencem ao mesmo conjunto.
+     *
+     * @param a primeiro elemento.
+     * @param b segundo elemento.
+     * @return {@code true} se estão no mesmo conjunto.
+     */
+    public boolean sameSet(int a, int b) {
+        while (true) {
+            a = findSet(a);
+            b = findSet(b);
+            if (a == b)
+                return true;
+            if (this.parent.get(a) == a)
+                return false; // a continuava raiz depois de b ser encontrado
+        }
+    }
+
+    /**
+     * Retorna o número de elementos.
+     *
+     * @return o tamanho do universo.
+     */
+    public int size() {
+        return this.parent.length();
+    }
+
+    /**
+     * Compara as prioridades fixas de dois elementos, desempatando pelo índice.
+     */
+    private static boolean menorPrioridade(int a, int b) {
+        int pa = prioridade(a);
+        int pb = prioridade(b);
+        return pa < pb || (pa == pb && a < b);
+    }
+
+    /**
+     * Embaralha o índice para obter uma ordem pseudoaleatória, que evita cadeias longas
+     * quando as uniões chegam em ordem crescente de índice.
+     */
+    private static int prioridade(int v) {
+        int h = v * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h;
+    }
+}
@@ -14,6 +14,14 @@ package br.ufcg.computacao.disjointsetunion;
  * e <i>Path Compression</i> (compressão de caminho), garantindo tempo quase constante 
  * por operação, com complexidade amortizada de $O(\log n)$.
  * </p>
+ *
+ * <p>
+ * A estrutura também mantém o número de componentes e, para cada conjunto, uma lista
+ * circular de membros no vetor {@code next}. Unir dois conjuntos apenas troca
+ * {@code next[a]} e {@code next[b]}, concatenando as duas listas em $O(1)$; assim a contagem
+ * e o tamanho de um componente custam $O(1)$ e a listagem dos membros custa
+ * $O(\text{tamanho do componente})$.
+ * </p>
  * 
  * <p>
  * Aplicações comuns incluem:
@@ -31,15 +39,18 @@ package br.ufcg.computacao.disjointsetunion;
 public class DSULogn {
     private int[] parent;
     private int[] size;
+    private int[] next;
+    private int numComponentes;
     
     /**
-     * Construtor que inicializa as estruturas {@code parent} e {@code size}.
+     * Construtor que inicializa as estruturas {@code parent}, {@code size} e {@code next}.
      * 
      * @param n número de elementos (tamanho do universo).
      */
     public DSULogn(int n){
         this.parent = new int[n];
         this.size = new int[n];
+        this.next = new int[n];
     }
 
     /**
@@ -47,6 +58,7 @@ public class DSULogn {
      * 
      * <p>
      * Cada elemento é seu próprio pai inicialmente, e o tamanho do conjunto é 1.
+     * Deve ser chamado uma única vez por elemento.
      * </p>
      * 
      * @param v elemento que será inicializado como um conjunto próprio.
@@ -54,6 +66,8 @@ public class DSULogn {
     public void makeSet(int v){
         this.parent[v] = v;
         this.size[v] = 1;
+        this.next[v] = v;
+        this.numComponentes++;
     }
 
     /**
@@ -77,6 +91,12 @@ public class DSULogn {
             }
             this.parent[b] = a;
             this.size[a] += this.size[b];
+
+            // concatena as listas circulares de membros
+            int aux = this.next[a];
+            this.next[a] = this.next[b];
+            this.next[b] = aux;
+            this.numComponentes--;
         }
     }
 
@@ -97,4 +117,40 @@ public class DSULogn {
         return this.parent[v] = findSet(this.parent[v]);
     }
 
+    /**
+     * Retorna o número de conjuntos disjuntos entre os elementos já inicializados.
+     * 
+     * @return o número de componentes.
+     */
+    public int getNumComponentes(){
+        return this.numComponentes;
+    }
+
+    /**
+     * Retorna o tamanho do conjunto que contém {@code v}.
+     * 
+     * @param v elemento do conjunto.
+     * @return o número de elementos do conjunto de {@code v}.
+     */
+    public int sizeOf(int v){
+        return this.size[findSet(v)];
+    }
+
+    /**
+     * Lista os membros do conjunto que contém {@code v}, percorrendo a lista circular
+     * a partir de {@code v}.
+     * 
+     * @param v elemento do conjunto.
+     * @return os elementos do conjunto de {@code v}, começando por {@code v}.
+     */
+    public int[] membros(int v){
+        int[] membros = new int[sizeOf(v)];
+        int atual = v;
+        for(int i = 0; i < membros.length; i++){
+            membros[i] = atual;
+            atual = this.next[atual];
+        }
+        return membros;
+    }
+
 }
@@ -0,0 +1,266 @@
+package br.ufcg.computacao.disjointsetunion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * Implementação <strong>fora do heap</strong> da estrutura <strong>Disjoint Set Union (DSU)</strong>,
+ * com índices {@code long}, para universos de bilhões de elementos que não cabem em um
+ * {@code int[]} nem no heap da JVM.
+ * </p>
+ *
+ * <p>
+ * Pais e ranks ficam em um arquivo mapeado em memória ({@link FileChannel#map}): o vetor de pais
+ * ocupa 8 bytes por elemento e o de ranks 1 byte. Como um {@link MappedByteBuffer} é limitado a
+ * 2 GB, cada vetor é mapeado em segmentos de {@code 2^bitsPorSegmento} elementos. O sistema
+ * operacional decide quais páginas ficam na memória, de modo que o heap usado é apenas o dos
+ * objetos de controle e o coletor de lixo nunca percorre os vetores.
+ * </p>
+ *
+ * <p>
+ * O pai é gravado como {@code pai + 1}, e o valor {@code 0} indica uma raiz. Assim, um arquivo
+ * recém-criado (esparso e preenchido com zeros) já representa {@code n} conjuntos unitários, sem
+ * uma passada de inicialização sobre bilhões de posições.
+ * </p>
+ *
+ * <p>
+ * A busca usa compressão de caminho iterativa em duas passadas (encontra a raiz e depois faz cada
+ * nó do caminho apontar para ela), e a união é por rank, o que mantém o custo amortizado
+ * $O(\alpha(n))$. {@link #unionAll(LongBuffer)} processa um lote de arestas de uma só vez.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ */
+public class DSUMapeado implements Closeable {
+
+    // Elementos por segmento mapeado: 2^27 pais ocupam 1 GB.
+    private static final int BITS_POR_SEGMENTO = 27;
+
+    private final FileChannel canal;
+    private final long n;
+    private final int bitsPorSegmento;
+    private final long mascara;
+
+    private final MappedByteBuffer[] segmentosPais;
+    private final MappedByteBuffer[] segmentosRanks;
+
+    private long numComponentes;
+
+    /**
+     * Construtor que guarda a estrutura em um arquivo temporário, apagado ao fechar.
+     *
+     * @param n número de elementos (tamanho do universo).
+     * @throws IOException se o arquivo não puder ser criado ou mapeado.
+     */
+    public DSUMapeado(long n) throws IOException {
+        this(n, null, BITS_POR_SEGMENTO);
+    }
+
+    /**
+     * Construtor que guarda a estrutura no arquivo informado, que é sobrescrito.
+     *
+     * @param n número de elementos (tamanho do universo).
+     * @param arquivo o caminho do arquivo.
+     * @throws IOException se o arquivo não puder ser criado ou mapeado.
+     */
+    public DSUMapeado(long n, Path arquivo) throws IOException {
+        this(n, arquivo, BITS_POR_SEGMENTO);
+    }
+
+    /**
+     * Construtor que permite escolher o tamanho dos segmentos, útil em testes.
+     *
+     * @param n número de elementos (tamanho do universo).
+     * @param arquivo o caminho do arquivo, ou {@code null} para um arquivo temporário.
+     * @param bitsPorSegmento logaritmo do número de elementos por segmento mapeado.
+     * @throws IOException se o arquivo não puder ser criado ou mapeado.
+     */
+    DSUMapeado(long n, Path arquivo, int bitsPorSegmento) throws IOException {
+        if (n < 0)
+            throw new IllegalArgumentException("Número de elementos inválido: " + n);
+        if (bitsPorSegmento < 1 || bitsPorSegmento > BITS_POR_SEGMENTO)
+            throw new IllegalArgumentException("Tamanho de segmento inválido: " + bitsPorSegmento);
+        this.n = n;
+        this.bitsPorSegmento = bitsPorSegmento;
+        this.mascara = (1L << bitsPorSegmento) - 1;
+        this.numComponentes = n;
+
+        if (arquivo == null)
+            this.canal = FileChannel.open(Files.createTempFile("dsu", ".bin"), StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        else
+            this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        try {
+            long tamanho = 9 * n;
+            if (tamanho > 0)
+                canal.write(ByteBuffer.allocate(1), tamanho - 1); // arquivo esparso, preenchido com zeros
+            this.segmentosPais = mapear(0, 8);
+            this.segmentosRanks = mapear(8 * n, 1);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Mapeia um vetor em segmentos de {@code 2^bitsPorSegmento} elementos.
+     *
+     * @param inicio a posição do vetor no arquivo, em bytes.
+     * @param bytesPorElemento o tamanho de cada elemento.
+     * @return Os segmentos mapeados, em ordem.
+     */
+    private MappedByteBuffer[] mapear(long inicio, int bytesPorElemento) throws IOException {
+        long porSegmento = 1L << bitsPorSegmento;
+        int quantidade = (int) ((n + porSegmento - 1) >>> bitsPorSegmento);
+        MappedByteBuffer[] segmentos = new MappedByteBuffer[quantidade];
+        for (int s = 0; s < quantidade; s++) {
+            long elementos = Math.min(porSegmento, n - s * porSegmento);
+            segmentos[s] = canal.map(FileChannel.MapMode.READ_WRITE, inicio + s * porSegmento * bytesPorElemento,
+                    elementos * bytesPorElemento);
+        }
+        return segmentos;
+    }
+
+    /**
+     * Encontra o representante (líder) do conjunto ao qual o elemento {@code v} pertence,
+     * com compressão de caminho iterativa.
+     *
+     * @param v elemento cujo representante será encontrado.
+     * @return o representante (líder) do conjunto de {@code v}.
+     * @throws IndexOutOfBoundsException se {@code v} estiver fora do universo.
+     */
+    public long findSet(long v) {
+        validar(v);
+        long raiz = v;
+        long pai;
+        while ((pai = lerPai(raiz)) != -1)
+            raiz = pai;
+
+        while (v != raiz) {
+            long proximo = lerPai(v);
+            if (proximo == raiz)
+                break;
+            gravarPai(v, raiz);
+            v = proximo;
+        }
+        return raiz;
+    }
+
+    /**
+     * Une os conjuntos que contêm os elementos {@code a} e {@code b}, por rank.
+     *
+     * @param a elemento pertencente ao primeiro conjunto.
+     * @param b elemento pertencente ao segundo conjunto.
+     * @return {@code true} se os conjuntos eram distintos e foram unidos.
+     * @throws IndexOutOfBoundsException se algum elemento estiver fora do universo.
+     */
+    public boolean unionSet(long a, long b) {
+        a = findSet(a);
+        b = findSet(b);
+        if (a == b)
+            return false;
+
+        byte rankA = lerRank(a);
+        byte rankB = lerRank(b);
+        if (rankA < rankB) {
+            long aux = a;
+            a = b;
+            b = aux;
+        } else if (rankA == rankB) {
+            gravarRank(a, (byte) (rankA + 1));
+        }
+        gravarPai(b, a);
+        numComponentes--;
+        return true;
+    }
+
+    /**
+     * Une, em lote, as extremidades de cada aresta do buffer, lidas como pares consecutivos
+     * {@code (u, v)} entre a posição e o limite atuais. O buffer é consumido até o limite.
+     *
+     * @param arestas buffer com as extremidades das arestas.
+     * @return o número de uniões efetivas.
+     * @throws IllegalArgumentException se o número de valores restantes for ímpar.
+     */
+    public long unionAll(LongBuffer arestas) {
+        if ((arestas.remaining() & 1) != 0)
+            throw new IllegalArgumentException("O buffer deve conter pares de extremidades.");
+        long unioes = 0;
+        while (arestas.hasRemaining()) {
+            long u = arestas.get();
+            long v = arestas.get();
+            if (unionSet(u, v))
+                unioes++;
+        }
+        return unioes;
+    }
+
+    /**
+     * Retorna o número de conjuntos disjuntos.
+     *
+     * @return o número de componentes.
+     */
+    public long getNumComponentes() {
+        return numComponentes;
+    }
+
+    /**
+     * Retorna o número de elementos.
+     *
+     * @return o tamanho do universo.
+     */
+    public long size() {
+        return n;
+    }
+
+    /**
+     * Grava no disco as páginas alteradas dos segmentos mapeados.
+     */
+    public void sincronizar() {
+        for (MappedByteBuffer segmento : segmentosPais)
+            segmento.force();
+        for (MappedByteBuffer segmento : segmentosRanks)
+            segmento.force();
+    }
+
+    /**
+     * Fecha o canal do arquivo. Os segmentos mapeados são liberados pelo coletor de lixo.
+     *
+     * @throws IOException se o canal não puder ser fechado.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    private void validar(long v) {
+        if (v < 0 || v >= n)
+            throw new IndexOutOfBoundsException("Elemento fora do universo: " + v);
+    }
+
+    private long lerPai(long v) {
+        return segmentosPais[(int) (v >>> bitsPorSegmento)].getLong((int) (v & mascara) << 3) - 1;
+    }
+
+    private void gravarPai(long v, long pai) {
+        segmentosPais[(int) (v >>> bitsPorSegmento)].putLong((int) (v & mascara) << 3, pai + 1);
+    }
+
+    private byte lerRank(long v) {
+        return segmentosRanks[(int) (v >>> bitsPorSegmento)].get((int) (v & mascara));
+    }
+
+    private void gravarRank(long v, byte rank) {
+        segmentosRanks[(int) (v >>> bitsPorSegmento)].put((int) (v & mascara), rank);
+    }
+}
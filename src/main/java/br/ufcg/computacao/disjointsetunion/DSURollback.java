@@ -0,0 +1,136 @@
+package br.ufcg.computacao.disjointsetunion;
+
+/**
+ * <p>
+ * Implementação <strong>com desfazer</strong> (<i>rollback</i>) da estrutura
+ * <strong>Disjoint Set Union (DSU)</strong>, que permite voltar a um estado anterior
+ * desfazendo as uniões realizadas depois dele.
+ * </p>
+ *
+ * <p>
+ * Para que uma união possa ser desfeita em $O(1)$, a estrutura usa apenas <i>Union by Size</i>,
+ * <strong>sem</strong> compressão de caminho: a compressão alteraria muitos ponteiros em cada
+ * busca e tornaria o desfazer caro. Com a união por tamanho, a altura das árvores continua
+ * limitada por $O(\log n)$, e portanto o {@code findSet} custa $O(\log n)$ no pior caso.
+ * </p>
+ *
+ * <p>
+ * Cada união efetiva empilha, em um registro de operações, a raiz que passou a ser filha.
+ * {@link #snapshot()} devolve a altura atual do registro e {@link #rollback(int)} desempilha
+ * as uniões até voltar a essa altura, restaurando pais, tamanhos e o número de componentes.
+ * É a base da técnica de árvore de segmentos sobre o tempo usada em {@link ConectividadeDinamica}.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ */
+public class DSURollback {
+
+    private final int[] parent;
+    private final int[] size;
+
+    // Registro de operações: raízes que se tornaram filhas, na ordem das uniões.
+    private final int[] registro;
+    private int topo;
+
+    private int numComponentes;
+
+    /**
+     * Construtor que inicializa todos os elementos como conjuntos unitários.
+     *
+     * @param n número de elementos (tamanho do universo).
+     */
+    public DSURollback(int n) {
+        this.parent = new int[n];
+        this.size = new int[n];
+        this.registro = new int[Math.max(0, n - 1)]; // no máximo n - 1 uniões efetivas
+        for (int v = 0; v < n; v++) {
+            this.parent[v] = v;
+            this.size[v] = 1;
+        }
+        this.numComponentes = n;
+    }
+
+    /**
+     * Encontra o representante (líder) do conjunto ao qual o elemento {@code v} pertence,
+     * sem alterar a estrutura.
+     *
+     * @param v elemento cujo representante será encontrado.
+     * @return o representante (líder) do conjunto de {@code v}.
+     */
+    public int findSet(int v) {
+        while (this.parent[v] != v)
+            v = this.parent[v];
+        return v;
+    }
+
+    /**
+     * Une os conjuntos que contêm os elementos {@code a} e {@code b}, registrando a operação.
+     *
+     * @param a elemento pertencente ao primeiro conjunto.
+     * @param b elemento pertencente ao segundo conjunto.
+     * @return {@code true} se os conjuntos eram distintos e foram unidos.
+     */
+    public boolean unionSet(int a, int b) {
+        a = findSet(a);
+        b = findSet(b);
+        if (a == b)
+            return false;
+
+        if (this.size[a] < this.size[b]) {
+            int aux = a;
+            a = b;
+            b = aux;
+        }
+        this.parent[b] = a;
+        this.size[a] += this.size[b];
+        this.registro[this.topo++] = b;
+        this.numComponentes--;
+        return true;
+    }
+
+    /**
+     * Retorna um marcador do estado atual, para uso em {@link #rollback(int)}.
+     *
+     * @return o número de uniões efetivas registradas até agora.
+     */
+    public int snapshot() {
+        return this.topo;
+    }
+
+    /**
+     * Desfaz, da mais recente para a mais antiga, todas as uniões feitas depois do marcador.
+     *
+     * @param marcador valor devolvido por {@link #snapshot()}.
+     * @throws IllegalArgumentException se o marcador for posterior ao estado atual.
+     */
+    public void rollback(int marcador) {
+        if (marcador < 0 || marcador > this.topo)
+            throw new IllegalArgumentException("Marcador inválido: " + marcador);
+        while (this.topo > marcador) {
+            int b = this.registro[--this.topo];
+            int a = this.parent[b];
+            this.size[a] -= this.size[b];
+            this.parent[b] = b;
+            this.numComponentes++;
+        }
+    }
+
+    /**
+     * Retorna o tamanho do conjunto que contém {@code v}.
+     *
+     * @param v elemento do conjunto.
+     * @return o número de elementos do conjunto de {@code v}.
+     */
+    public int sizeOf(int v) {
+        return this.size[findSet(v)];
+    }
+
+    /**
+     * Retorna o número de conjuntos disjuntos.
+     *
+     * @return o número de componentes.
+     */
+    public int getNumComponentes() {
+        return this.numComponentes;
+    }
+}
@@ -0,0 +1,233 @@
+package br.ufcg.computacao.disjointsetunion;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <p>
+ * Implementação do algoritmo de <strong>Kruskal</strong> para a <strong>floresta geradora
+ * mínima</strong> de um grafo não direcionado e ponderado, usando {@link DSULogn} para
+ * detectar se uma aresta liga dois componentes distintos.
+ * </p>
+ *
+ * <p>
+ * As arestas são recebidas em vetores primitivos: a aresta {@code i} liga {@code u[i]} a
+ * {@code v[i]} com peso {@code w[i]}. Empates de peso são desfeitos pelo índice da aresta,
+ * de modo que todas as variantes escolhem exatamente as mesmas arestas:
+ * <ul>
+ *   <li>{@link Modo#ORDENACAO_PARALELA}: ordena chaves {@code (peso, índice)} empacotadas em
+ *       {@code long} com {@link Arrays#parallelSort(long[])};</li>
+ *   <li>{@link Modo#RADIX}: ordena os índices por peso com <i>radix sort</i> LSD de 4 passadas
+ *       de 8 bits, em tempo linear;</li>
+ *   <li>{@link Modo#FILTER_KRUSKAL}: particiona as arestas em torno de um pivô como no
+ *       <i>quicksort</i>, resolve primeiro a parte mais leve e descarta da parte mais pesada as
+ *       arestas cujos extremos já estão no mesmo componente, antes de ordená-la
+ *       (Osipov, Sanders &amp; Singler, 2009).</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * O tempo é dominado pela ordenação, $O(E \log E)$, ou $O(E)$ com <i>radix sort</i>; as
+ * operações no DSU custam quase $O(1)$ amortizado.
+ * </p>
+ *
+ * @author Augusto de Brito Lopes
+ */
+public class Kruskal {
+
+    /**
+     * Estratégia de ordenação das arestas.
+     */
+    public enum Modo {
+        /** Ordenação paralela das chaves (peso, índice). */
+        ORDENACAO_PARALELA,
+        /** Radix sort LSD sobre os pesos inteiros. */
+        RADIX,
+        /** Filter-Kruskal: particiona e filtra antes de ordenar. */
+        FILTER_KRUSKAL
+    }
+
+    // Abaixo deste tamanho o Filter-Kruskal ordena o intervalo diretamente.
+    private static final int LIMIAR_FILTER = 1024;
+
+    private final int n;
+    private final int[] u;
+    private final int[] v;
+    private final int[] w;
+
+    // Estado de uma execução.
+    private DSULogn dsu;
+    private int[] escolhidas;
+    private int numEscolhidas;
+    private long pesoTotal;
+
+    /**
+     * Construtor que recebe o grafo em vetores de arestas.
+     *
+     * @param n número de vértices.
+     * @param u extremidade de origem de cada aresta.
+     * @param v extremidade de destino de cada aresta.
+     * @param w peso de cada aresta.
+     * @throws IllegalArgumentException se os vetores tiverem tamanhos diferentes.
+     */
+    public Kruskal(int n, int[] u, int[] v, int[] w) {
+        if (u.length != v.length || u.length != w.length)
+            throw new IllegalArgumentException("Os vetores u, v e w devem ter o mesmo tamanho.");
+        this.n = n;
+        this.u = u;
+        this.v = v;
+        this.w = w;
+    }
+
+    /**
+     * Executa o algoritmo com ordenação paralela.
+     *
+     * @return a floresta geradora mínima.
+     */
+    public ArvoreGeradora executar() {
+        return executar(Modo.ORDENACAO_PARALELA);
+    }
+
+    /**
+     * Executa o algoritmo com a estratégia indicada.
+     *
+     * @param modo a estratégia de ordenação.
+     * @return a floresta geradora mínima.
+     */
+    public ArvoreGeradora executar(Modo modo) {
+        this.dsu = new DSULogn(n);
+        for (int i = 0; i < n; i++)
+            dsu.makeSet(i);
+        this.escolhidas = new int[Math.max(0, n - 1)];
+        this.numEscolhidas = 0;
+        this.pesoTotal = 0;
+
+        switch (modo) {
+            case RADIX:
+                int[] ordem = ordenarRadix();
+                for (int i = 0; i < ordem.length && numEscolhidas < n - 1; i++)
+                    tentarAresta(ordem[i]);
+                break;
+            case FILTER_KRUSKAL:
+                long[] chaves = chaves();
+                filterKruskal(chaves, 0, chaves.length, new Random(42));
+                break;
+            default:
+                long[] ordenadas = chaves();
+                Arrays.parallelSort(ordenadas);
+                processar(ordenadas, 0, ordenadas.length);
+        }
+
+        int[] arestas = Arrays.copyOf(escolhidas, numEscolhidas);
+        Arrays.sort(arestas);
+        ArvoreGeradora resultado = new ArvoreGeradora(arestas, pesoTotal, n - numEscolhidas);
+        this.dsu = null;
+        this.escolhidas = null;
+        return resultado;
+    }
+
+    /**
+     * Aceita a aresta {@code e} se ela ligar dois componentes distintos.
+     */
+    private void tentarAresta(int e) {
+        int a = dsu.findSet(u[e]);
+        int b = dsu.findSet(v[e]);
+        if (a != b) {
+            dsu.unionSet(a, b);
+            escolhidas[numEscolhidas++] = e;
+            pesoTotal += w[e];
+        }
+    }
+
+    /**
+     * Percorre chaves já ordenadas no intervalo {@code [ini, fim)}.
+     */
+    private void processar(long[] chaves, int ini, int fim) {
+        for (int i = ini; i < fim && numEscolhidas < n - 1; i++)
+            tentarAresta(indice(chaves[i]));
+    }
+
+    /**
+     * Filter-Kruskal sobre o intervalo {@code [ini, fim)} de chaves ainda não ordenadas.
+     */
+    private void filterKruskal(long[] chaves, int ini, int fim, Random random) {
+        while (fim - ini > LIMIAR_FILTER && numEscolhidas < n - 1) {
+            long pivo = chaves[ini + random.nextInt(fim - ini)];
+
+            // partição: [ini, meio) <= pivo < [meio, fim); as chaves são distintas
+            int meio = ini;
+            for (int i = ini; i < fim; i++)
+                if (chaves[i] <= pivo) {
+                    long aux = chaves[i];
+                    chaves[i] = chaves[meio];
+                    chaves[meio++] = aux;
+                }
+
+            filterKruskal(chaves, ini, meio, random);
+
+            // filtro: descarta arestas pesadas que já estão dentro de um componente
+            int mantidas = meio;
+            for (int i = meio; i < fim; i++) {
+                int e = indice(chaves[i]);
+                if (dsu.findSet(u[e]) != dsu.findSet(v[e]))
+                    chaves[mantidas++] = chaves[i];
+            }
+            ini = meio;
+            fim = mantidas;
+        }
+
+        if (numEscolhidas < n - 1) {
+            Arrays.sort(chaves, ini, fim);
+            processar(chaves, ini, fim);
+        }
+    }
+
+    /**
+     * Empacota cada aresta como {@code (peso << 32) | índice}, cuja ordem natural é a ordem por
+     * peso com desempate pelo índice.
+     */
+    private long[] chaves() {
+        long[] chaves = new long[w.length];
+        for (int i = 0; i < w.length; i++)
+            chaves[i] = ((long) w[i] << 32) | i;
+        return chaves;
+    }
+
+    private static int indice(long chave) {
+        return (int) chave;
+    }
+
+    /**
+     * Radix sort LSD estável dos índices das arestas por peso, em 4 passadas de 8 bits.
+     * O bit de sinal é invertido para que pesos negativos venham antes dos positivos.
+     *
+     * @return os índices das arestas em ordem de (peso, índice).
+     */
+    private int[] ordenarRadix() {
+        int m = w.length;
+        int[] ordem = new int[m];
+        int[] auxiliar = new int[m];
+        for (int i = 0; i < m; i++)
+            ordem[i] = i;
+
+        int[] contagem = new int[257];
+        for (int deslocamento = 0; deslocamento < 32; deslocamento += 8) {
+            Arrays.fill(contagem, 0);
+            for (int i = 0; i < m; i++)
+                contagem[digito(w[ordem[i]], deslocamento) + 1]++;
+            for (int d = 0; d < 256; d++)
+                contagem[d + 1] += contagem[d];
+            for (int i = 0; i < m; i++)
+                auxiliar[contagem[digito(w[ordem[i]], deslocamento)]++] = ordem[i];
+
+            int[] troca = ordem;
+            ordem = auxiliar;
+            auxiliar = troca;
+        }
+        return ordem;
+    }
+
+    private static int digito(int peso, int deslocamento) {
+        return ((peso ^ Integer.MIN_VALUE) >>> deslocamento) & 0xFF;
+    }
+}
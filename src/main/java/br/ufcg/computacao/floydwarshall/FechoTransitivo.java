@@ -0,0 +1,175 @@
+package br.ufcg.computacao.floydwarshall;
+
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Implementação do algoritmo de <strong>Warshall</strong> para o cálculo do
+ * <strong>fecho transitivo</strong> de um grafo direcionado, isto é, para responder
+ * se existe caminho do vértice <i>u</i> ao vértice <i>v</i>.
+ * </p>
+ *
+ * <p>
+ * É a versão booleana do {@link FloydWarshall}: cada linha da matriz de alcançabilidade é
+ * armazenada como um conjunto de bits em um {@code long[]}, e a atualização
+ * "se <i>i</i> alcança <i>k</i>, então <i>i</i> alcança tudo que <i>k</i> alcança" é feita
+ * com um OU entre as linhas, 64 vértices por operação. A matriz ocupa 1 bit por par,
+ * contra 32 bits da matriz de distâncias.
+ * </p>
+ *
+ * <p>
+ * O tempo de execução é $O(V^3 / 64)$. Na versão paralela, as linhas afetadas em cada fase
+ * {@code k} são determinadas antes da atualização, e as palavras de 64 bits são divididas em
+ * blocos processados por threads diferentes, sem que duas threads escrevam na mesma palavra.
+ * </p>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+public class FechoTransitivo {
+
+    // Número de palavras de 64 bits processadas por tarefa na versão paralela.
+    private static final int PALAVRAS_POR_BLOCO = 32;
+
+    // Linhas da matriz de alcançabilidade: bit j da linha i indica que i alcança j.
+    private long[][] linhas;
+
+    private int n;
+
+    /**
+     * Construtor que inicializa e calcula o fecho transitivo a partir de uma matriz de
+     * adjacência no formato do {@link FloydWarshall}.
+     *
+     * @param matrizAdjacencia A matriz de adjacência, com {@link FloydWarshall#INFINITO} indicando ausência de aresta.
+     */
+    public FechoTransitivo(int[][] matrizAdjacencia) {
+        inicializar(matrizAdjacencia);
+        calcularFecho();
+    }
+
+    /**
+     * Construtor vazio, útil em testes de desempenho, inicialização e algoritmo iniciados individualmente
+     */
+    public FechoTransitivo() {}
+
+    /**
+     * Inicializa a matriz de alcançabilidade: {@code i} alcança {@code j} se
+     * {@code grafo[i][j] != INFINITO}, o que inclui a diagonal quando ela é zero.
+     *
+     * @param grafo A matriz de adjacência original do grafo.
+     */
+    public void inicializar(int[][] grafo) {
+        this.n = grafo.length;
+        int palavras = (n + 63) >>> 6;
+        this.linhas = new long[n][palavras];
+
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                if (grafo[i][j] != FloydWarshall.INFINITO)
+                    linhas[i][j >>> 6] |= 1L << j;
+    }
+
+    /**
+     * Inicializa a matriz de alcançabilidade a partir de uma matriz booleana de adjacência.
+     *
+     * @param grafo A matriz booleana, onde {@code grafo[i][j]} indica a aresta de i para j.
+     */
+    public void inicializar(boolean[][] grafo) {
+        this.n = grafo.length;
+        int palavras = (n + 63) >>> 6;
+        this.linhas = new long[n][palavras];
+
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                if (grafo[i][j])
+                    linhas[i][j >>> 6] |= 1L << j;
+    }
+
+    /**
+     * Executa o algoritmo de Warshall sequencialmente.
+     */
+    public void calcularFecho() {
+        calcularFecho(false);
+    }
+
+    /**
+     * Executa o algoritmo de Warshall.
+     * <p>
+     * Para cada vértice intermediário {@code k}, toda linha {@code i} que alcança {@code k}
+     * recebe o OU bit a bit com a linha {@code k}.
+     * </p>
+     *
+     * @param paralelo {@code true} para dividir as palavras de cada fase entre as threads do pool comum.
+     */
+    public void calcularFecho(boolean paralelo) {
+
+        int palavras = (n + 63) >>> 6;
+        int blocos = (palavras + PALAVRAS_POR_BLOCO - 1) / PALAVRAS_POR_BLOCO;
+        int[] afetadas = new int[n];
+
+        for (int k = 0; k < n; k++) { // nó intermediário
+            int palavraK = k >>> 6;
+            long bitK = 1L << k;
+            long[] linhaK = linhas[k];
+
+            // linhas que alcançam k nesta fase
+            int quantidade = 0;
+            for (int i = 0; i < n; i++)
+                if (i != k && (linhas[i][palavraK] & bitK) != 0)
+                    afetadas[quantidade++] = i;
+            if (quantidade == 0) continue;
+
+            final int total = quantidade;
+            if (paralelo && blocos > 1)
+                IntStream.range(0, blocos).parallel().forEach(b -> propagar(linhaK, afetadas, total,
+                        b * PALAVRAS_POR_BLOCO, Math.min(palavras, (b + 1) * PALAVRAS_POR_BLOCO)));
+            else
+                propagar(linhaK, afetadas, total, 0, palavras);
+        }
+    }
+
+    /**
+     * Aplica {@code linhas[i] |= linhaK} nas palavras {@code [inicio, fim)} das linhas afetadas.
+     */
+    private void propagar(long[] linhaK, int[] afetadas, int quantidade, int inicio, int fim) {
+        for (int a = 0; a < quantidade; a++) {
+            long[] linhaI = linhas[afetadas[a]];
+            for (int w = inicio; w < fim; w++)
+                linhaI[w] |= linhaK[w];
+        }
+    }
+
+    /**
+     * Verifica se existe caminho do vértice {@code u} para o vértice {@code v}.
+     *
+     * @param u O vértice de origem.
+     * @param v O vértice de destino.
+     * @return {@code true} se {@code v} é alcançável a partir de {@code u}.
+     */
+    public boolean alcanca(int u, int v) {
+        return (linhas[u][v >>> 6] & (1L << v)) != 0;
+    }
+
+    /**
+     * Retorna a quantidade de vértices alcançáveis a partir de {@code u}.
+     *
+     * @param u O vértice de origem.
+     * @return O número de bits ligados na linha de {@code u}.
+     */
+    public int contarAlcancaveis(int u) {
+        int total = 0;
+        for (long palavra : linhas[u])
+            total += Long.bitCount(palavra);
+        return total;
+    }
+
+    /**
+     * Retorna a linha de {@code u} como conjunto de bits, onde o bit {@code j} indica que
+     * {@code u} alcança {@code j}.
+     *
+     * @param u O vértice de origem.
+     * @return Uma cópia da linha de {@code u}.
+     */
+    public long[] getLinha(int u) {
+        return linhas[u].clone();
+    }
+}
@@ -2,6 +2,7 @@ package br.ufcg.computacao.floydwarshall;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * <p>
@@ -56,6 +57,18 @@ public class FloydWarshall {
      */
     public FloydWarshall(){}
 
+    /**
+     * Construtor que adota matrizes já inicializadas ou parcialmente calculadas,
+     * usado na retomada a partir de um checkpoint.
+     *
+     * @param distancias A matriz de distâncias.
+     * @param sucessores A matriz de sucessores.
+     */
+    FloydWarshall(int[][] distancias, int[][] sucessores){
+        this.distancias = distancias;
+        this.sucessores = sucessores;
+    }
+
     /**
      * Inicializa as matrizes de distâncias e de sucessores com base na matriz de adjacência fornecida.
      *
@@ -89,20 +102,98 @@ public class FloydWarshall {
      * Adicionalmente, ele armazena o predecessor de cada vértice no caminho mais curto,
      * permitindo a reconstrução completa dos caminhos após a execução.
      * </p>
+     * <p>
+     * O laço triplo é executado pelo {@link SemianelMinSoma} sobre as próprias matrizes desta instância.
+     * </p>
      */
     public void calcularDistancias(){
+        calcularDistancias(false);
+    }
+
+    /**
+     * Variante de {@link #calcularDistancias()} que permite distribuir as linhas de cada fase
+     * entre threads. Requer que o grafo não tenha ciclos de peso negativo.
+     *
+     * @param paralelo {@code true} para processar as linhas de cada fase em paralelo.
+     */
+    public void calcularDistancias(boolean paralelo){
+        new SemianelMinSoma(distancias, sucessores).calcular(paralelo);
+    }
+
+
+    /**
+     * Atualiza as matrizes já calculadas após a inserção da aresta {@code (u, v)} ou a
+     * redução do seu peso para {@code peso}, sem reexecutar o algoritmo completo.
+     * <p>
+     * Como as demais distâncias já são mínimas, a nova aresta é o único intermediário que
+     * pode melhorar algum par: para cada {@code (i, j)} basta testar
+     * {@code distancias[i][u] + peso + distancias[v][j]}. O custo é $O(V^2)$ em vez de $O(V^3)$.
+     * Aumentos de peso ou remoções de arestas não são suportados por esta operação.
+     * </p>
+     *
+     * @param u O vértice de origem da aresta.
+     * @param v O vértice de destino da aresta.
+     * @param peso O novo peso da aresta.
+     * @throws IllegalArgumentException se a aresta criar um ciclo de peso negativo.
+     */
+    public void atualizarAresta(int u, int v, int peso){
+        atualizarAresta(u, v, peso, false);
+    }
+
+    /**
+     * Variante de {@link #atualizarAresta(int, int, int)} que permite processar as linhas
+     * da matriz em paralelo.
+     * <p>
+     * As linhas são independentes entre si: a linha {@code i} só lê {@code distancias[i][u]},
+     * a linha {@code v} e a própria linha {@code i}, e nenhum desses valores pode diminuir
+     * com a nova aresta na ausência de ciclos negativos.
+     * </p>
+     *
+     * @param u O vértice de origem da aresta.
+     * @param v O vértice de destino da aresta.
+     * @param peso O novo peso da aresta.
+     * @param paralelo {@code true} para distribuir as linhas entre as threads do pool comum.
+     * @throws IllegalArgumentException se a aresta criar um ciclo de peso negativo.
+     */
+    public void atualizarAresta(int u, int v, int peso, boolean paralelo){
+
+        if (peso >= distancias[u][v]) return; // a aresta não melhora nenhum caminho
+
+        if (distancias[v][u] != INFINITO && peso + distancias[v][u] < 0)
+            throw new IllegalArgumentException("A aresta (" + u + ", " + v + ") cria um ciclo de peso negativo.");
 
         int n = distancias.length;
-        for (int k = 0; k < n; k++)// nó intermediário
-            for (int i = 0; i < n; i++) // nó de saída
-                for (int j = 0; j < n; j++) // nó de destino
-                    if (distancias[i][k] != INFINITO && distancias[k][j] != INFINITO) 
-                        if (distancias[i][k] + distancias[k][j] < distancias[i][j]){ 
-                            distancias[i][j] = distancias[i][k] + distancias[k][j]; // atualiza a distância
-                            sucessores[i][j] = sucessores[i][k]; //guarda o nó intermediário;
-                        }
+        if (paralelo)
+            IntStream.range(0, n).parallel().forEach(i -> relaxarLinha(i, u, v, peso));
+        else
+            for (int i = 0; i < n; i++)
+                relaxarLinha(i, u, v, peso);
     }
 
+    /**
+     * Relaxa a linha {@code i} usando a aresta {@code (u, v)} como intermediária.
+     *
+     * @param i A linha (vértice de saída) a ser atualizada.
+     * @param u O vértice de origem da aresta.
+     * @param v O vértice de destino da aresta.
+     * @param peso O peso da aresta.
+     */
+    private void relaxarLinha(int i, int u, int v, int peso){
+
+        int[] linhaI = distancias[i];
+        int ateU = linhaI[u];
+        if (ateU == INFINITO) return;
+
+        int[] linhaV = distancias[v];
+        int[] sucessoresI = sucessores[i];
+        int proximo = (i == u) ? v : sucessoresI[u]; // primeiro passo de i em direção a u
+
+        for (int j = 0; j < linhaI.length; j++)
+            if (linhaV[j] != INFINITO && ateU + peso + linhaV[j] < linhaI[j]){
+                linhaI[j] = ateU + peso + linhaV[j];
+                sucessoresI[j] = proximo;
+            }
+    }
 
     /**
      * Reconstrói e retorna o caminho mais curto do vértice {@code u} para o vértice {@code v}.
@@ -0,0 +1,282 @@
+package br.ufcg.computacao.floydwarshall;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Armazenamento persistente das matrizes calculadas pelo {@link FloydWarshall}, permitindo
+ * consultar distâncias e caminhos após reinícios da JVM sem refazer o cálculo $O(V^3)$.
+ * </p>
+ *
+ * <p>
+ * O formato binário é composto por um cabeçalho de {@value #TAMANHO_CABECALHO} bytes
+ * (identificador, versão, número de vértices e número de fases concluídas) seguido da matriz de
+ * distâncias e da matriz de sucessores, ambas em ordem de linhas (<i>row-major</i>),
+ * com um {@code int} por posição.
+ * </p>
+ *
+ * <p>
+ * A leitura é feita por mapeamento em memória ({@link FileChannel#map}): apenas as páginas
+ * efetivamente consultadas são trazidas do disco pelo sistema operacional. Como um único
+ * {@link MappedByteBuffer} é limitado a 2 GB, cada matriz é mapeada em segmentos de linhas
+ * inteiras, o que permite abrir matrizes maiores que o heap.
+ * </p>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+public class FloydWarshallArquivo implements Closeable {
+
+    /** Identificador do formato ("FWM1"). */
+    static final int IDENTIFICADOR = 0x46574D31;
+
+    /** Versão atual do formato. */
+    static final int VERSAO = 1;
+
+    /** Tamanho do cabeçalho em bytes. */
+    public static final int TAMANHO_CABECALHO = 16;
+
+    // Tamanho máximo de cada segmento mapeado, em bytes.
+    private static final long TAMANHO_MAXIMO_SEGMENTO = Integer.MAX_VALUE;
+
+    // Tamanho do buffer usado na escrita sequencial, em bytes.
+    private static final int TAMANHO_BUFFER_ESCRITA = 1 << 20;
+
+    private final FileChannel canal;
+
+    private final int n;
+
+    // Quantidade de linhas completas em cada segmento mapeado.
+    private final int linhasPorSegmento;
+
+    // Segmentos mapeados de cada matriz.
+    private final MappedByteBuffer[] segmentosDistancias;
+    private final MappedByteBuffer[] segmentosSucessores;
+
+    /**
+     * Abre um arquivo gravado por {@link #salvar(FloydWarshall, Path)} e mapeia suas matrizes.
+     *
+     * @param arquivo O caminho do arquivo.
+     * @throws IOException se o arquivo não puder ser lido, não estiver no formato esperado ou
+     * for um checkpoint de um cálculo incompleto.
+     */
+    public FloydWarshallArquivo(Path arquivo) throws IOException {
+        this(arquivo, TAMANHO_MAXIMO_SEGMENTO);
+    }
+
+    /**
+     * Construtor que permite limitar o tamanho dos segmentos, útil em testes.
+     *
+     * @param arquivo O caminho do arquivo.
+     * @param tamanhoMaximoSegmento O tamanho máximo, em bytes, de cada segmento mapeado.
+     * @throws IOException se o arquivo não puder ser lido ou não estiver no formato esperado.
+     */
+    FloydWarshallArquivo(Path arquivo, long tamanhoMaximoSegmento) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+            while (cabecalho.hasRemaining())
+                if (canal.read(cabecalho, cabecalho.position()) < 0)
+                    throw new IOException("Arquivo truncado: cabeçalho incompleto.");
+            cabecalho.flip();
+
+            if (cabecalho.getInt() != IDENTIFICADOR)
+                throw new IOException("Arquivo não contém matrizes de Floyd-Warshall.");
+            int versao = cabecalho.getInt();
+            if (versao != VERSAO)
+                throw new IOException("Versão de arquivo não suportada: " + versao);
+            this.n = cabecalho.getInt();
+            int fases = cabecalho.getInt();
+            if (fases != n)
+                throw new IOException("Arquivo contém um cálculo incompleto (" + fases + " de " + n + " fases).");
+
+            long bytesLinha = 4L * n;
+            long bytesMatriz = bytesLinha * n;
+            if (canal.size() < TAMANHO_CABECALHO + 2 * bytesMatriz)
+                throw new IOException("Arquivo truncado: esperados " + (TAMANHO_CABECALHO + 2 * bytesMatriz) + " bytes.");
+
+            this.linhasPorSegmento = (int) Math.max(1, Math.min(n, tamanhoMaximoSegmento / Math.max(1, bytesLinha)));
+            this.segmentosDistancias = mapear(TAMANHO_CABECALHO, bytesLinha);
+            this.segmentosSucessores = mapear(TAMANHO_CABECALHO + bytesMatriz, bytesLinha);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Mapeia uma matriz em segmentos de {@code linhasPorSegmento} linhas.
+     *
+     * @param inicio A posição do primeiro byte da matriz no arquivo.
+     * @param bytesLinha O tamanho de uma linha em bytes.
+     * @return Os segmentos mapeados, em ordem.
+     * @throws IOException se o mapeamento falhar.
+     */
+    private MappedByteBuffer[] mapear(long inicio, long bytesLinha) throws IOException {
+        int quantidade = (n + linhasPorSegmento - 1) / linhasPorSegmento;
+        MappedByteBuffer[] segmentos = new MappedByteBuffer[quantidade];
+        for (int s = 0; s < quantidade; s++) {
+            long linhas = Math.min(linhasPorSegmento, n - (long) s * linhasPorSegmento);
+            long posicao = inicio + (long) s * linhasPorSegmento * bytesLinha;
+            segmentos[s] = canal.map(FileChannel.MapMode.READ_ONLY, posicao, linhas * bytesLinha);
+        }
+        return segmentos;
+    }
+
+    /**
+     * Grava as matrizes de distâncias e sucessores de um {@link FloydWarshall} já calculado.
+     *
+     * @param fw A instância com as matrizes calculadas.
+     * @param arquivo O caminho do arquivo a ser criado ou sobrescrito.
+     * @throws IOException se a escrita falhar.
+     */
+    public static void salvar(FloydWarshall fw, Path arquivo) throws IOException {
+        salvar(fw.getDistancias(), fw.getSucessores(), arquivo);
+    }
+
+    /**
+     * Grava as matrizes de distâncias e sucessores no formato deste armazenamento.
+     * <p>
+     * A escrita é sequencial, agrupando várias linhas em um único buffer reutilizado.
+     * </p>
+     *
+     * @param distancias A matriz de distâncias ({@code n}x{@code n}).
+     * @param sucessores A matriz de sucessores ({@code n}x{@code n}).
+     * @param arquivo O caminho do arquivo a ser criado ou sobrescrito.
+     * @throws IOException se a escrita falhar.
+     */
+    public static void salvar(int[][] distancias, int[][] sucessores, Path arquivo) throws IOException {
+        salvar(distancias, sucessores, distancias.length, arquivo);
+    }
+
+    /**
+     * Grava as matrizes registrando quantas fases do algoritmo já foram concluídas.
+     * Arquivos com menos de {@code n} fases são checkpoints e só podem ser lidos por
+     * {@link FloydWarshallCheckpoint}.
+     *
+     * @param distancias A matriz de distâncias ({@code n}x{@code n}).
+     * @param sucessores A matriz de sucessores ({@code n}x{@code n}).
+     * @param fasesConcluidas O número de fases {@code k} já concluídas.
+     * @param arquivo O caminho do arquivo a ser criado ou sobrescrito.
+     * @throws IOException se a escrita falhar.
+     */
+    static void salvar(int[][] distancias, int[][] sucessores, int fasesConcluidas, Path arquivo) throws IOException {
+        int n = distancias.length;
+        try (FileChannel saida = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+            cabecalho.putInt(IDENTIFICADOR).putInt(VERSAO).putInt(n).putInt(fasesConcluidas).flip();
+            escreverTudo(saida, cabecalho);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(4 * n, TAMANHO_BUFFER_ESCRITA));
+            escreverMatriz(saida, distancias, buffer);
+            escreverMatriz(saida, sucessores, buffer);
+        }
+    }
+
+    /**
+     * Escreve uma matriz no canal, agrupando quantas linhas couberem no buffer a cada escrita.
+     *
+     * @param saida O canal de destino.
+     * @param matriz A matriz a ser gravada.
+     * @param buffer O buffer reutilizado entre as escritas.
+     * @throws IOException se a escrita falhar.
+     */
+    private static void escreverMatriz(FileChannel saida, int[][] matriz, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        IntBuffer inteiros = buffer.asIntBuffer();
+        for (int[] linha : matriz) {
+            if (inteiros.remaining() < linha.length) {
+                descarregar(saida, buffer, inteiros);
+                inteiros = buffer.asIntBuffer();
+            }
+            inteiros.put(linha);
+        }
+        descarregar(saida, buffer, inteiros);
+    }
+
+    /**
+     * Escreve no canal os inteiros acumulados na visão {@code inteiros} do buffer.
+     */
+    private static void descarregar(FileChannel saida, ByteBuffer buffer, IntBuffer inteiros) throws IOException {
+        buffer.position(0).limit(4 * inteiros.position());
+        escreverTudo(saida, buffer);
+        buffer.clear();
+    }
+
+    private static void escreverTudo(FileChannel saida, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            saida.write(buffer);
+    }
+
+    /**
+     * Lê a posição {@code (i, j)} de uma matriz mapeada.
+     */
+    private int ler(MappedByteBuffer[] segmentos, int i, int j) {
+        int segmento = i / linhasPorSegmento;
+        int deslocamento = (int) (((long) (i % linhasPorSegmento) * n + j) * 4);
+        return segmentos[segmento].getInt(deslocamento);
+    }
+
+    /**
+     * Retorna a menor distância do vértice {@code u} para o vértice {@code v}.
+     *
+     * @param u O vértice de origem.
+     * @param v O vértice de destino.
+     * @return A menor distância, ou {@link FloydWarshall#INFINITO} se não houver caminho.
+     */
+    public int getDistancia(int u, int v) {
+        return ler(segmentosDistancias, u, v);
+    }
+
+    /**
+     * Reconstrói e retorna o caminho mais curto do vértice {@code u} para o vértice {@code v},
+     * lendo apenas as posições da matriz de sucessores percorridas pelo caminho.
+     *
+     * @param u O vértice de origem.
+     * @param v O vértice de destino.
+     * @return Uma lista de inteiros que representa o caminho. Se não houver caminho, retorna
+     * uma lista vazia.
+     */
+    public List<Integer> getCaminho(int u, int v) {
+
+        List<Integer> caminho = new ArrayList<>();
+        if (ler(segmentosSucessores, u, v) == -1) return caminho; //sem caminho
+
+        caminho.add(u);
+        while (u != v){
+            u = ler(segmentosSucessores, u, v);
+            caminho.add(u);
+        }
+
+        return caminho;
+    }
+
+    /**
+     * Retorna o número de vértices das matrizes armazenadas.
+     *
+     * @return O número de vértices.
+     */
+    public int getNumVertices() {
+        return n;
+    }
+
+    /**
+     * Fecha o canal do arquivo. Os segmentos mapeados são liberados pelo coletor de lixo.
+     *
+     * @throws IOException se o fechamento falhar.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+}
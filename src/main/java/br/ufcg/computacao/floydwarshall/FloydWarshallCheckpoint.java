@@ -0,0 +1,224 @@
+package br.ufcg.computacao.floydwarshall;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * Execução do {@link FloydWarshall} com <strong>checkpoints</strong> periódicos em disco,
+ * permitindo retomar um cálculo longo a partir da última fase salva caso o processo seja
+ * interrompido.
+ * </p>
+ *
+ * <p>
+ * A cada {@code intervalo} fases {@code k} concluídas, as matrizes de distâncias e sucessores
+ * são gravadas no formato do {@link FloydWarshallArquivo}, com o número de fases concluídas no
+ * cabeçalho. A gravação é feita em um arquivo temporário e depois movida sobre o checkpoint
+ * anterior, de modo que uma falha durante a escrita nunca corrompe o último checkpoint válido.
+ * Ao final do cálculo, o arquivo contém o resultado completo e pode ser aberto diretamente por
+ * {@link FloydWarshallArquivo}.
+ * </p>
+ *
+ * <p>
+ * Um {@link Progresso} é notificado ao final de cada fase; se ele retornar {@code false}, o
+ * cálculo é interrompido, um checkpoint é gravado e a execução pode ser retomada depois com
+ * {@link #retomar(boolean, Progresso)}.
+ * </p>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+public class FloydWarshallCheckpoint {
+
+    /**
+     * Observador do andamento do cálculo.
+     */
+    @FunctionalInterface
+    public interface Progresso {
+
+        /**
+         * Chamado ao final de cada fase.
+         *
+         * @param fasesConcluidas número de fases {@code k} já concluídas.
+         * @param totalFases número total de fases (o número de vértices).
+         * @return {@code true} para continuar, {@code false} para interromper o cálculo.
+         */
+        boolean faseConcluida(int fasesConcluidas, int totalFases);
+    }
+
+    /** Progresso que nunca interrompe o cálculo. */
+    public static final Progresso SEM_OBSERVADOR = (fasesConcluidas, totalFases) -> true;
+
+    private final Path arquivo;
+
+    private final int intervalo;
+
+    /**
+     * @param arquivo O caminho do arquivo de checkpoint.
+     * @param intervalo O número de fases entre dois checkpoints.
+     * @throws IllegalArgumentException se o intervalo não for positivo.
+     */
+    public FloydWarshallCheckpoint(Path arquivo, int intervalo) {
+        if (intervalo <= 0)
+            throw new IllegalArgumentException("O intervalo entre checkpoints deve ser positivo: " + intervalo);
+        this.arquivo = arquivo;
+        this.intervalo = intervalo;
+    }
+
+    /**
+     * Executa o algoritmo completo sobre uma instância já inicializada com
+     * {@link FloydWarshall#inicializar(int[][])}.
+     *
+     * @param fw A instância inicializada.
+     * @param paralelo {@code true} para processar as linhas de cada fase em paralelo.
+     * @param progresso O observador do andamento.
+     * @return {@code true} se o cálculo terminou, {@code false} se foi interrompido pelo observador.
+     * @throws IOException se a gravação de um checkpoint falhar.
+     */
+    public boolean executar(FloydWarshall fw, boolean paralelo, Progresso progresso) throws IOException {
+        return executar(fw, 0, paralelo, progresso);
+    }
+
+    /**
+     * Carrega o último checkpoint e continua o cálculo a partir da fase seguinte à última salva.
+     *
+     * @param paralelo {@code true} para processar as linhas de cada fase em paralelo.
+     * @param progresso O observador do andamento.
+     * @return A instância com as matrizes carregadas; o cálculo estará completo a menos que o
+     * observador o tenha interrompido novamente (ver {@link #getFasesConcluidas()}).
+     * @throws IOException se o checkpoint não puder ser lido ou um novo checkpoint não puder ser gravado.
+     */
+    public FloydWarshall retomar(boolean paralelo, Progresso progresso) throws IOException {
+        int[] fases = new int[1];
+        FloydWarshall fw = carregar(fases);
+        executar(fw, fases[0], paralelo, progresso);
+        return fw;
+    }
+
+    /**
+     * Retorna o número de fases concluídas registrado no último checkpoint.
+     *
+     * @return O número de fases concluídas.
+     * @throws IOException se o checkpoint não puder ser lido.
+     */
+    public int getFasesConcluidas() throws IOException {
+        try (FileChannel entrada = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecalho = lerCabecalho(entrada);
+            return cabecalho.getInt(12);
+        }
+    }
+
+    private boolean executar(FloydWarshall fw, int inicio, boolean paralelo, Progresso progresso) throws IOException {
+        int[][] distancias = fw.getDistancias();
+        int[][] sucessores = fw.getSucessores();
+        int n = distancias.length;
+        SemianelMinSoma motor = new SemianelMinSoma(distancias, sucessores);
+
+        for (int k = inicio; k < n; k++) {
+            motor.calcularFases(k, k + 1, paralelo);
+            int concluidas = k + 1;
+
+            if (!progresso.faseConcluida(concluidas, n)) {
+                gravar(distancias, sucessores, concluidas);
+                return false;
+            }
+            if (concluidas % intervalo == 0 && concluidas < n)
+                gravar(distancias, sucessores, concluidas);
+        }
+
+        gravar(distancias, sucessores, n);
+        return true;
+    }
+
+    /**
+     * Grava o checkpoint em um arquivo temporário, força seu conteúdo para o disco e o move
+     * sobre o anterior. Sem o {@code force}, uma queda de energia logo após a renomeação
+     * poderia deixar um arquivo vazio ou incompleto no lugar do último checkpoint válido.
+     * <p>
+     * Se o sistema de arquivos não suportar movimentação atômica, a cópia de reserva
+     * substitui o arquivo de forma não atômica e <strong>não é segura contra falhas</strong>:
+     * uma queda durante a movimentação pode perder o checkpoint anterior.
+     * </p>
+     */
+    private void gravar(int[][] distancias, int[][] sucessores, int fasesConcluidas) throws IOException {
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        FloydWarshallArquivo.salvar(distancias, sucessores, fasesConcluidas, temporario);
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.WRITE)) {
+            canal.force(true);
+        }
+        try {
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING);
+        }
+        sincronizarDiretorio(arquivo.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Força a entrada de diretório da renomeação para o disco. Nem toda plataforma permite
+     * abrir um diretório como canal (o Windows, por exemplo, não permite); nesses casos a
+     * sincronização é ignorada.
+     */
+    private static void sincronizarDiretorio(Path diretorio) {
+        if (diretorio == null)
+            return;
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            // plataforma sem suporte a fsync de diretórios
+        }
+    }
+
+    /**
+     * Lê as matrizes do checkpoint para o heap.
+     *
+     * @param fases vetor de uma posição que recebe o número de fases concluídas.
+     * @return A instância com as matrizes carregadas.
+     */
+    private FloydWarshall carregar(int[] fases) throws IOException {
+        try (FileChannel entrada = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecalho = lerCabecalho(entrada);
+            int n = cabecalho.getInt(8);
+            fases[0] = cabecalho.getInt(12);
+
+            long esperado = FloydWarshallArquivo.TAMANHO_CABECALHO + 8L * n * n;
+            if (entrada.size() < esperado)
+                throw new IOException("Checkpoint truncado: esperados " + esperado + " bytes.");
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(4, 4 * n));
+            int[][] distancias = lerMatriz(entrada, n, buffer);
+            int[][] sucessores = lerMatriz(entrada, n, buffer);
+            return new FloydWarshall(distancias, sucessores);
+        }
+    }
+
+    private static ByteBuffer lerCabecalho(FileChannel entrada) throws IOException {
+        ByteBuffer cabecalho = ByteBuffer.allocate(FloydWarshallArquivo.TAMANHO_CABECALHO);
+        while (cabecalho.hasRemaining())
+            if (entrada.read(cabecalho) < 0)
+                throw new IOException("Checkpoint truncado: cabeçalho incompleto.");
+        if (cabecalho.getInt(0) != FloydWarshallArquivo.IDENTIFICADOR || cabecalho.getInt(4) != FloydWarshallArquivo.VERSAO)
+            throw new IOException("Arquivo não é um checkpoint de Floyd-Warshall.");
+        return cabecalho;
+    }
+
+    private static int[][] lerMatriz(FileChannel entrada, int n, ByteBuffer buffer) throws IOException {
+        int[][] matriz = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            buffer.clear().limit(4 * n);
+            while (buffer.hasRemaining())
+                if (entrada.read(buffer) < 0)
+                    throw new IOException("Checkpoint truncado na linha " + i + ".");
+            buffer.flip();
+            IntBuffer inteiros = buffer.asIntBuffer();
+            inteiros.get(matriz[i]);
+        }
+        return matriz;
+    }
+}
@@ -0,0 +1,303 @@
+package br.ufcg.computacao.floydwarshall;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Alternativa <strong>sob demanda</strong> ao {@link FloydWarshall} para consultas de
+ * menores caminhos entre pares de vértices. Em vez de calcular as $V^2$ distâncias de uma vez,
+ * cada linha (todas as distâncias a partir de uma origem) é calculada com o algoritmo de
+ * Dijkstra no primeiro acesso e mantida em um cache de capacidade limitada.
+ * </p>
+ *
+ * <p>
+ * O cache descarta a linha usada há mais tempo (<i>LRU</i>) quando a capacidade é atingida,
+ * de modo que a memória ocupada pelos resultados é proporcional ao conjunto de origens
+ * consultadas, e não a $V^2$. Requisições concorrentes para a mesma origem são agrupadas:
+ * apenas uma thread executa o Dijkstra e as demais aguardam o mesmo resultado.
+ * </p>
+ *
+ * <p>
+ * O grafo usa a mesma representação do {@link FloydWarshall}: uma matriz de adjacência em que
+ * a ausência de aresta é indicada por {@link FloydWarshall#INFINITO}. Como o Dijkstra é usado
+ * internamente, os pesos devem ser não negativos.
+ * </p>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+public class FloydWarshallSobDemanda {
+
+    private static final int INFINITO = FloydWarshall.INFINITO;
+
+    /**
+     * Resultado do Dijkstra a partir de uma origem: distâncias e predecessores.
+     */
+    private static final class Linha {
+        final int[] distancias;
+        final int[] pais;
+
+        Linha(int[] distancias, int[] pais) {
+            this.distancias = distancias;
+            this.pais = pais;
+        }
+    }
+
+    private final int[][] grafo;
+
+    private final int capacidade;
+
+    // Cache LRU de linhas já calculadas, em ordem de acesso.
+    private final Map<Integer, Linha> cache;
+
+    // Cálculos em andamento, usados para agrupar requisições concorrentes da mesma origem.
+    private final ConcurrentHashMap<Integer, CompletableFuture<Linha>> emAndamento = new ConcurrentHashMap<>();
+
+    private final AtomicLong acertos = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final AtomicLong remocoes = new AtomicLong();
+
+    /**
+     * Cria a estrutura sem calcular nenhuma distância.
+     *
+     * @param matrizAdjacencia A matriz de adjacência que representa o grafo.
+     * @param capacidade O número máximo de linhas mantidas em cache.
+     * @throws IllegalArgumentException se a capacidade não for positiva ou houver pesos negativos.
+     */
+    public FloydWarshallSobDemanda(int[][] matrizAdjacencia, int capacidade) {
+        if (capacidade <= 0)
+            throw new IllegalArgumentException("A capacidade do cache deve ser positiva: " + capacidade);
+        for (int[] linha : matrizAdjacencia)
+            for (int peso : linha)
+                if (peso < 0)
+                    throw new IllegalArgumentException("Pesos negativos não são suportados pelo Dijkstra.");
+
+        this.grafo = matrizAdjacencia;
+        this.capacidade = capacidade;
+        this.cache = new LinkedHashMap<Integer, Linha>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Linha> maisAntiga) {
+                if (size() > FloydWarshallSobDemanda.this.capacidade) {
+                    remocoes.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retorna a menor distância do vértice {@code u} para o vértice {@code v}.
+     *
+     * @param u O vértice de origem.
+     * @param v O vértice de destino.
+     * @return A menor distância, ou {@link FloydWarshall#INFINITO} se não houver caminho.
+     */
+    public int getDistancia(int u, int v) {
+        return obterLinha(u).distancias[v];
+    }
+
+    /**
+     * Reconstrói e retorna o caminho mais curto do vértice {@code u} para o vértice {@code v}.
+     *
+     * @param u O vértice de origem.
+     * @param v O vértice de destino.
+     * @return Uma lista de inteiros que representa o caminho. Se não houver caminho, ou se
+     * {@code u == v}, retorna uma lista vazia, como em {@link FloydWarshall#getCaminho(int, int)}.
+     */
+    public List<Integer> getCaminho(int u, int v) {
+
+        List<Integer> caminho = new ArrayList<>();
+        Linha linha = obterLinha(u);
+        if (u == v || linha.distancias[v] == INFINITO) return caminho; //sem caminho
+
+        for (int atual = v; atual != -1; atual = linha.pais[atual])
+            caminho.add(atual);
+        Collections.reverse(caminho);
+
+        return caminho;
+    }
+
+    /**
+     * Retorna a linha da origem {@code u}, calculando-a caso não esteja em cache.
+     *
+     * @param u O vértice de origem.
+     * @return As distâncias e predecessores a partir de {@code u}.
+     */
+    private Linha obterLinha(int u) {
+        if (u < 0 || u >= grafo.length)
+            throw new IndexOutOfBoundsException("Origem inválida: " + u);
+
+        Linha linha;
+        synchronized (cache) {
+            linha = cache.get(u);
+        }
+        if (linha != null) {
+            acertos.incrementAndGet();
+            return linha;
+        }
+
+        CompletableFuture<Linha> novo = new CompletableFuture<>();
+        CompletableFuture<Linha> existente = emAndamento.putIfAbsent(u, novo);
+        if (existente != null) {
+            acertos.incrementAndGet(); // outra thread já está calculando a mesma linha
+            return existente.join();
+        }
+
+        try {
+            // outra thread pode ter concluído o cálculo entre a consulta ao cache e o registro
+            synchronized (cache) {
+                linha = cache.get(u);
+            }
+            if (linha != null) {
+                acertos.incrementAndGet();
+            } else {
+                falhas.incrementAndGet();
+                linha = dijkstra(u);
+                synchronized (cache) {
+                    cache.put(u, linha);
+                }
+            }
+            novo.complete(linha);
+            return linha;
+        } catch (RuntimeException | Error e) {
+            novo.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(u, novo);
+        }
+    }
+
+    /**
+     * Dijkstra com fila de prioridade sobre a matriz de adjacência, a partir de {@code raiz}.
+     * <p>
+     * Cada entrada da fila codifica a distância nos 32 bits superiores e o vértice nos
+     * inferiores, de modo que a ordem dos {@code long} é a ordem das distâncias. A fila é um
+     * heap binário sobre um {@code long[]}, sem objetos por entrada; entradas obsoletas são
+     * descartadas ao serem removidas.
+     * </p>
+     *
+     * @param raiz O vértice de origem.
+     * @return As distâncias e predecessores a partir de {@code raiz}.
+     */
+    private Linha dijkstra(int raiz) {
+        int n = grafo.length;
+        int[] distancias = new int[n];
+        int[] pais = new int[n];
+        boolean[] visitados = new boolean[n];
+        Arrays.fill(distancias, INFINITO);
+        Arrays.fill(pais, -1);
+
+        distancias[raiz] = 0;
+        long[] fila = new long[Math.max(16, n)];
+        int tamanho = 0;
+        fila[tamanho++] = raiz;
+
+        while (tamanho > 0) {
+            int atual = (int) fila[0];
+            fila[0] = fila[--tamanho];
+            descer(fila, tamanho);
+            if (visitados[atual]) continue;
+            visitados[atual] = true;
+
+            int[] arestas = grafo[atual];
+            for (int j = 0; j < n; j++) {
+                int aresta = arestas[j];
+                if (aresta == INFINITO || j == atual || visitados[j]) continue;
+                int novaDistancia = distancias[atual] + aresta;
+                if (novaDistancia < distancias[j]) {
+                    distancias[j] = novaDistancia;
+                    pais[j] = atual;
+                    if (tamanho == fila.length)
+                        fila = Arrays.copyOf(fila, fila.length * 2);
+                    fila[tamanho] = ((long) novaDistancia << 32) | j;
+                    subir(fila, tamanho++);
+                }
+            }
+        }
+
+        return new Linha(distancias, pais);
+    }
+
+    /**
+     * Restaura o heap mínimo subindo a entrada da posição {@code i}.
+     */
+    private static void subir(long[] heap, int i) {
+        long valor = heap[i];
+        while (i > 0) {
+            int pai = (i - 1) >>> 1;
+            if (heap[pai] <= valor)
+                break;
+            heap[i] = heap[pai];
+            i = pai;
+        }
+        heap[i] = valor;
+    }
+
+    /**
+     * Restaura o heap mínimo de {@code tamanho} entradas descendo a entrada da raiz.
+     */
+    private static void descer(long[] heap, int tamanho) {
+        if (tamanho == 0)
+            return;
+        long valor = heap[0];
+        int i = 0;
+        while (true) {
+            int filho = 2 * i + 1;
+            if (filho >= tamanho)
+                break;
+            if (filho + 1 < tamanho && heap[filho + 1] < heap[filho])
+                filho++;
+            if (heap[filho] >= valor)
+                break;
+            heap[i] = heap[filho];
+            i = filho;
+        }
+        heap[i] = valor;
+    }
+
+    /**
+     * Retorna o número de consultas atendidas sem executar o Dijkstra.
+     *
+     * @return O número de acertos no cache.
+     */
+    public long getAcertos() {
+        return acertos.get();
+    }
+
+    /**
+     * Retorna o número de linhas calculadas, isto é, de execuções do Dijkstra.
+     *
+     * @return O número de falhas no cache.
+     */
+    public long getFalhas() {
+        return falhas.get();
+    }
+
+    /**
+     * Retorna o número de linhas descartadas por falta de capacidade.
+     *
+     * @return O número de remoções do cache.
+     */
+    public long getRemocoes() {
+        return remocoes.get();
+    }
+
+    /**
+     * Retorna o número de linhas atualmente em cache.
+     *
+     * @return O número de linhas em cache.
+     */
+    public int getLinhasEmCache() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
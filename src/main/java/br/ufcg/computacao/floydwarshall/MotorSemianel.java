@@ -0,0 +1,144 @@
+package br.ufcg.computacao.floydwarshall;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Núcleo do algoritmo de Floyd-Warshall parametrizado por um <strong>semianel</strong>.
+ * O laço triplo é sempre o mesmo: para cada intermediário {@code k}, cada par {@code (i, j)}
+ * combina {@code M[i][k]} e {@code M[k][j]} com o "produto" do semianel e acumula o resultado
+ * em {@code M[i][j]} com a "soma". A escolha das operações define o problema resolvido:
+ * </p>
+ * <ul>
+ *   <li>{@link SemianelMinSoma}: menores caminhos (mínimo, soma), usado pelo {@link FloydWarshall};</li>
+ *   <li>{@link SemianelMaxMin}: caminhos de maior gargalo (máximo, mínimo);</li>
+ *   <li>{@link SemianelMaxProduto}: caminhos mais confiáveis (máximo, produto);</li>
+ *   <li>{@link SemianelOuE}: alcançabilidade (ou, e).</li>
+ * </ul>
+ *
+ * <p>
+ * Cada semianel é uma subclasse com a matriz em tipo primitivo e as operações escritas
+ * diretamente em {@link #relaxarLinha(int, int)}. Assim a única chamada virtual ocorre uma vez
+ * por linha, e o laço interno sobre {@code j} não depende de interfaces nem de <i>boxing</i>.
+ * </p>
+ *
+ * <p>
+ * As linhas de uma mesma fase {@code k} são independentes quando nenhum ciclo melhora um valor
+ * (sem ciclos negativos no caso (mínimo, soma)), o que permite distribuí-las entre threads
+ * em {@link #calcular(boolean)}.
+ * </p>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+public abstract class MotorSemianel {
+
+    /** Número de vértices. */
+    protected final int n;
+
+    /** Matriz de sucessores para reconstrução de caminhos, ou {@code null} se o semianel não a mantém. */
+    protected final int[][] sucessores;
+
+    /**
+     * @param n número de vértices.
+     * @param sucessores matriz de sucessores, ou {@code null}.
+     */
+    protected MotorSemianel(int n, int[][] sucessores) {
+        this.n = n;
+        this.sucessores = sucessores;
+    }
+
+    /**
+     * Executa o laço triplo sequencialmente.
+     */
+    public void calcular() {
+        calcular(false);
+    }
+
+    /**
+     * Executa o laço triplo.
+     *
+     * @param paralelo {@code true} para distribuir as linhas de cada fase entre as threads do pool comum.
+     */
+    public void calcular(boolean paralelo) {
+        calcularFases(0, n, paralelo);
+    }
+
+    /**
+     * Executa apenas as fases {@code k} do intervalo {@code [inicio, fim)}. Executar todos os
+     * intervalos consecutivos de {@code 0} a {@code n} equivale a {@link #calcular(boolean)},
+     * o que permite interromper e retomar o cálculo entre fases.
+     *
+     * @param inicio a primeira fase a executar.
+     * @param fim a fase seguinte à última a executar.
+     * @param paralelo {@code true} para distribuir as linhas de cada fase entre as threads do pool comum.
+     */
+    public void calcularFases(int inicio, int fim, boolean paralelo) {
+        for (int k = inicio; k < fim; k++) { // nó intermediário
+            final int intermediario = k;
+            if (paralelo)
+                IntStream.range(0, n).parallel().forEach(i -> relaxarLinha(i, intermediario));
+            else
+                for (int i = 0; i < n; i++) // nó de saída
+                    relaxarLinha(i, k);
+        }
+    }
+
+    /**
+     * Atualiza a linha {@code i} usando {@code k} como nó intermediário.
+     *
+     * @param i a linha (nó de saída).
+     * @param k o nó intermediário.
+     */
+    protected abstract void relaxarLinha(int i, int k);
+
+    /**
+     * Preenche a matriz de sucessores com o destino de cada aresta direta.
+     *
+     * @param existeAresta indica, para cada par, se há aresta direta.
+     * @return a matriz de sucessores inicial.
+     */
+    static int[][] sucessoresIniciais(boolean[][] existeAresta) {
+        int n = existeAresta.length;
+        int[][] sucessores = new int[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                sucessores[i][j] = (existeAresta[i][j] && i != j) ? j : -1;
+        return sucessores;
+    }
+
+    /**
+     * Reconstrói e retorna o caminho ótimo do vértice {@code u} para o vértice {@code v}.
+     *
+     * @param u O vértice de origem.
+     * @param v O vértice de destino.
+     * @return Uma lista de inteiros que representa o caminho. Se não houver caminho, retorna
+     * uma lista vazia.
+     * @throws UnsupportedOperationException se o semianel não mantém matriz de sucessores.
+     */
+    public List<Integer> getCaminho(int u, int v) {
+        if (sucessores == null)
+            throw new UnsupportedOperationException("Este semianel não reconstrói caminhos.");
+
+        List<Integer> caminho = new ArrayList<>();
+        if (sucessores[u][v] == -1) return caminho; //sem caminho
+
+        caminho.add(u);
+        while (u != v){
+            u = sucessores[u][v];
+            caminho.add(u);
+        }
+
+        return caminho;
+    }
+
+    /**
+     * Retorna a matriz de sucessores.
+     *
+     * @return a matriz de sucessores, ou {@code null} se o semianel não a mantém.
+     */
+    public int[][] getSucessores() {
+        return sucessores;
+    }
+}
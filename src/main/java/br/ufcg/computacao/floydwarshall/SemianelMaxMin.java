@@ -0,0 +1,76 @@
+package br.ufcg.computacao.floydwarshall;
+
+/**
+ * Semianel (máximo, mínimo) sobre {@code int}: caminhos de maior gargalo (<i>widest path</i>).
+ * <p>
+ * O valor de um caminho é a menor capacidade entre suas arestas, e o resultado para cada par
+ * é o maior valor entre todos os caminhos. A ausência de aresta ou de caminho é representada por
+ * {@link #SEM_CAMINHO}. A diagonal não é alterada pelo algoritmo.
+ * </p>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+public final class SemianelMaxMin extends MotorSemianel {
+
+    /** Representa a ausência de aresta ou de caminho. */
+    public static final int SEM_CAMINHO = Integer.MIN_VALUE;
+
+    private final int[][] gargalos;
+
+    /**
+     * Cria o motor a partir de uma matriz de capacidades, sem alterá-la.
+     *
+     * @param capacidades capacidade de cada aresta, com {@link #SEM_CAMINHO} indicando ausência.
+     */
+    public SemianelMaxMin(int[][] capacidades) {
+        super(capacidades.length, sucessoresIniciais(arestas(capacidades)));
+        this.gargalos = new int[n][];
+        for (int i = 0; i < n; i++)
+            gargalos[i] = capacidades[i].clone();
+    }
+
+    @Override
+    protected void relaxarLinha(int i, int k) {
+        int[] linhaI = gargalos[i];
+        int ik = linhaI[k];
+        if (ik == SEM_CAMINHO || i == k) return;
+
+        int[] linhaK = gargalos[k];
+        int[] sucessoresI = sucessores[i];
+        for (int j = 0; j < n; j++) {
+            int candidato = Math.min(ik, linhaK[j]);
+            if (candidato > linhaI[j] && i != j) {
+                linhaI[j] = candidato;
+                sucessoresI[j] = sucessoresI[k];
+            }
+        }
+    }
+
+    /**
+     * Retorna o maior gargalo do vértice {@code u} para o vértice {@code v}.
+     *
+     * @param u O vértice de origem.
+     * @param v O vértice de destino.
+     * @return o gargalo, ou {@link #SEM_CAMINHO}.
+     */
+    public int getGargalo(int u, int v) {
+        return gargalos[u][v];
+    }
+
+    /**
+     * Retorna a matriz de gargalos.
+     *
+     * @return a matriz de gargalos.
+     */
+    public int[][] getGargalos() {
+        return gargalos;
+    }
+
+    private static boolean[][] arestas(int[][] matriz) {
+        boolean[][] existe = new boolean[matriz.length][matriz.length];
+        for (int i = 0; i < matriz.length; i++)
+            for (int j = 0; j < matriz.length; j++)
+                existe[i][j] = matriz[i][j] != SEM_CAMINHO;
+        return existe;
+    }
+}
@@ -0,0 +1,78 @@
+package br.ufcg.computacao.floydwarshall;
+
+/**
+ * Semianel (máximo, produto) sobre {@code double}: caminhos mais confiáveis.
+ * <p>
+ * Cada aresta tem uma probabilidade de sucesso em {@code [0, 1]}; o valor de um caminho é o
+ * produto das probabilidades e o resultado para cada par é o maior valor entre todos os
+ * caminhos. O valor {@code 0.0} representa a ausência de aresta ou de caminho. A diagonal
+ * não é alterada pelo algoritmo.
+ * </p>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+public final class SemianelMaxProduto extends MotorSemianel {
+
+    private final double[][] confiabilidades;
+
+    /**
+     * Cria o motor a partir de uma matriz de probabilidades, sem alterá-la.
+     *
+     * @param probabilidades probabilidade de cada aresta, com {@code 0.0} indicando ausência.
+     * @throws IllegalArgumentException se alguma probabilidade estiver fora de {@code [0, 1]}.
+     */
+    public SemianelMaxProduto(double[][] probabilidades) {
+        super(probabilidades.length, sucessoresIniciais(arestas(probabilidades)));
+        this.confiabilidades = new double[n][];
+        for (int i = 0; i < n; i++)
+            confiabilidades[i] = probabilidades[i].clone();
+    }
+
+    @Override
+    protected void relaxarLinha(int i, int k) {
+        double[] linhaI = confiabilidades[i];
+        double ik = linhaI[k];
+        if (ik == 0.0 || i == k) return;
+
+        double[] linhaK = confiabilidades[k];
+        int[] sucessoresI = sucessores[i];
+        for (int j = 0; j < n; j++) {
+            double candidato = ik * linhaK[j];
+            if (candidato > linhaI[j] && i != j) {
+                linhaI[j] = candidato;
+                sucessoresI[j] = sucessoresI[k];
+            }
+        }
+    }
+
+    /**
+     * Retorna a maior confiabilidade de um caminho do vértice {@code u} para o vértice {@code v}.
+     *
+     * @param u O vértice de origem.
+     * @param v O vértice de destino.
+     * @return a confiabilidade, ou {@code 0.0} se não houver caminho.
+     */
+    public double getConfiabilidade(int u, int v) {
+        return confiabilidades[u][v];
+    }
+
+    /**
+     * Retorna a matriz de confiabilidades.
+     *
+     * @return a matriz de confiabilidades.
+     */
+    public double[][] getConfiabilidades() {
+        return confiabilidades;
+    }
+
+    private static boolean[][] arestas(double[][] matriz) {
+        boolean[][] existe = new boolean[matriz.length][matriz.length];
+        for (int i = 0; i < matriz.length; i++)
+            for (int j = 0; j < matriz.length; j++) {
+                if (!(matriz[i][j] >= 0.0 && matriz[i][j] <= 1.0))
+                    throw new IllegalArgumentException("Probabilidade fora de [0, 1]: " + matriz[i][j]);
+                existe[i][j] = matriz[i][j] != 0.0;
+            }
+        return existe;
+    }
+}
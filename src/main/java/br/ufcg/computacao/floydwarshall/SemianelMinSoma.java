@@ -0,0 +1,76 @@
+package br.ufcg.computacao.floydwarshall;
+
+/**
+ * Semianel (mínimo, soma) sobre {@code int}: menores caminhos entre todos os pares.
+ * <p>
+ * A ausência de caminho é representada por {@link FloydWarshall#INFINITO}. É a especialização
+ * usada por {@link FloydWarshall#calcularDistancias()}.
+ * </p>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+public final class SemianelMinSoma extends MotorSemianel {
+
+    private static final int INFINITO = FloydWarshall.INFINITO;
+
+    private final int[][] distancias;
+
+    /**
+     * Cria o motor a partir de uma matriz de adjacência, sem alterá-la.
+     *
+     * @param matrizAdjacencia pesos das arestas, com {@link FloydWarshall#INFINITO} indicando ausência.
+     */
+    public SemianelMinSoma(int[][] matrizAdjacencia) {
+        this(copiar(matrizAdjacencia), sucessoresIniciais(arestas(matrizAdjacencia)));
+    }
+
+    /**
+     * Cria o motor operando diretamente sobre as matrizes fornecidas.
+     *
+     * @param distancias matriz de distâncias, atualizada no lugar.
+     * @param sucessores matriz de sucessores, atualizada no lugar.
+     */
+    SemianelMinSoma(int[][] distancias, int[][] sucessores) {
+        super(distancias.length, sucessores);
+        this.distancias = distancias;
+    }
+
+    @Override
+    protected void relaxarLinha(int i, int k) {
+        int[] linhaI = distancias[i];
+        int ik = linhaI[k];
+        if (ik == INFINITO) return;
+
+        int[] linhaK = distancias[k];
+        int[] sucessoresI = sucessores[i];
+        for (int j = 0; j < n; j++) // nó de destino
+            if (linhaK[j] != INFINITO && ik + linhaK[j] < linhaI[j]) {
+                linhaI[j] = ik + linhaK[j]; // atualiza a distância
+                sucessoresI[j] = sucessoresI[k]; //guarda o nó intermediário
+            }
+    }
+
+    /**
+     * Retorna a matriz de distâncias mínimas.
+     *
+     * @return a matriz de distâncias.
+     */
+    public int[][] getDistancias() {
+        return distancias;
+    }
+
+    private static int[][] copiar(int[][] matriz) {
+        int[][] copia = new int[matriz.length][];
+        for (int i = 0; i < matriz.length; i++)
+            copia[i] = matriz[i].clone();
+        return copia;
+    }
+
+    private static boolean[][] arestas(int[][] matriz) {
+        boolean[][] existe = new boolean[matriz.length][matriz.length];
+        for (int i = 0; i < matriz.length; i++)
+            for (int j = 0; j < matriz.length; j++)
+                existe[i][j] = matriz[i][j] != INFINITO;
+        return existe;
+    }
+}
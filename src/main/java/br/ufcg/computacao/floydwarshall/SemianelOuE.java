@@ -0,0 +1,52 @@
+package br.ufcg.computacao.floydwarshall;
+
+/**
+ * Semianel (ou, e) sobre {@code boolean}: alcançabilidade entre todos os pares.
+ * <p>
+ * Para grafos grandes, {@link FechoTransitivo} resolve o mesmo problema com 64 vértices
+ * por operação; esta especialização mantém a matriz booleana e a reconstrução de caminhos.
+ * </p>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+public final class SemianelOuE extends MotorSemianel {
+
+    private final boolean[][] alcanca;
+
+    /**
+     * Cria o motor a partir de uma matriz booleana de adjacência, sem alterá-la.
+     *
+     * @param adjacencia {@code adjacencia[i][j]} indica a aresta de i para j.
+     */
+    public SemianelOuE(boolean[][] adjacencia) {
+        super(adjacencia.length, sucessoresIniciais(adjacencia));
+        this.alcanca = new boolean[n][];
+        for (int i = 0; i < n; i++)
+            alcanca[i] = adjacencia[i].clone();
+    }
+
+    @Override
+    protected void relaxarLinha(int i, int k) {
+        boolean[] linhaI = alcanca[i];
+        if (!linhaI[k] || i == k) return;
+
+        boolean[] linhaK = alcanca[k];
+        int[] sucessoresI = sucessores[i];
+        for (int j = 0; j < n; j++)
+            if (linhaK[j] && !linhaI[j]) {
+                linhaI[j] = true;
+                sucessoresI[j] = sucessoresI[k];
+            }
+    }
+
+    /**
+     * Verifica se existe caminho do vértice {@code u} para o vértice {@code v}.
+     *
+     * @param u O vértice de origem.
+     * @param v O vértice de destino.
+     * @return {@code true} se {@code v} é alcançável a partir de {@code u}.
+     */
+    public boolean alcanca(int u, int v) {
+        return alcanca[u][v];
+    }
+}
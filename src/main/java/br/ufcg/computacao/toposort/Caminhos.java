@@ -0,0 +1,110 @@
+package br.ufcg.computacao.toposort;
+
+/**
+ * Resultado de um cálculo de caminhos em um DAG ponderado ({@link CaminhosEmDAG}).
+ * 
+ * <p>Para cada vértice {@code v}, {@code getDistancias()[v]} é o peso do melhor caminho
+ * (menor ou maior, conforme o cálculo) que termina em {@code v}, e {@code getPais()[v]}
+ * é o vértice anterior nesse caminho, ou {@code -1} se {@code v} é o início do caminho
+ * ou não é alcançável. Vértices inalcançáveis têm distância {@link Long#MAX_VALUE} nos
+ * menores caminhos e {@link Long#MIN_VALUE} nos maiores.</p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ */
+public class Caminhos {
+    
+    private final long[] distancias;
+    private final int[] pais;
+    private final long inalcancavel;
+    
+    Caminhos(long[] distancias, int[] pais, long inalcancavel) {
+        this.distancias = distancias;
+        this.pais = pais;
+        this.inalcancavel = inalcancavel;
+    }
+    
+    /**
+     * Retorna o peso do melhor caminho até cada vértice.
+     * 
+     * @return vetor de distâncias indexado pelo vértice
+     */
+    public long[] getDistancias() {
+        return distancias;
+    }
+    
+    /**
+     * Retorna o predecessor de cada vértice no melhor caminho, para reconstrução.
+     * 
+     * @return vetor de pais indexado pelo vértice, com {@code -1} nos inícios e nos inalcançáveis
+     */
+    public int[] getPais() {
+        return pais;
+    }
+    
+    /**
+     * Retorna o peso do melhor caminho até um vértice.
+     * 
+     * @param v o vértice
+     * @return a distância, ou o marcador de inalcançável
+     */
+    public long getDistancia(int v) {
+        validarVertice(v);
+        return distancias[v];
+    }
+    
+    /**
+     * Verifica se existe caminho até o vértice.
+     * 
+     * @param v o vértice
+     * @return true se o vértice é alcançável
+     */
+    public boolean isAlcancavel(int v) {
+        validarVertice(v);
+        return distancias[v] != inalcancavel;
+    }
+    
+    /**
+     * Reconstrói o melhor caminho até um vértice, seguindo os pais.
+     * 
+     * @param v o vértice final
+     * @return os vértices do caminho, do início até {@code v}, ou vetor vazio se {@code v}
+     *         não é alcançável
+     */
+    public int[] getCaminho(int v) {
+        if (!isAlcancavel(v)) {
+            return new int[0];
+        }
+        int tamanho = 0;
+        for (int u = v; u != -1; u = pais[u]) {
+            tamanho++;
+        }
+        int[] caminho = new int[tamanho];
+        for (int u = v; u != -1; u = pais[u]) {
+            caminho[--tamanho] = u;
+        }
+        return caminho;
+    }
+    
+    /**
+     * Retorna o vértice alcançável com a maior distância. Nos maiores caminhos a partir
+     * de todos os vértices, é o fim do caminho crítico.
+     * 
+     * @return o vértice mais distante, ou {@code -1} se nenhum for alcançável
+     */
+    public int getVerticeMaisDistante() {
+        int melhor = -1;
+        for (int v = 0; v < distancias.length; v++) {
+            if (distancias[v] != inalcancavel && (melhor == -1 || distancias[v] > distancias[melhor])) {
+                melhor = v;
+            }
+        }
+        return melhor;
+    }
+    
+    private void validarVertice(int v) {
+        if (v < 0 || v >= distancias.length) {
+            throw new IllegalArgumentException("Vértice inválido: " + v);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Arrays;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Menores e maiores caminhos em um grafo direcionado acíclico ponderado, em tempo linear.
+ * 
+ * <p>Em um DAG, basta relaxar as arestas de cada vértice uma única vez, seguindo uma
+ * ordenação topológica: quando um vértice é processado, todos os seus predecessores já
+ * foram, então a sua distância já é definitiva. Isso custa $O(V + E)$, contra
+ * $O((V + E) \log V)$ do Dijkstra e $O(V^3)$ do Floyd-Warshall, e aceita pesos negativos.
+ * O maior caminho é obtido da mesma forma, trocando a comparação.</p>
+ * 
+ * <p>A ordem é calculada uma vez na construção, com {@link OrdenacaoTopologica#ordenarIterativo()};
+ * arestas adicionadas ao grafo depois disso não são consideradas. O caminho crítico é o
+ * maior caminho entre quaisquer dois vértices, calculado com todos os vértices como
+ * possíveis inícios.</p>
+ * 
+ * <p>Baseado em:
+ * <ul>
+ *   <li>Cormen, T. H., Leiserson, C. E., Rivest, R. L., & Stein, C. (2009). Introduction to
+ *       Algorithms (3ª ed.). MIT Press. Seção 24.2: Single-source shortest paths in directed
+ *       acyclic graphs.</li>
+ * </ul></p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ */
+public class CaminhosEmDAG {
+    
+    private final Grafo grafo;
+    
+    // Ordenação topológica e posição de cada vértice nela
+    private final int[] ordem;
+    private final int[] posicao;
+    
+    /**
+     * Construtor que calcula a ordenação topológica do grafo.
+     * 
+     * @param grafo o grafo direcionado acíclico, possivelmente ponderado
+     * @throws IllegalArgumentException se o grafo contiver ciclos
+     */
+    public CaminhosEmDAG(Grafo grafo) {
+        this.grafo = grafo;
+        this.ordem = new OrdenacaoTopologica(grafo).ordenarIterativo();
+        this.posicao = new int[ordem.length];
+        for (int i = 0; i < ordem.length; i++) {
+            posicao[ordem[i]] = i;
+        }
+    }
+    
+    /**
+     * Calcula os menores caminhos a partir de uma origem.
+     * 
+     * @param origem o vértice de origem
+     * @return as distâncias e os pais de cada vértice
+     * @throws IllegalArgumentException se a origem for inválida
+     */
+    public Caminhos menoresCaminhos(int origem) {
+        validarVertice(origem);
+        return relaxar(origem, false);
+    }
+    
+    /**
+     * Calcula os maiores caminhos a partir de uma origem.
+     * 
+     * @param origem o vértice de origem
+     * @return as distâncias e os pais de cada vértice
+     * @throws IllegalArgumentException se a origem for inválida
+     */
+    public Caminhos maioresCaminhos(int origem) {
+        validarVertice(origem);
+        return relaxar(origem, true);
+    }
+    
+    /**
+     * Calcula, para cada vértice, o maior caminho que termina nele, partindo de qualquer
+     * vértice. O fim do caminho crítico é {@link Caminhos#getVerticeMaisDistante()}.
+     * 
+     * @return as distâncias e os pais de cada vértice
+     */
+    public Caminhos maioresCaminhos() {
+        return relaxar(-1, true);
+    }
+    
+    /**
+     * Retorna o caminho crítico: o caminho de maior peso do grafo.
+     * 
+     * @return os vértices do caminho crítico, ou vetor vazio se o grafo não tiver vértices
+     */
+    public int[] caminhoCritico() {
+        Caminhos caminhos = maioresCaminhos();
+        int fim = caminhos.getVerticeMaisDistante();
+        return fim == -1 ? new int[0] : caminhos.getCaminho(fim);
+    }
+    
+    /**
+     * Retorna a ordenação topológica usada nos cálculos.
+     * 
+     * @return os vértices em ordem topológica
+     */
+    public int[] getOrdem() {
+        return ordem.clone();
+    }
+    
+    /**
+     * Relaxa as arestas de cada vértice em ordem topológica.
+     * 
+     * @param origem o vértice de origem, ou {@code -1} para partir de todos os vértices
+     * @param maior {@code true} para maiores caminhos, {@code false} para menores
+     */
+    private Caminhos relaxar(int origem, boolean maior) {
+        int n = ordem.length;
+        long inalcancavel = maior ? Long.MIN_VALUE : Long.MAX_VALUE;
+        long[] distancias = new long[n];
+        int[] pais = new int[n];
+        Arrays.fill(pais, -1);
+        
+        int inicio;
+        if (origem == -1) {
+            // todos os vértices podem iniciar um caminho, com peso 0
+            inicio = 0;
+        } else {
+            // vértices antes da origem na ordem não são alcançáveis a partir dela
+            Arrays.fill(distancias, inalcancavel);
+            distancias[origem] = 0;
+            inicio = posicao[origem];
+        }
+        
+        for (int i = inicio; i < n; i++) {
+            int v = ordem[i];
+            long distancia = distancias[v];
+            if (distancia == inalcancavel) {
+                continue;
+            }
+            int grau = grafo.getGrauSaida(v);
+            for (int j = 0; j < grau; j++) {
+                int w = grafo.getAdjacente(v, j);
+                long candidata = distancia + grafo.getPeso(v, j);
+                if (maior ? candidata > distancias[w] : candidata < distancias[w]) {
+                    distancias[w] = candidata;
+                    pais[w] = v;
+                }
+            }
+        }
+        return new Caminhos(distancias, pais, inalcancavel);
+    }
+    
+    private void validarVertice(int v) {
+        if (v < 0 || v >= ordem.length) {
+            throw new IllegalArgumentException("Vértice inválido: " + v);
+        }
+    }
+}
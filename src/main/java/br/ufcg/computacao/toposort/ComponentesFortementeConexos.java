@@ -0,0 +1,670 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Cálculo das componentes fortemente conexas (CFCs) de um grafo direcionado e do
+ * grafo de condensação, para grafos que podem conter ciclos.
+ * 
+ * <p>No modo sequencial é usado o algoritmo de Tarjan em versão iterativa, com pilha
+ * explícita e cursor de arestas por vértice, em uma única passada $O(V + E)$. O
+ * algoritmo emite as componentes em ordem topológica inversa do grafo de condensação;
+ * por isso os identificadores são atribuídos de trás para frente e já saem em ordem
+ * topológica: toda aresta da condensação vai de uma componente de identificador menor
+ * para uma de identificador maior.</p>
+ * 
+ * <p>No modo paralelo é usado o algoritmo <i>forward-backward</i> (FW-BW): escolhe-se um
+ * pivô, calculam-se os vértices alcançáveis a partir dele e os que o alcançam; a
+ * interseção é a CFC do pivô, e os três restos são subproblemas independentes,
+ * resolvidos em paralelo com {@link RecursiveAction}. Antes de cada divisão, vértices
+ * sem arestas de entrada ou de saída dentro do subproblema são removidos como CFCs
+ * unitárias (<i>trimming</i>), o que resolve as partes acíclicas em tempo linear. Ao
+ * final, as componentes são renumeradas em ordem topológica pelo algoritmo de Kahn.</p>
+ * 
+ * <p>A condensação é devolvida em formato CSR: os sucessores da componente {@code c}
+ * são {@code getDestinosCondensacao()[getInicioCondensacao()[c] .. getInicioCondensacao()[c + 1])},
+ * sem repetições.</p>
+ * 
+ * <p>Referências:
+ * <ul>
+ *   <li>Tarjan, R. E. (1972). Depth-First Search and Linear Graph Algorithms.
+ *       SIAM Journal on Computing, 1(2), 146-160.</li>
+ *   <li>Fleischer, L. K., Hendrickson, B., & Pinar, A. (2000). On Identifying Strongly
+ *       Connected Components in Parallel. IPDPS Workshops.</li>
+ * </ul></p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ */
+public class ComponentesFortementeConexos {
+    
+    // Subproblemas menores que isso não são divididos em novas tarefas paralelas
+    private static final int LIMIAR_PARALELO = 1 << 12;
+    
+    private final Grafo grafo;
+    private final int n;
+    
+    // Componente de cada vértice, em ordem topológica da condensação
+    private int[] componente;
+    private int numComponentes;
+    
+    // Condensação em formato CSR
+    private int[] inicioCondensacao;
+    private int[] destinosCondensacao;
+    
+    /**
+     * Calcula as componentes com o algoritmo de Tarjan iterativo.
+     * 
+     * @param grafo o grafo direcionado
+     */
+    public ComponentesFortementeConexos(Grafo grafo) {
+        this(grafo, false);
+    }
+    
+    /**
+     * Calcula as componentes.
+     * 
+     * @param grafo o grafo direcionado
+     * @param paralelo {@code true} para usar o algoritmo forward-backward em paralelo
+     */
+    public ComponentesFortementeConexos(Grafo grafo, boolean paralelo) {
+        this.grafo = grafo;
+        this.n = grafo.getNumVertices();
+        if (paralelo) {
+            new ForwardBackward().executar();
+        } else {
+            tarjan();
+        }
+        construirCondensacao();
+    }
+    
+    /**
+     * Algoritmo de Tarjan iterativo.
+     */
+    private void tarjan() {
+        componente = new int[n];
+        int[] indice = new int[n];
+        int[] menor = new int[n];
+        boolean[] naPilha = new boolean[n];
+        Arrays.fill(indice, -1);
+        
+        // Pilha de vértices das componentes em construção e pilha que substitui a recursão
+        int[] pilhaComponentes = new int[n];
+        int topoComponentes = 0;
+        int[] pilhaChamadas = new int[n];
+        int[] cursor = new int[n];
+        int contador = 0;
+        int emitidas = 0;
+        
+        for (int s = 0; s < n; s++) {
+            if (indice[s] != -1) {
+                continue;
+            }
+            int topo = 0;
+            pilhaChamadas[topo++] = s;
+            indice[s] = menor[s] = contador++;
+            pilhaComponentes[topoComponentes++] = s;
+            naPilha[s] = true;
+            
+            while (topo > 0) {
+                int v = pilhaChamadas[topo - 1];
+                if (cursor[v] < grafo.getGrauSaida(v)) {
+                    int w = grafo.getAdjacente(v, cursor[v]++);
+                    if (indice[w] == -1) {
+                        indice[w] = menor[w] = contador++;
+                        pilhaComponentes[topoComponentes++] = w;
+                        naPilha[w] = true;
+                        pilhaChamadas[topo++] = w;
+                    } else if (naPilha[w]) {
+                        menor[v] = Math.min(menor[v], indice[w]);
+                    }
+                    continue;
+                }
+                
+                // v terminou: se é raiz de uma componente, desempilha a componente inteira
+                topo--;
+                if (menor[v] == indice[v]) {
+                    int w;
+                    do {
+                        w = pilhaComponentes[--topoComponentes];
+                        naPilha[w] = false;
+                        componente[w] = emitidas;
+                    } while (w != v);
+                    emitidas++;
+                }
+                if (topo > 0) {
+                    int pai = pilhaChamadas[topo - 1];
+                    menor[pai] = Math.min(menor[pai], menor[v]);
+                }
+            }
+        }
+        
+        // Tarjan emite em ordem topológica inversa: inverte os identificadores
+        numComponentes = emitidas;
+        for (int v = 0; v < n; v++) {
+            componente[v] = emitidas - 1 - componente[v];
+        }
+    }
+    
+    /**
+     * Monta a condensação em CSR, agrupando os vértices por componente e ignorando
+     * arestas internas e repetidas.
+     */
+    private void construirCondensacao() {
+        int[] inicioMembros = new int[numComponentes + 1];
+        for (int v = 0; v < n; v++) {
+            inicioMembros[componente[v] + 1]++;
+        }
+        for (int c = 0; c < numComponentes; c++) {
+            inicioMembros[c + 1] += inicioMembros[c];
+        }
+        int[] membros = new int[n];
+        int[] proximo = Arrays.copyOf(inicioMembros, numComponentes);
+        for (int v = 0; v < n; v++) {
+            membros[proximo[componente[v]]++] = v;
+        }
+        
+        inicioCondensacao = new int[numComponentes + 1];
+        int[] destinos = new int[Math.max(16, numComponentes)];
+        int total = 0;
+        
+        // ultimaOrigem[d] == c + 1 indica que a aresta c -> d já foi registrada
+        int[] ultimaOrigem = new int[numComponentes];
+        for (int c = 0; c < numComponentes; c++) {
+            inicioCondensacao[c] = total;
+            for (int p = inicioMembros[c]; p < inicioMembros[c + 1]; p++) {
+                int v = membros[p];
+                for (int i = 0; i < grafo.getGrauSaida(v); i++) {
+                    int d = componente[grafo.getAdjacente(v, i)];
+                    if (d != c && ultimaOrigem[d] != c + 1) {
+                        ultimaOrigem[d] = c + 1;
+                        if (total == destinos.length) {
+                            destinos = Arrays.copyOf(destinos, destinos.length * 2);
+                        }
+                        destinos[total++] = d;
+                    }
+                }
+            }
+        }
+        inicioCondensacao[numComponentes] = total;
+        destinosCondensacao = Arrays.copyOf(destinos, total);
+    }
+    
+    /**
+     * Retorna a componente de cada vértice. Os identificadores vão de {@code 0} a
+     * {@code getNumComponentes() - 1} e seguem uma ordem topológica da condensação.
+     * 
+     * @return vetor com a componente de cada vértice
+     */
+    public int[] getComponentes() {
+        return componente;
+    }
+    
+    /**
+     * Retorna a componente de um vértice.
+     * 
+     * @param v o vértice
+     * @return o identificador da componente
+     */
+    public int getComponente(int v) {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException("Vértice inválido: " + v);
+        }
+        return componente[v];
+    }
+    
+    /**
+     * Retorna o número de componentes fortemente conexas.
+     * 
+     * @return número de componentes
+     */
+    public int getNumComponentes() {
+        return numComponentes;
+    }
+    
+    /**
+     * Retorna o início dos sucessores de cada componente em {@link #getDestinosCondensacao()},
+     * seguido do número de arestas da condensação.
+     * 
+     * @return vetor com {@code getNumComponentes() + 1} posições
+     */
+    public int[] getInicioCondensacao() {
+        return inicioCondensacao;
+    }
+    
+    /**
+     * Retorna os sucessores de todas as componentes na condensação, agrupados por componente.
+     * 
+     * @return vetor de destinos da condensação
+     */
+    public int[] getDestinosCondensacao() {
+        return destinosCondensacao;
+    }
+    
+    /**
+     * Retorna uma ordem topológica da condensação. Como os identificadores já seguem
+     * essa ordem, o resultado é {@code 0, 1, ..., getNumComponentes() - 1}.
+     * 
+     * @return as componentes em ordem topológica
+     */
+    public int[] getOrdemTopologica() {
+        int[] ordem = new int[numComponentes];
+        for (int c = 0; c < numComponentes; c++) {
+            ordem[c] = c;
+        }
+        return ordem;
+    }
+    
+    /**
+     * Retorna se o grafo é acíclico, ou seja, se toda componente é unitária e não há laços.
+     * 
+     * @return true se o grafo for um DAG
+     */
+    public boolean isAciclico() {
+        if (numComponentes != n) {
+            return false;
+        }
+        for (int v = 0; v < n; v++) {
+            for (int i = 0; i < grafo.getGrauSaida(v); i++) {
+                if (grafo.getAdjacente(v, i) == v) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Algoritmo forward-backward paralelo com trimming.
+     */
+    private final class ForwardBackward {
+        
+        // Grafo e grafo reverso em CSR
+        private final int[] inicioSaida = new int[n + 1];
+        private final int[] saida;
+        private final int[] inicioEntrada = new int[n + 1];
+        private final int[] entrada;
+        
+        // Subproblema atual de cada vértice. Cada subproblema recebe uma cor nova e
+        // exclusiva, e só a tarefa dona de um vértice altera sua cor; por isso uma cor
+        // lida de um vértice de outra tarefa nunca coincide com a da tarefa que lê.
+        private final int[] cor = new int[n];
+        private final AtomicInteger proximaCor = new AtomicInteger(1);
+        
+        // Marcas das buscas; cada vértice só é visitado pela tarefa dona dele
+        private final boolean[] alcancadoFrente = new boolean[n];
+        private final boolean[] alcancadoTras = new boolean[n];
+        
+        private final int[] rotulo = new int[n];
+        private final AtomicInteger proximoRotulo = new AtomicInteger();
+        
+        // Estado do Tarjan restrito a um subproblema, também particionado por vértice
+        private final int[] indice = new int[n];
+        private final int[] menor = new int[n];
+        private final int[] cursor = new int[n];
+        private final boolean[] naPilha = new boolean[n];
+        
+        ForwardBackward() {
+            int m = grafo.getNumArestas();
+            saida = new int[m];
+            entrada = new int[m];
+            for (int u = 0; u < n; u++) {
+                inicioSaida[u + 1] = inicioSaida[u] + grafo.getGrauSaida(u);
+                for (int i = 0; i < grafo.getGrauSaida(u); i++) {
+                    inicioEntrada[grafo.getAdjacente(u, i) + 1]++;
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                inicioEntrada[v + 1] += inicioEntrada[v];
+            }
+            int[] proximo = Arrays.copyOf(inicioEntrada, n);
+            for (int u = 0; u < n; u++) {
+                for (int i = 0; i < grafo.getGrauSaida(u); i++) {
+                    int v = grafo.getAdjacente(u, i);
+                    saida[inicioSaida[u] + i] = v;
+                    entrada[proximo[v]++] = u;
+                }
+            }
+        }
+        
+        void executar() {
+            int[] todos = new int[n];
+            for (int v = 0; v < n; v++) {
+                todos[v] = v;
+            }
+            ForkJoinPool.commonPool().invoke(new Subproblema(todos, 0, false));
+            
+            numComponentes = proximoRotulo.get();
+            componente = numerarEmOrdemTopologica();
+        }
+        
+        /**
+         * Renumera as componentes em ordem topológica da condensação (algoritmo de Kahn).
+         */
+        private int[] numerarEmOrdemTopologica() {
+            int k = numComponentes;
+            int[] grauEntrada = new int[k];
+            for (int u = 0; u < n; u++) {
+                for (int p = inicioSaida[u]; p < inicioSaida[u + 1]; p++) {
+                    if (rotulo[u] != rotulo[saida[p]]) {
+                        grauEntrada[rotulo[saida[p]]]++;
+                    }
+                }
+            }
+            
+            // Vértices agrupados por rótulo, para percorrer as arestas de cada componente
+            int[] inicioMembros = new int[k + 1];
+            for (int v = 0; v < n; v++) {
+                inicioMembros[rotulo[v] + 1]++;
+            }
+            for (int c = 0; c < k; c++) {
+                inicioMembros[c + 1] += inicioMembros[c];
+            }
+            int[] membros = new int[n];
+            int[] proximo = Arrays.copyOf(inicioMembros, k);
+            for (int v = 0; v < n; v++) {
+                membros[proximo[rotulo[v]]++] = v;
+            }
+            
+            int[] fila = new int[k];
+            int fim = 0;
+            for (int c = 0; c < k; c++) {
+                if (grauEntrada[c] == 0) {
+                    fila[fim++] = c;
+                }
+            }
+            int[] novoIdentificador = new int[k];
+            for (int inicio = 0; inicio < fim; inicio++) {
+                int c = fila[inicio];
+                novoIdentificador[c] = inicio;
+                for (int p = inicioMembros[c]; p < inicioMembros[c + 1]; p++) {
+                    int u = membros[p];
+                    for (int q = inicioSaida[u]; q < inicioSaida[u + 1]; q++) {
+                        int d = rotulo[saida[q]];
+                        if (d != c && --grauEntrada[d] == 0) {
+                            fila[fim++] = d;
+                        }
+                    }
+                }
+            }
+            
+            int[] resultado = new int[n];
+            for (int v = 0; v < n; v++) {
+                resultado[v] = novoIdentificador[rotulo[v]];
+            }
+            return resultado;
+        }
+        
+        /**
+         * Conjunto de vértices com a mesma cor, cujas CFCs estão contidas nele.
+         */
+        private final class Subproblema extends RecursiveAction {
+            
+            private static final long serialVersionUID = 1L;
+            
+            private final int[] vertices;
+            private final int minhaCor;
+            private final boolean sequencial;
+            
+            Subproblema(int[] vertices, int minhaCor, boolean sequencial) {
+                this.vertices = vertices;
+                this.minhaCor = minhaCor;
+                this.sequencial = sequencial;
+            }
+            
+            @Override
+            protected void compute() {
+                // Subproblemas pequenos ficam em uma pilha local, sem recursão; os grandes viram novas tarefas
+                List<Subproblema> bifurcados = new ArrayList<>();
+                ArrayDeque<Subproblema> pendentes = new ArrayDeque<>();
+                pendentes.push(this);
+                while (!pendentes.isEmpty()) {
+                    for (Subproblema filho : pendentes.pop().dividir()) {
+                        if (filho.vertices.length >= LIMIAR_PARALELO) {
+                            filho.fork();
+                            bifurcados.add(filho);
+                        } else if (filho.vertices.length > 0) {
+                            pendentes.push(filho);
+                        }
+                    }
+                }
+                for (Subproblema tarefa : bifurcados) {
+                    tarefa.join();
+                }
+            }
+            
+            /**
+             * Apara o subproblema, separa a CFC de um pivô e devolve os três subproblemas restantes.
+             * Subproblemas pequenos, ou vindos de uma divisão desequilibrada, são resolvidos
+             * diretamente pelo Tarjan restrito.
+             */
+            private Subproblema[] dividir() {
+                int[] restantes = aparar(vertices);
+                if (restantes.length == 0) {
+                    return new Subproblema[0];
+                }
+                if (sequencial || restantes.length < LIMIAR_PARALELO) {
+                    tarjanRestrito(restantes);
+                    return new Subproblema[0];
+                }
+                
+                int pivo = restantes[0];
+                buscar(pivo, restantes.length, inicioSaida, saida, alcancadoFrente);
+                buscar(pivo, restantes.length, inicioEntrada, entrada, alcancadoTras);
+                
+                int numFrente = 0;
+                int numTras = 0;
+                int numResto = 0;
+                for (int v : restantes) {
+                    if (alcancadoFrente[v] && !alcancadoTras[v]) {
+                        numFrente++;
+                    } else if (alcancadoTras[v] && !alcancadoFrente[v]) {
+                        numTras++;
+                    } else if (!alcancadoFrente[v]) {
+                        numResto++;
+                    }
+                }
+                int[] frente = new int[numFrente];
+                int[] tras = new int[numTras];
+                int[] resto = new int[numResto];
+                int rotuloPivo = proximoRotulo.getAndIncrement();
+                int corFrente = proximaCor.getAndIncrement();
+                int corTras = proximaCor.getAndIncrement();
+                int corResto = proximaCor.getAndIncrement();
+                numFrente = numTras = numResto = 0;
+                for (int v : restantes) {
+                    boolean f = alcancadoFrente[v];
+                    boolean t = alcancadoTras[v];
+                    alcancadoFrente[v] = false;
+                    alcancadoTras[v] = false;
+                    if (f && t) {
+                        cor[v] = -1; // resolvido: pertence à CFC do pivô
+                        rotulo[v] = rotuloPivo;
+                    } else if (f) {
+                        cor[v] = corFrente;
+                        frente[numFrente++] = v;
+                    } else if (t) {
+                        cor[v] = corTras;
+                        tras[numTras++] = v;
+                    } else {
+                        cor[v] = corResto;
+                        resto[numResto++] = v;
+                    }
+                }
+                // Um filho com quase todos os vértices indica que o pivô rendeu pouco (por exemplo,
+                // em uma longa cadeia de ciclos); continuar dividindo custaria O(V) por nível
+                int limite = restantes.length - restantes.length / 8;
+                return new Subproblema[] {
+                    new Subproblema(frente, corFrente, numFrente > limite),
+                    new Subproblema(tras, corTras, numTras > limite),
+                    new Subproblema(resto, corResto, numResto > limite)
+                };
+            }
+            
+            /**
+             * Algoritmo de Tarjan iterativo restrito aos vértices da cor do subproblema.
+             */
+            private void tarjanRestrito(int[] restantes) {
+                for (int v : restantes) {
+                    indice[v] = -1;
+                }
+                int[] pilhaComponentes = new int[restantes.length];
+                int topoComponentes = 0;
+                int[] pilhaChamadas = new int[restantes.length];
+                int contador = 0;
+                
+                for (int s : restantes) {
+                    if (indice[s] != -1) {
+                        continue;
+                    }
+                    int topo = 0;
+                    pilhaChamadas[topo++] = s;
+                    indice[s] = menor[s] = contador++;
+                    cursor[s] = inicioSaida[s];
+                    pilhaComponentes[topoComponentes++] = s;
+                    naPilha[s] = true;
+                    
+                    while (topo > 0) {
+                        int v = pilhaChamadas[topo - 1];
+                        if (cursor[v] < inicioSaida[v + 1]) {
+                            int w = saida[cursor[v]++];
+                            if (cor[w] != minhaCor) {
+                                continue;
+                            }
+                            if (indice[w] == -1) {
+                                indice[w] = menor[w] = contador++;
+                                cursor[w] = inicioSaida[w];
+                                pilhaComponentes[topoComponentes++] = w;
+                                naPilha[w] = true;
+                                pilhaChamadas[topo++] = w;
+                            } else if (naPilha[w]) {
+                                menor[v] = Math.min(menor[v], indice[w]);
+                            }
+                            continue;
+                        }
+                        
+                        topo--;
+                        if (menor[v] == indice[v]) {
+                            int novoRotulo = proximoRotulo.getAndIncrement();
+                            int w;
+                            do {
+                                w = pilhaComponentes[--topoComponentes];
+                                naPilha[w] = false;
+                                rotulo[w] = novoRotulo;
+                            } while (w != v);
+                        }
+                        if (topo > 0) {
+                            int pai = pilhaChamadas[topo - 1];
+                            menor[pai] = Math.min(menor[pai], menor[v]);
+                        }
+                    }
+                }
+                // Só depois de tudo rotulado, para que a cor continue válida durante a busca
+                for (int v : restantes) {
+                    cor[v] = -1;
+                }
+            }
+            
+            /**
+             * Remove repetidamente os vértices sem entrada ou sem saída dentro do
+             * subproblema, rotulando cada um como uma CFC unitária.
+             * 
+             * @return os vértices que continuam no subproblema
+             */
+            private int[] aparar(int[] vertices) {
+                int tamanho = vertices.length;
+                int[] grauEntrada = new int[tamanho];
+                int[] grauSaida = new int[tamanho];
+                // posição local de cada vértice, guardada temporariamente em 'rotulo'
+                for (int i = 0; i < tamanho; i++) {
+                    rotulo[vertices[i]] = i;
+                }
+                for (int i = 0; i < tamanho; i++) {
+                    int v = vertices[i];
+                    for (int p = inicioSaida[v]; p < inicioSaida[v + 1]; p++) {
+                        int w = saida[p];
+                        if (cor[w] == minhaCor) {
+                            grauSaida[i]++;
+                            grauEntrada[rotulo[w]]++;
+                        }
+                    }
+                }
+                
+                int[] fila = new int[tamanho];
+                boolean[] removido = new boolean[tamanho];
+                int fim = 0;
+                for (int i = 0; i < tamanho; i++) {
+                    if (grauEntrada[i] == 0 || grauSaida[i] == 0) {
+                        removido[i] = true;
+                        fila[fim++] = i;
+                    }
+                }
+                for (int inicio = 0; inicio < fim; inicio++) {
+                    int v = vertices[fila[inicio]];
+                    for (int p = inicioSaida[v]; p < inicioSaida[v + 1]; p++) {
+                        int w = saida[p];
+                        if (cor[w] == minhaCor) {
+                            int j = rotulo[w];
+                            if (!removido[j] && --grauEntrada[j] == 0) {
+                                removido[j] = true;
+                                fila[fim++] = j;
+                            }
+                        }
+                    }
+                    for (int p = inicioEntrada[v]; p < inicioEntrada[v + 1]; p++) {
+                        int w = entrada[p];
+                        if (cor[w] == minhaCor) {
+                            int j = rotulo[w];
+                            if (!removido[j] && --grauSaida[j] == 0) {
+                                removido[j] = true;
+                                fila[fim++] = j;
+                            }
+                        }
+                    }
+                }
+                
+                int[] restantes = new int[tamanho - fim];
+                int k = 0;
+                for (int i = 0; i < tamanho; i++) {
+                    if (!removido[i]) {
+                        restantes[k++] = vertices[i];
+                    }
+                }
+                for (int i = 0; i < fim; i++) {
+                    int v = vertices[fila[i]];
+                    cor[v] = -1;
+                    rotulo[v] = proximoRotulo.getAndIncrement();
+                }
+                return restantes;
+            }
+            
+            /**
+             * Busca iterativa a partir do pivô, restrita aos vértices da cor do subproblema.
+             */
+            private void buscar(int pivo, int tamanho, int[] inicio, int[] destinos, boolean[] alcancado) {
+                int[] pilha = new int[tamanho];
+                int topo = 0;
+                pilha[topo++] = pivo;
+                alcancado[pivo] = true;
+                while (topo > 0) {
+                    int v = pilha[--topo];
+                    for (int p = inicio[v]; p < inicio[v + 1]; p++) {
+                        int w = destinos[p];
+                        if (cor[w] == minhaCor && !alcancado[w]) {
+                            alcancado[w] = true;
+                            pilha[topo++] = w;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Executor de tarefas com dependências descritas por um grafo acíclico direcionado.
+ * 
+ * <p>Cada vértice do {@link Grafo} é uma tarefa, e uma aresta {@code u -> v} indica que
+ * {@code v} depende de {@code u}. Cada tarefa guarda um contador atômico com o número de
+ * predecessores ainda não concluídos; quando o último predecessor termina, o contador
+ * chega a zero e a tarefa é enviada imediatamente ao {@link Executor}, sem esperar
+ * o restante do seu nível. O executor é configurável: o padrão é o
+ * {@link ForkJoinPool#commonPool()}, e em Java 21 ou superior pode-se usar
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}.</p>
+ * 
+ * <p>Se uma tarefa lançar uma exceção, ou se {@link Execucao#cancelar()} for chamado,
+ * nenhuma tarefa nova é iniciada; as que já estão em execução terminam normalmente e,
+ * em seguida, a execução é encerrada com a falha (ou com o cancelamento). O tempo de
+ * cada tarefa é medido, o que permite calcular o caminho crítico: a cadeia de
+ * dependências de maior duração, que limita o tempo total por mais threads que haja.</p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ */
+public class ExecutorDeTarefas {
+    
+    /**
+     * Trabalho associado a um vértice.
+     */
+    @FunctionalInterface
+    public interface Tarefa {
+        
+        /**
+         * Executa a tarefa.
+         * 
+         * @throws Exception em caso de falha, que encerra a execução
+         */
+        void executar() throws Exception;
+    }
+    
+    /**
+     * Situação de uma tarefa ao fim da execução.
+     */
+    public enum Estado {
+        /** A tarefa não chegou a ser iniciada. */
+        NAO_EXECUTADA,
+        /** A tarefa terminou sem erros. */
+        CONCLUIDA,
+        /** A tarefa lançou uma exceção. */
+        FALHOU,
+        /** A tarefa foi liberada depois de uma falha ou cancelamento e não foi executada. */
+        CANCELADA
+    }
+    
+    private final Grafo grafo;
+    private final Executor executor;
+    
+    // Ordem topológica, calculada uma vez e usada no caminho crítico
+    private final int[] ordem;
+    
+    /**
+     * Construtor que usa o {@link ForkJoinPool#commonPool()}.
+     * 
+     * @param grafo o grafo de dependências entre as tarefas
+     * @throws IllegalArgumentException se o grafo contiver ciclos
+     */
+    public ExecutorDeTarefas(Grafo grafo) {
+        this(grafo, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Construtor que permite escolher o executor.
+     * 
+     * @param grafo o grafo de dependências entre as tarefas
+     * @param executor o executor onde as tarefas serão executadas
+     * @throws IllegalArgumentException se o grafo contiver ciclos
+     */
+    public ExecutorDeTarefas(Grafo grafo, Executor executor) {
+        this.grafo = grafo;
+        this.executor = executor;
+        this.ordem = new OrdenacaoTopologica(grafo).ordenarIterativo();
+    }
+    
+    /**
+     * Inicia a execução das tarefas e retorna sem esperar o término.
+     * 
+     * @param tarefas a tarefa de cada vértice
+     * @return o acompanhamento da execução
+     * @throws IllegalArgumentException se o número de tarefas for diferente do de vértices
+     */
+    public Execucao iniciar(Tarefa[] tarefas) {
+        if (tarefas.length != grafo.getNumVertices()) {
+            throw new IllegalArgumentException("Deve haver uma tarefa por vértice: " + tarefas.length);
+        }
+        Execucao execucao = new Execucao(tarefas);
+        execucao.iniciar();
+        return execucao;
+    }
+    
+    /**
+     * Executa as tarefas e espera o término.
+     * 
+     * @param tarefas a tarefa de cada vértice
+     * @return o acompanhamento da execução, já concluída
+     * @throws ExecutionException se alguma tarefa falhar; a causa é a exceção da primeira falha
+     * @throws InterruptedException se a thread for interrompida enquanto espera
+     */
+    public Execucao executar(Tarefa[] tarefas) throws ExecutionException, InterruptedException {
+        Execucao execucao = iniciar(tarefas);
+        execucao.aguardar();
+        return execucao;
+    }
+    
+    /**
+     * Acompanhamento de uma execução: espera, cancelamento, estados e tempos.
+     */
+    public class Execucao {
+        
+        private final Tarefa[] tarefas;
+        private final int n;
+        
+        // Predecessores ainda não concluídos de cada tarefa
+        private final AtomicIntegerArray pendentes;
+        
+        // Tarefas enviadas ao executor e ainda não terminadas
+        private final AtomicInteger ativas = new AtomicInteger();
+        private final AtomicInteger concluidas = new AtomicInteger();
+        
+        private final AtomicReference<Throwable> falha = new AtomicReference<>();
+        private volatile boolean parada;
+        
+        private final CompletableFuture<Void> conclusao = new CompletableFuture<>();
+        
+        private final Estado[] estados;
+        private final long[] inicio;
+        private final long[] fim;
+        private long instanteInicial;
+        private volatile long instanteFinal;
+        private final AtomicBoolean encerrada = new AtomicBoolean();
+        
+        Execucao(Tarefa[] tarefas) {
+            this.tarefas = tarefas;
+            this.n = tarefas.length;
+            this.pendentes = new AtomicIntegerArray(n);
+            this.estados = new Estado[n];
+            this.inicio = new long[n];
+            this.fim = new long[n];
+            Arrays.fill(estados, Estado.NAO_EXECUTADA);
+        }
+        
+        private void iniciar() {
+            for (int u = 0; u < n; u++) {
+                for (int i = 0; i < grafo.getGrauSaida(u); i++) {
+                    pendentes.incrementAndGet(grafo.getAdjacente(u, i));
+                }
+            }
+            instanteInicial = System.nanoTime();
+            if (n == 0) {
+                encerrar();
+                return;
+            }
+            
+            // Separa as raízes antes de enviar a primeira: depois disso os contadores já
+            // são alterados pelas tarefas, e o de ativas não pode chegar a zero antes da hora
+            int[] raizes = new int[n];
+            int numRaizes = 0;
+            for (int v = 0; v < n; v++) {
+                if (pendentes.get(v) == 0) {
+                    raizes[numRaizes++] = v;
+                }
+            }
+            ativas.set(numRaizes);
+            for (int i = 0; i < numRaizes; i++) {
+                enviar(raizes[i]);
+            }
+        }
+        
+        private void enviar(int v) {
+            try {
+                executor.execute(() -> rodar(v));
+            } catch (RuntimeException e) { // por exemplo, RejectedExecutionException
+                registrarFalha(e);
+                terminar(v);
+            }
+        }
+        
+        private void rodar(int v) {
+            if (parada) {
+                estados[v] = Estado.CANCELADA;
+                terminar(v);
+                return;
+            }
+            inicio[v] = System.nanoTime();
+            try {
+                tarefas[v].executar();
+                fim[v] = System.nanoTime();
+                estados[v] = Estado.CONCLUIDA;
+            } catch (Throwable e) {
+                fim[v] = System.nanoTime();
+                estados[v] = Estado.FALHOU;
+                registrarFalha(e);
+            }
+            
+            // Libera os sucessores antes de decrementar as ativas
+            if (estados[v] == Estado.CONCLUIDA && !parada) {
+                for (int i = 0; i < grafo.getGrauSaida(v); i++) {
+                    int sucessor = grafo.getAdjacente(v, i);
+                    if (pendentes.decrementAndGet(sucessor) == 0) {
+                        ativas.incrementAndGet();
+                        enviar(sucessor);
+                    }
+                }
+                if (concluidas.incrementAndGet() == n) {
+                    encerrar();
+                }
+            }
+            terminar(v);
+        }
+        
+        private void terminar(int v) {
+            if (ativas.decrementAndGet() == 0 && parada) {
+                encerrar();
+            }
+        }
+        
+        private void registrarFalha(Throwable e) {
+            falha.compareAndSet(null, e);
+            parada = true;
+        }
+        
+        /**
+         * Registra o instante final e completa a conclusão. O último {@code terminar} e um
+         * {@code cancelar} podem chegar aqui ao mesmo tempo; o CAS garante que só um deles
+         * registra o instante e completa a conclusão.
+         */
+        private void encerrar() {
+            if (!encerrada.compareAndSet(false, true)) {
+                return;
+            }
+            instanteFinal = System.nanoTime();
+            Throwable causa = falha.get();
+            if (causa != null) {
+                conclusao.completeExceptionally(causa);
+            } else if (parada) {
+                conclusao.cancel(false);
+            } else {
+                conclusao.complete(null);
+            }
+        }
+        
+        /**
+         * Solicita o cancelamento: nenhuma tarefa nova é iniciada, e a execução termina
+         * assim que as tarefas em andamento concluírem.
+         */
+        public void cancelar() {
+            parada = true;
+            if (ativas.get() == 0) {
+                encerrar();
+            }
+        }
+        
+        /**
+         * Espera o término da execução.
+         * 
+         * @throws ExecutionException se alguma tarefa falhar; a causa é a exceção da primeira falha
+         * @throws CancellationException se a execução tiver sido cancelada
+         * @throws InterruptedException se a thread for interrompida enquanto espera
+         */
+        public void aguardar() throws ExecutionException, InterruptedException {
+            conclusao.get();
+        }
+        
+        /**
+         * Retorna o futuro que é completado ao término da execução, para composição
+         * com outras etapas assíncronas.
+         * 
+         * @return o futuro da execução
+         */
+        public CompletableFuture<Void> getConclusao() {
+            return conclusao;
+        }
+        
+        /**
+         * Retorna o estado de uma tarefa.
+         * 
+         * @param v o vértice da tarefa
+         * @return o estado da tarefa
+         */
+        public Estado getEstado(int v) {
+            return estados[v];
+        }
+        
+        /**
+         * Retorna a duração de uma tarefa, em nanossegundos.
+         * 
+         * @param v o vértice da tarefa
+         * @return a duração, ou {@code 0} se a tarefa não foi executada
+         * @throws IllegalStateException se a execução ainda não terminou
+         */
+        public long getDuracao(int v) {
+            exigirTermino();
+            return estados[v] == Estado.CONCLUIDA || estados[v] == Estado.FALHOU ? fim[v] - inicio[v] : 0;
+        }
+        
+        /**
+         * Retorna o tempo decorrido entre o início e o término da execução, em nanossegundos.
+         * 
+         * @return o tempo total
+         * @throws IllegalStateException se a execução ainda não terminou
+         */
+        public long getTempoTotal() {
+            exigirTermino();
+            return instanteFinal - instanteInicial;
+        }
+        
+        /**
+         * Retorna a soma das durações de todas as tarefas, em nanossegundos. A razão entre
+         * o trabalho total e a duração do caminho crítico é o paralelismo máximo disponível.
+         * 
+         * @return o trabalho total
+         * @throws IllegalStateException se a execução ainda não terminou
+         */
+        public long getTrabalhoTotal() {
+            long total = 0;
+            for (int v = 0; v < n; v++) {
+                total += getDuracao(v);
+            }
+            return total;
+        }
+        
+        /**
+         * Retorna a duração do caminho crítico, em nanossegundos.
+         * 
+         * @return a soma das durações das tarefas do caminho crítico
+         * @throws IllegalStateException se a execução ainda não terminou
+         */
+        public long getDuracaoCaminhoCritico() {
+            long[] termino = new long[n];
+            calcularCaminhoCritico(termino, new int[n]);
+            long maior = 0;
+            for (long t : termino) {
+                maior = Math.max(maior, t);
+            }
+            return maior;
+        }
+        
+        /**
+         * Retorna as tarefas do caminho crítico, na ordem de execução.
+         * 
+         * @return os vértices do caminho crítico
+         * @throws IllegalStateException se a execução ainda não terminou
+         */
+        public int[] getCaminhoCritico() {
+            long[] termino = new long[n];
+            int[] anterior = new int[n];
+            calcularCaminhoCritico(termino, anterior);
+            if (n == 0) {
+                return new int[0];
+            }
+            
+            int ultimo = 0;
+            for (int v = 1; v < n; v++) {
+                if (termino[v] > termino[ultimo]) {
+                    ultimo = v;
+                }
+            }
+            int tamanho = 0;
+            for (int v = ultimo; v != -1; v = anterior[v]) {
+                tamanho++;
+            }
+            int[] caminho = new int[tamanho];
+            for (int v = ultimo; v != -1; v = anterior[v]) {
+                caminho[--tamanho] = v;
+            }
+            return caminho;
+        }
+        
+        /**
+         * Caminho mais longo ponderado pelas durações, em ordem topológica.
+         * 
+         * @param termino recebe, para cada vértice, a duração da cadeia mais longa que termina nele
+         * @param anterior recebe o predecessor de cada vértice nessa cadeia, ou {@code -1}
+         */
+        private void calcularCaminhoCritico(long[] termino, int[] anterior) {
+            exigirTermino();
+            long[] inicioMaisCedo = new long[n];
+            Arrays.fill(anterior, -1);
+            for (int u : ordem) {
+                termino[u] = inicioMaisCedo[u] + getDuracao(u);
+                for (int i = 0; i < grafo.getGrauSaida(u); i++) {
+                    int v = grafo.getAdjacente(u, i);
+                    if (anterior[v] == -1 || termino[u] > inicioMaisCedo[v]) {
+                        inicioMaisCedo[v] = termino[u];
+                        anterior[v] = u;
+                    }
+                }
+            }
+        }
+        
+        private void exigirTermino() {
+            if (!conclusao.isDone()) {
+                throw new IllegalStateException("A execução ainda não terminou.");
+            }
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Índice de alcançabilidade para grafos direcionados acíclicos: responde se existe
+ * caminho de {@code u} até {@code v} sem percorrer o grafo na maioria das consultas.
+ * 
+ * <p>O índice guarda, para cada vértice, três tipos de rótulo:
+ * <ul>
+ *   <li><b>Nível topológico</b>: o comprimento do maior caminho que termina no vértice.
+ *       Se {@code u} alcança {@code v}, então {@code nivel[u] < nivel[v]}; caso contrário
+ *       a resposta é negativa em $O(1)$.</li>
+ *   <li><b>Intervalos GRAIL</b>: em cada uma de {@code k} buscas em profundidade com
+ *       ordem aleatória de raízes e de filhos, o vértice recebe o intervalo
+ *       {@code [menor pós-ordem entre seus descendentes, sua pós-ordem]}. Se {@code u}
+ *       alcança {@code v}, o intervalo de {@code v} está contido no de {@code u} em todas
+ *       as buscas; basta um intervalo não contido para responder negativamente.</li>
+ *   <li><b>Árvore de busca</b>: a pré-ordem e a pós-ordem da primeira busca. Se
+ *       {@code v} é descendente de {@code u} nessa árvore, a resposta é positiva em
+ *       $O(1)$.</li>
+ * </ul>
+ * Só quando nenhum rótulo decide a consulta é feita uma busca em profundidade a partir
+ * de {@code u}, podando todo vértice cujos rótulos já excluem {@code v}.</p>
+ * 
+ * <p>A construção custa $O(k (V + E))$. Os rótulos ocupam {@code 2k + 2} inteiros por
+ * vértice, além do próprio grafo, e cada thread que faz consultas aloca, na primeira
+ * busca de reserva, mais {@code 2} inteiros por vértice (marcas e pilha).
+ * {@link #comLimiteDeMemoria(Grafo, long, int)} escolhe o maior {@code k}, até
+ * {@link #MAX_INTERVALOS}, que cabe em um orçamento contando os dois. Mais intervalos
+ * reduzem as buscas de reserva ao custo de memória e de tempo de construção. O grafo
+ * não deve ser alterado depois da construção do índice. Consultas simultâneas de várias
+ * threads são seguras.</p>
+ * 
+ * <p>Baseado em:
+ * <ul>
+ *   <li>Yildirim, H., Chaoji, V., & Zaki, M. J. (2010). GRAIL: Scalable Reachability Index
+ *       for Large Graphs. Proceedings of the VLDB Endowment, 3(1-2), 276-284.</li>
+ * </ul></p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ */
+public class IndiceAlcancabilidade {
+    
+    /** Número de intervalos usado pelo construtor padrão. */
+    public static final int INTERVALOS_PADRAO = 3;
+    
+    /** Maior número de intervalos escolhido por {@link #comLimiteDeMemoria(Grafo, long, int)}. */
+    public static final int MAX_INTERVALOS = 64;
+    
+    private static final long SEMENTE = 42L;
+    
+    private final Grafo grafo;
+    private final int n;
+    private final int numIntervalos;
+    
+    private final int[] nivel;
+    
+    // Intervalos intercalados por vértice: [v * 2k + 2t] = início e [v * 2k + 2t + 1] = fim
+    // do intervalo da busca t, para que os rótulos de um vértice fiquem juntos na memória
+    private final int[] intervalos;
+    
+    // Pré-ordem da primeira busca; a pós-ordem é o fim do primeiro intervalo
+    private final int[] preOrdem;
+    
+    // Marcas da busca de reserva, uma por thread
+    private final ThreadLocal<Busca> buscas;
+    
+    /**
+     * Constrói o índice com {@link #INTERVALOS_PADRAO} intervalos por vértice.
+     * 
+     * @param grafo o grafo direcionado acíclico
+     * @throws IllegalArgumentException se o grafo contiver ciclos
+     */
+    public IndiceAlcancabilidade(Grafo grafo) {
+        this(grafo, INTERVALOS_PADRAO);
+    }
+    
+    /**
+     * Constrói o índice.
+     * 
+     * @param grafo o grafo direcionado acíclico
+     * @param numIntervalos número de buscas aleatórias (intervalos por vértice), pelo menos 1
+     * @throws IllegalArgumentException se o grafo contiver ciclos, se {@code numIntervalos < 1}
+     *         ou se os intervalos não couberem em um único vetor
+     */
+    public IndiceAlcancabilidade(Grafo grafo, int numIntervalos) {
+        if (numIntervalos < 1) {
+            throw new IllegalArgumentException("O número de intervalos deve ser positivo: " + numIntervalos);
+        }
+        this.grafo = grafo;
+        this.n = grafo.getNumVertices();
+        this.numIntervalos = numIntervalos;
+        long tamanhoIntervalos = 2L * n * numIntervalos;
+        if (tamanhoIntervalos > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Intervalos demais para " + n + " vértices: " + numIntervalos);
+        }
+        this.nivel = new int[n];
+        this.intervalos = new int[(int) tamanhoIntervalos];
+        this.preOrdem = new int[n];
+        this.buscas = ThreadLocal.withInitial(Busca::new);
+        
+        // As fontes são as raízes das buscas: todo vértice de um DAG é alcançável a partir de alguma fonte
+        int[] fontes = calcularNiveis(new OrdenacaoTopologica(grafo).ordenarIterativo());
+        Random random = new Random(SEMENTE);
+        for (int t = 0; t < numIntervalos; t++) {
+            if (t > 0) {
+                embaralhar(fontes, random);
+            }
+            rotular(t, fontes, t == 0 ? null : random);
+        }
+    }
+    
+    /**
+     * Constrói o índice com o maior número de intervalos que caiba no orçamento, supondo
+     * consultas feitas por uma única thread.
+     * 
+     * @param grafo o grafo direcionado acíclico
+     * @param bytes memória máxima para os rótulos e a busca de reserva, sem contar o grafo
+     * @return o índice
+     * @throws IllegalArgumentException se o orçamento não comportar nem um intervalo
+     * @see #comLimiteDeMemoria(Grafo, long, int)
+     */
+    public static IndiceAlcancabilidade comLimiteDeMemoria(Grafo grafo, long bytes) {
+        return comLimiteDeMemoria(grafo, bytes, 1);
+    }
+    
+    /**
+     * Constrói o índice com o maior número de intervalos que caiba no orçamento. O orçamento
+     * cobre os rótulos ({@code 2k + 2} inteiros por vértice) e os vetores da busca de reserva
+     * de cada thread ({@code 2} inteiros por vértice por thread). O número de intervalos é
+     * limitado a {@link #MAX_INTERVALOS}, mesmo que o orçamento comporte mais, pois a partir
+     * daí intervalos extras quase não evitam buscas.
+     * 
+     * @param grafo o grafo direcionado acíclico
+     * @param bytes memória máxima para os rótulos e as buscas de reserva, sem contar o grafo
+     * @param numThreads número de threads que farão consultas
+     * @return o índice
+     * @throws IllegalArgumentException se o orçamento não comportar nem um intervalo ou se
+     *         {@code numThreads < 1}
+     */
+    public static IndiceAlcancabilidade comLimiteDeMemoria(Grafo grafo, long bytes, int numThreads) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("O número de threads deve ser positivo: " + numThreads);
+        }
+        long porVertice = bytes / (4L * Math.max(1, grafo.getNumVertices()));
+        long numIntervalos = (porVertice - 2 - 2L * numThreads) / 2;
+        if (numIntervalos < 1) {
+            throw new IllegalArgumentException("Orçamento insuficiente para o índice: " + bytes + " bytes.");
+        }
+        return new IndiceAlcancabilidade(grafo, (int) Math.min(numIntervalos, MAX_INTERVALOS));
+    }
+    
+    /**
+     * Verifica se existe caminho de {@code origem} até {@code destino}. Todo vértice
+     * alcança a si mesmo.
+     * 
+     * @param origem o vértice de origem
+     * @param destino o vértice de destino
+     * @return true se {@code destino} é alcançável a partir de {@code origem}
+     */
+    public boolean alcanca(int origem, int destino) {
+        if (origem < 0 || origem >= n || destino < 0 || destino >= n) {
+            throw new IllegalArgumentException("Vértices inválidos: " + origem + ", " + destino);
+        }
+        if (origem == destino) {
+            return true;
+        }
+        if (!podeAlcancar(origem, destino)) {
+            return false;
+        }
+        if (descendenteNaArvore(origem, destino)) {
+            return true;
+        }
+        return buscar(origem, destino);
+    }
+    
+    /**
+     * Retorna o número de intervalos por vértice.
+     * 
+     * @return o número de buscas aleatórias usadas na construção
+     */
+    public int getNumIntervalos() {
+        return numIntervalos;
+    }
+    
+    /**
+     * Retorna o nível topológico de um vértice: o número de arestas do maior caminho que
+     * termina nele.
+     * 
+     * @param v o vértice
+     * @return o nível de {@code v}
+     */
+    public int getNivel(int v) {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException("Vértice inválido: " + v);
+        }
+        return nivel[v];
+    }
+    
+    /**
+     * Calcula os níveis percorrendo a ordem topológica.
+     * 
+     * @return as fontes (vértices de nível 0), na ordem topológica
+     */
+    private int[] calcularNiveis(int[] ordem) {
+        for (int v : ordem) {
+            int grau = grafo.getGrauSaida(v);
+            for (int i = 0; i < grau; i++) {
+                int w = grafo.getAdjacente(v, i);
+                nivel[w] = Math.max(nivel[w], nivel[v] + 1);
+            }
+        }
+        int numFontes = 0;
+        int[] fontes = new int[n];
+        for (int v : ordem) {
+            if (nivel[v] == 0) {
+                fontes[numFontes++] = v;
+            }
+        }
+        return Arrays.copyOf(fontes, numFontes);
+    }
+    
+    /**
+     * Busca em profundidade iterativa que atribui o intervalo {@code t} de cada vértice.
+     * 
+     * @param random gerador para a ordem dos filhos, ou {@code null} para a ordem de inserção
+     */
+    private void rotular(int t, int[] fontes, Random random) {
+        int passo = 2 * numIntervalos;
+        boolean[] visitado = new boolean[n];
+        int[] pilha = new int[n];
+        int[] cursor = new int[n];
+        int[] deslocamento = new int[n];
+        int posOrdem = 0;
+        int proximaPreOrdem = 0;
+        
+        for (int raiz : fontes) {
+            int topo = 0;
+            pilha[topo++] = raiz;
+            visitado[raiz] = true;
+            iniciar(raiz, t, random, deslocamento);
+            if (t == 0) {
+                preOrdem[raiz] = proximaPreOrdem++;
+            }
+            
+            while (topo > 0) {
+                int v = pilha[topo - 1];
+                int grau = grafo.getGrauSaida(v);
+                if (cursor[v] < grau) {
+                    int i = deslocamento[v] + cursor[v]++;
+                    int w = grafo.getAdjacente(v, i < grau ? i : i - grau);
+                    if (!visitado[w]) {
+                        visitado[w] = true;
+                        iniciar(w, t, random, deslocamento);
+                        if (t == 0) {
+                            preOrdem[w] = proximaPreOrdem++;
+                        }
+                        pilha[topo++] = w;
+                    } else {
+                        // w já foi finalizado (não há ciclos): herda o seu menor descendente
+                        int inicioV = v * passo + 2 * t;
+                        intervalos[inicioV] = Math.min(intervalos[inicioV], intervalos[w * passo + 2 * t]);
+                    }
+                } else {
+                    topo--;
+                    int inicioV = v * passo + 2 * t;
+                    intervalos[inicioV + 1] = ++posOrdem;
+                    intervalos[inicioV] = Math.min(intervalos[inicioV], posOrdem);
+                    if (topo > 0) {
+                        int inicioPai = pilha[topo - 1] * passo + 2 * t;
+                        intervalos[inicioPai] = Math.min(intervalos[inicioPai], intervalos[inicioV]);
+                    }
+                }
+            }
+        }
+    }
+    
+    private void iniciar(int v, int t, Random random, int[] deslocamento) {
+        intervalos[v * 2 * numIntervalos + 2 * t] = Integer.MAX_VALUE;
+        int grau = grafo.getGrauSaida(v);
+        deslocamento[v] = random == null || grau == 0 ? 0 : random.nextInt(grau);
+    }
+    
+    /**
+     * Testes negativos em $O(k)$: nível e contenção de todos os intervalos.
+     */
+    private boolean podeAlcancar(int u, int v) {
+        if (nivel[u] >= nivel[v]) {
+            return false;
+        }
+        int passo = 2 * numIntervalos;
+        int iu = u * passo;
+        int iv = v * passo;
+        for (int j = 0; j < passo; j += 2) {
+            if (intervalos[iv + j] < intervalos[iu + j] || intervalos[iv + j + 1] > intervalos[iu + j + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Teste positivo em $O(1)$: {@code v} é descendente de {@code u} na árvore da primeira busca.
+     */
+    private boolean descendenteNaArvore(int u, int v) {
+        int passo = 2 * numIntervalos;
+        return preOrdem[u] <= preOrdem[v] && intervalos[v * passo + 1] <= intervalos[u * passo + 1];
+    }
+    
+    /**
+     * Busca de reserva a partir de {@code u}, podando pelos rótulos.
+     */
+    private boolean buscar(int u, int v) {
+        Busca busca = buscas.get();
+        int epoca = busca.novaEpoca();
+        int[] marca = busca.marca;
+        int[] pilha = busca.pilha;
+        int topo = 0;
+        pilha[topo++] = u;
+        marca[u] = epoca;
+        while (topo > 0) {
+            int x = pilha[--topo];
+            int grau = grafo.getGrauSaida(x);
+            for (int i = 0; i < grau; i++) {
+                int w = grafo.getAdjacente(x, i);
+                if (w == v) {
+                    return true;
+                }
+                if (marca[w] == epoca) {
+                    continue;
+                }
+                marca[w] = epoca;
+                if (!podeAlcancar(w, v)) {
+                    continue;
+                }
+                if (descendenteNaArvore(w, v)) {
+                    return true;
+                }
+                pilha[topo++] = w;
+            }
+        }
+        return false;
+    }
+    
+    private static void embaralhar(int[] vetor, Random random) {
+        for (int i = vetor.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int aux = vetor[i];
+            vetor[i] = vetor[j];
+            vetor[j] = aux;
+        }
+    }
+    
+    /**
+     * Vetores reutilizados pelas buscas de reserva de uma thread. As marcas usam épocas,
+     * para não precisar limpar o vetor a cada consulta.
+     */
+    private final class Busca {
+        
+        private final int[] marca = new int[n];
+        private final int[] pilha = new int[n];
+        private int epoca;
+        
+        int novaEpoca() {
+            if (++epoca == Integer.MAX_VALUE) {
+                Arrays.fill(marca, 0);
+                epoca = 1;
+            }
+            return epoca;
+        }
+    }
+}
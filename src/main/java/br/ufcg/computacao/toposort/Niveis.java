@@ -0,0 +1,66 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Arrays;
+
+/**
+ * Resultado da ordenação topológica por níveis.
+ * 
+ * <p>Os vértices ficam em um único vetor {@code ordem}, agrupados por nível: o nível
+ * {@code i} ocupa as posições {@code [inicioNiveis[i], inicioNiveis[i + 1])}. Todo vértice
+ * de um nível depende apenas de vértices de níveis anteriores, então os vértices de um
+ * mesmo nível podem ser executados em paralelo. Dentro de cada nível os vértices estão
+ * em ordem crescente.</p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ */
+public class Niveis {
+    
+    private final int[] ordem;
+    private final int[] inicioNiveis;
+    
+    Niveis(int[] ordem, int[] inicioNiveis) {
+        this.ordem = ordem;
+        this.inicioNiveis = inicioNiveis;
+    }
+    
+    /**
+     * Retorna todos os vértices, agrupados por nível.
+     * 
+     * @return o vetor de vértices, que é uma ordenação topológica válida
+     */
+    public int[] getOrdem() {
+        return ordem;
+    }
+    
+    /**
+     * Retorna o início de cada nível em {@link #getOrdem()}, seguido do total de vértices.
+     * 
+     * @return vetor com {@code getNumNiveis() + 1} posições
+     */
+    public int[] getInicioNiveis() {
+        return inicioNiveis;
+    }
+    
+    /**
+     * Retorna o número de níveis, que é o número de vértices do caminho mais longo do grafo.
+     * 
+     * @return número de níveis
+     */
+    public int getNumNiveis() {
+        return inicioNiveis.length - 1;
+    }
+    
+    /**
+     * Retorna uma cópia dos vértices de um nível.
+     * 
+     * @param nivel o índice do nível
+     * @return os vértices do nível, em ordem crescente
+     */
+    public int[] getNivel(int nivel) {
+        if (nivel < 0 || nivel >= getNumNiveis()) {
+            throw new IllegalArgumentException("Nível inválido: " + nivel);
+        }
+        return Arrays.copyOfRange(ordem, inicioNiveis[nivel], inicioNiveis[nivel + 1]);
+    }
+}
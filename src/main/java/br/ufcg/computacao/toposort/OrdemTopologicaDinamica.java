@@ -0,0 +1,248 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Arrays;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Manutenção incremental de uma ordem topológica sob inserção de arestas, com o
+ * algoritmo de Pearce–Kelly.
+ * 
+ * <p>A estrutura guarda a posição {@code ord[v]} de cada vértice na ordem atual. Ao
+ * inserir {@code origem -> destino}:</p>
+ * <ul>
+ *   <li>se {@code ord[origem] < ord[destino]}, a ordem continua válida e nada muda;</li>
+ *   <li>caso contrário, apenas a <i>região afetada</i> {@code [ord[destino], ord[origem]]}
+ *       é examinada: uma busca para frente a partir de {@code destino} e uma busca para
+ *       trás a partir de {@code origem}, ambas limitadas a essa região. Se a busca para
+ *       frente alcançar {@code origem}, a aresta criaria um ciclo e é rejeitada; senão,
+ *       os vértices encontrados são reposicionados entre si, usando apenas as posições
+ *       que já ocupavam.</li>
+ * </ul>
+ * 
+ * <p>O custo de cada inserção é proporcional ao tamanho da região afetada, e não a
+ * $O(V + E)$ de uma nova ordenação completa. As arestas devem ser inseridas por esta
+ * classe, que mantém também a lista de predecessores usada na busca para trás.</p>
+ * 
+ * <p>Referência: Pearce, D. J., & Kelly, P. H. J. (2006). A Dynamic Topological Sort
+ * Algorithm for Directed Acyclic Graphs. ACM Journal of Experimental Algorithmics, 11.</p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ */
+public class OrdemTopologicaDinamica {
+    
+    private final Grafo grafo;
+    private final int n;
+    
+    // Posição de cada vértice na ordem e vértice de cada posição
+    private final int[] ord;
+    private final int[] vertice;
+    
+    // Predecessores de cada vértice; apenas as primeiras grauEntrada[v] posições são válidas
+    private final int[][] predecessores;
+    private final int[] grauEntrada;
+    
+    // Marcação por época: marca[v] == epoca indica que v foi visitado na inserção atual
+    private final int[] marca;
+    private int epoca;
+    
+    // Pilha das buscas e vértices encontrados para frente e para trás
+    private final int[] pilha;
+    private final int[] frente;
+    private final int[] tras;
+    
+    /**
+     * Construtor que calcula a ordem inicial do grafo.
+     * 
+     * @param grafo o grafo direcionado acíclico; novas arestas devem ser inseridas por
+     *              {@link #adicionarAresta(int, int)}
+     * @throws IllegalArgumentException se o grafo contiver ciclos
+     */
+    public OrdemTopologicaDinamica(Grafo grafo) {
+        this.grafo = grafo;
+        this.n = grafo.getNumVertices();
+        this.vertice = new OrdenacaoTopologica(grafo).ordenarIterativo();
+        this.ord = new int[n];
+        for (int i = 0; i < n; i++) {
+            ord[vertice[i]] = i;
+        }
+        
+        this.grauEntrada = new int[n];
+        for (int u = 0; u < n; u++) {
+            for (int i = 0; i < grafo.getGrauSaida(u); i++) {
+                grauEntrada[grafo.getAdjacente(u, i)]++;
+            }
+        }
+        this.predecessores = new int[n][];
+        for (int v = 0; v < n; v++) {
+            predecessores[v] = new int[Math.max(2, grauEntrada[v])];
+        }
+        Arrays.fill(grauEntrada, 0);
+        for (int u = 0; u < n; u++) {
+            for (int i = 0; i < grafo.getGrauSaida(u); i++) {
+                int v = grafo.getAdjacente(u, i);
+                predecessores[v][grauEntrada[v]++] = u;
+            }
+        }
+        
+        this.marca = new int[n];
+        this.pilha = new int[n];
+        this.frente = new int[n];
+        this.tras = new int[n];
+    }
+    
+    /**
+     * Insere a aresta {@code origem -> destino} e atualiza a ordem, se necessário.
+     * 
+     * @param origem vértice de origem
+     * @param destino vértice de destino
+     * @throws IllegalArgumentException se algum vértice for inválido ou se a aresta criar
+     *                                  um ciclo; nesse caso o grafo não é alterado
+     */
+    public void adicionarAresta(int origem, int destino) {
+        if (origem < 0 || origem >= n || destino < 0 || destino >= n) {
+            throw new IllegalArgumentException("Vértices inválidos: " + origem + ", " + destino);
+        }
+        int limiteInferior = ord[destino];
+        int limiteSuperior = ord[origem];
+        if (limiteInferior <= limiteSuperior) {
+            epoca++;
+            int numFrente = buscarParaFrente(destino, origem, limiteSuperior);
+            if (numFrente < 0) {
+                throw new IllegalArgumentException("A aresta " + origem + " -> " + destino + " criaria um ciclo.");
+            }
+            int numTras = buscarParaTras(origem, limiteInferior);
+            reordenar(numFrente, numTras);
+        }
+        
+        grafo.adicionarAresta(origem, destino);
+        if (grauEntrada[destino] == predecessores[destino].length) {
+            predecessores[destino] = Arrays.copyOf(predecessores[destino], predecessores[destino].length * 2);
+        }
+        predecessores[destino][grauEntrada[destino]++] = origem;
+    }
+    
+    /**
+     * Busca, a partir de {@code inicio}, os vértices alcançáveis com posição até o limite.
+     * 
+     * @return o número de vértices encontrados, ou {@code -1} se {@code alvo} for alcançado
+     */
+    private int buscarParaFrente(int inicio, int alvo, int limiteSuperior) {
+        int topo = 0;
+        int encontrados = 0;
+        pilha[topo++] = inicio;
+        marca[inicio] = epoca;
+        while (topo > 0) {
+            int w = pilha[--topo];
+            if (w == alvo) {
+                return -1;
+            }
+            frente[encontrados++] = w;
+            for (int i = 0; i < grafo.getGrauSaida(w); i++) {
+                int x = grafo.getAdjacente(w, i);
+                if (marca[x] != epoca && ord[x] <= limiteSuperior) {
+                    marca[x] = epoca;
+                    pilha[topo++] = x;
+                }
+            }
+        }
+        return encontrados;
+    }
+    
+    /**
+     * Busca, a partir de {@code inicio}, os vértices que o alcançam com posição a partir do limite.
+     * 
+     * @return o número de vértices encontrados
+     */
+    private int buscarParaTras(int inicio, int limiteInferior) {
+        int topo = 0;
+        int encontrados = 0;
+        pilha[topo++] = inicio;
+        marca[inicio] = epoca;
+        while (topo > 0) {
+            int w = pilha[--topo];
+            tras[encontrados++] = w;
+            for (int i = 0; i < grauEntrada[w]; i++) {
+                int x = predecessores[w][i];
+                if (marca[x] != epoca && ord[x] >= limiteInferior) {
+                    marca[x] = epoca;
+                    pilha[topo++] = x;
+                }
+            }
+        }
+        return encontrados;
+    }
+    
+    /**
+     * Reposiciona os vértices encontrados: os de trás, em sua ordem relativa, seguidos dos
+     * da frente, ocupando em ordem crescente as mesmas posições que o conjunto já ocupava.
+     */
+    private void reordenar(int numFrente, int numTras) {
+        int[] posicoesTras = new int[numTras];
+        for (int i = 0; i < numTras; i++) {
+            posicoesTras[i] = ord[tras[i]];
+        }
+        int[] posicoesFrente = new int[numFrente];
+        for (int i = 0; i < numFrente; i++) {
+            posicoesFrente[i] = ord[frente[i]];
+        }
+        Arrays.sort(posicoesTras);
+        Arrays.sort(posicoesFrente);
+        
+        // Vértices na nova ordem relativa
+        int total = numTras + numFrente;
+        int[] sequencia = new int[total];
+        for (int i = 0; i < numTras; i++) {
+            sequencia[i] = vertice[posicoesTras[i]];
+        }
+        for (int i = 0; i < numFrente; i++) {
+            sequencia[numTras + i] = vertice[posicoesFrente[i]];
+        }
+        
+        // Intercala as posições disponíveis em ordem crescente e as distribui
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < total; k++) {
+            int posicao;
+            if (j >= numFrente || (i < numTras && posicoesTras[i] < posicoesFrente[j])) {
+                posicao = posicoesTras[i++];
+            } else {
+                posicao = posicoesFrente[j++];
+            }
+            ord[sequencia[k]] = posicao;
+            vertice[posicao] = sequencia[k];
+        }
+    }
+    
+    /**
+     * Retorna uma cópia da ordem topológica atual.
+     * 
+     * @return os vértices em ordem topológica
+     */
+    public int[] getOrdem() {
+        return vertice.clone();
+    }
+    
+    /**
+     * Retorna a posição de um vértice na ordem atual.
+     * 
+     * @param v o vértice
+     * @return a posição, entre {@code 0} e {@code n - 1}
+     */
+    public int getPosicao(int v) {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException("Vértice inválido: " + v);
+        }
+        return ord[v];
+    }
+    
+    /**
+     * Retorna o grafo mantido pela estrutura.
+     * 
+     * @return o grafo
+     */
+    public Grafo getGrafo() {
+        return grafo;
+    }
+}
@@ -1,8 +1,12 @@
 package br.ufcg.computacao.toposort;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Stack;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
 
 import br.ufcg.computacao.toposort.graph.Grafo;
 
@@ -14,6 +18,18 @@ import br.ufcg.computacao.toposort.graph.Grafo;
  * topológica. A implementação também inclui detecção de ciclos, já que a ordenação
  * topológica só é possível em grafos direcionados acíclicos.</p>
  * 
+ * <p>O método {@link #ordenarIterativo()} executa a mesma busca sem recursão, com uma
+ * pilha explícita {@code int[]} e um cursor de arestas por vértice, e escreve a ordem
+ * diretamente em um {@code int[]}. Ele produz exatamente a mesma ordenação de
+ * {@link #ordenar()}, mas não lança {@link StackOverflowError} em cadeias de
+ * dependência longas.</p>
+ * 
+ * <p>O método {@link #ordenarPorNiveis(boolean)} usa o algoritmo de Kahn e separa os
+ * vértices em níveis ({@link Niveis}): cada nível contém os vértices cujas dependências
+ * estão todas em níveis anteriores, indicando o que pode ser executado ao mesmo tempo.
+ * Os graus de entrada são contadores atômicos, e cada fronteira pode ser processada
+ * em paralelo.</p>
+ * 
  * <p>Referências acadêmicas:
  * <ul>
  *   <li>Feofiloff, P., Kohayakawa, Y., & Wakabayashi, Y. (2011). Uma Introdução Sucinta à Teoria dos Algoritmos.
@@ -30,6 +46,9 @@ import br.ufcg.computacao.toposort.graph.Grafo;
  */
 public class OrdenacaoTopologica {
     
+    // Tamanho mínimo de uma fronteira para que ela seja processada em paralelo
+    private static final int LIMIAR_PARALELO = 1 << 10;
+    
     private final Grafo grafo;
     
     /**
@@ -79,6 +98,138 @@ public class OrdenacaoTopologica {
         return resultado;
     }
     
+    /**
+     * Executa a ordenação topológica usando DFS iterativo.
+     * 
+     * <p>Cada vértice na pilha guarda, em {@code cursor}, o índice do próximo sucessor
+     * a ser visitado; assim a busca retoma o vértice exatamente de onde parou, como
+     * faria a recursão. Ao ser finalizado, o vértice é escrito da última para a
+     * primeira posição do resultado, o que equivale a desempilhar a pilha de
+     * finalização.</p>
+     * 
+     * @return um vetor com os vértices ordenados topologicamente
+     */
+    public int[] ordenarIterativo() {
+        int n = grafo.getNumVertices();
+        
+        // Vetor do resultado, preenchido de trás para frente na ordem de finalização
+        int[] resultado = new int[n];
+        int proximaPosicao = n;
+        
+        boolean[] visitado = new boolean[n];
+        boolean[] noCaminhoAtual = new boolean[n];
+        
+        // Pilha explícita com o caminho atual do DFS e cursor de arestas de cada vértice
+        int[] pilha = new int[n];
+        int[] cursor = new int[n];
+        
+        for (int i = 0; i < n; i++) {
+            if (visitado[i]) {
+                continue;
+            }
+            int topo = 0;
+            pilha[topo++] = i;
+            visitado[i] = true;
+            noCaminhoAtual[i] = true;
+            
+            while (topo > 0) {
+                int v = pilha[topo - 1];
+                if (cursor[v] < grafo.getGrauSaida(v)) {
+                    int adjacente = grafo.getAdjacente(v, cursor[v]++);
+                    if (!visitado[adjacente]) {
+                        // Equivale à chamada recursiva: o adjacente passa a ser o topo
+                        visitado[adjacente] = true;
+                        noCaminhoAtual[adjacente] = true;
+                        pilha[topo++] = adjacente;
+                    } else if (noCaminhoAtual[adjacente]) {
+                        throw new IllegalArgumentException("O grafo contém ciclos e não pode ser ordenado topologicamente.");
+                    }
+                } else {
+                    // Todos os sucessores foram visitados: v está finalizado
+                    noCaminhoAtual[v] = false;
+                    resultado[--proximaPosicao] = v;
+                    topo--;
+                }
+            }
+        }
+        
+        return resultado;
+    }
+    
+    /**
+     * Executa a ordenação topológica por níveis (algoritmo de Kahn) em paralelo.
+     * 
+     * @return os vértices agrupados por nível
+     */
+    public Niveis ordenarPorNiveis() {
+        return ordenarPorNiveis(true);
+    }
+    
+    /**
+     * Executa a ordenação topológica por níveis (algoritmo de Kahn).
+     * 
+     * <p>O primeiro nível contém os vértices sem arestas de entrada. A partir de cada
+     * nível, o grau de entrada de cada sucessor é decrementado atomicamente; quem chega
+     * a zero entra no nível seguinte, escrito logo após o atual no vetor de ordem. Cada
+     * nível é ordenado ao final, para que o resultado não dependa das threads.</p>
+     * 
+     * @param paralelo {@code true} para processar fronteiras grandes em paralelo
+     * @return os vértices agrupados por nível
+     */
+    public Niveis ordenarPorNiveis(boolean paralelo) {
+        int n = grafo.getNumVertices();
+        
+        // Grau de entrada de cada vértice
+        AtomicIntegerArray grauEntrada = new AtomicIntegerArray(n);
+        intervalo(0, n, paralelo).forEach(v -> {
+            for (int i = 0; i < grafo.getGrauSaida(v); i++) {
+                grauEntrada.incrementAndGet(grafo.getAdjacente(v, i));
+            }
+        });
+        
+        // O primeiro nível são os vértices sem dependências
+        int[] ordem = new int[n];
+        AtomicInteger fim = new AtomicInteger();
+        intervalo(0, n, paralelo).forEach(v -> {
+            if (grauEntrada.get(v) == 0) {
+                ordem[fim.getAndIncrement()] = v;
+            }
+        });
+        
+        int[] inicioNiveis = new int[n + 1];
+        int numNiveis = 0;
+        int inicio = 0;
+        while (inicio < fim.get()) {
+            int fimNivel = fim.get();
+            Arrays.sort(ordem, inicio, fimNivel);
+            inicioNiveis[numNiveis++] = inicio;
+            
+            // Libera os sucessores do nível atual, escrevendo o próximo nível logo após ele
+            intervalo(inicio, fimNivel, paralelo && fimNivel - inicio >= LIMIAR_PARALELO).forEach(p -> {
+                int v = ordem[p];
+                for (int i = 0; i < grafo.getGrauSaida(v); i++) {
+                    int adjacente = grafo.getAdjacente(v, i);
+                    if (grauEntrada.decrementAndGet(adjacente) == 0) {
+                        ordem[fim.getAndIncrement()] = adjacente;
+                    }
+                }
+            });
+            inicio = fimNivel;
+        }
+        
+        // Vértices que nunca chegaram a grau zero estão em um ciclo ou dependem de um
+        if (inicio < n) {
+            throw new IllegalArgumentException("O grafo contém ciclos e não pode ser ordenado topologicamente.");
+        }
+        inicioNiveis[numNiveis] = n;
+        return new Niveis(ordem, Arrays.copyOf(inicioNiveis, numNiveis + 1));
+    }
+    
+    private static IntStream intervalo(int inicio, int fim, boolean paralelo) {
+        IntStream indices = IntStream.range(inicio, fim);
+        return paralelo ? indices.parallel() : indices;
+    }
+    
     /**
      * Função de utilidade para o DFS que visita recursivamente todos os vértices
      * e detecta ciclos no grafo.
@@ -0,0 +1,224 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Redução transitiva de um grafo direcionado acíclico: o menor subgrafo com a mesma
+ * alcançabilidade do original, obtido removendo toda aresta {@code v -> w} para a qual
+ * existe outro caminho de {@code v} até {@code w}. Em um DAG essa redução é única.
+ * 
+ * <p>Os vértices são processados em ordem topológica inversa, mantendo para cada um o
+ * conjunto de vértices alcançáveis como um <i>bitset</i> ({@code long[]}) indexado pela
+ * posição na ordem. Os sucessores de {@code v} são percorridos em ordem topológica
+ * crescente, acumulando os seus conjuntos: como só um sucessor anterior a {@code w} na
+ * ordem pode alcançá-lo, a aresta {@code v -> w} é redundante exatamente quando o bit de
+ * {@code w} já está no acumulado. Arestas repetidas também são removidas.</p>
+ * 
+ * <p>Os níveis de {@link OrdenacaoTopologica#ordenarPorNiveis(boolean)} definem quais
+ * vértices são independentes: todos os sucessores de um vértice estão em níveis
+ * posteriores, então os vértices de um mesmo nível são processados em paralelo, do último
+ * nível para o primeiro.</p>
+ * 
+ * <p>Conjuntos completos custam $V^2/8$ bytes. Para limitar a memória, as posições de
+ * destino são divididas em blocos: cada passada calcula apenas os bits de um bloco e
+ * decide as arestas cujo destino está nele. O tempo total é $O(V \cdot E / 64)$ em
+ * qualquer configuração; blocos menores só repetem o percurso das arestas.</p>
+ * 
+ * <p>Referências:
+ * <ul>
+ *   <li>Aho, A. V., Garey, M. R., & Ullman, J. D. (1972). The Transitive Reduction of a
+ *       Directed Graph. SIAM Journal on Computing, 1(2), 131-137.</li>
+ * </ul></p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ */
+public class ReducaoTransitiva {
+    
+    /** Memória padrão para os conjuntos de alcançabilidade de um bloco, em bytes. */
+    public static final long LIMITE_MEMORIA_PADRAO = 64L << 20;
+    
+    // Níveis menores que isso são processados sequencialmente
+    private static final int LIMIAR_PARALELO = 64;
+    
+    private final Grafo grafo;
+    private final int n;
+    
+    // Início das arestas de cada vértice no vetor 'removida'
+    private final int[] inicioArestas;
+    private final boolean[] removida;
+    
+    // Posição de cada vértice na ordem topológica por níveis
+    private final int[] posicao;
+    
+    // Índices locais das arestas de cada vértice, ordenados pela posição do destino
+    private final int[] arestasOrdenadas;
+    
+    private final Grafo reduzido;
+    private final int numArestasRemovidas;
+    
+    /**
+     * Calcula a redução transitiva em paralelo, com o limite de memória padrão.
+     * 
+     * @param grafo o grafo direcionado acíclico
+     * @throws IllegalArgumentException se o grafo contiver ciclos
+     */
+    public ReducaoTransitiva(Grafo grafo) {
+        this(grafo, true, LIMITE_MEMORIA_PADRAO);
+    }
+    
+    /**
+     * Calcula a redução transitiva.
+     * 
+     * @param grafo o grafo direcionado acíclico
+     * @param paralelo {@code true} para processar os vértices de cada nível em paralelo
+     * @param limiteMemoria memória máxima para os conjuntos de alcançabilidade, em bytes;
+     *        cada bloco usa pelo menos 8 bytes por vértice
+     * @throws IllegalArgumentException se o grafo contiver ciclos ou o limite não for positivo
+     */
+    public ReducaoTransitiva(Grafo grafo, boolean paralelo, long limiteMemoria) {
+        if (limiteMemoria <= 0) {
+            throw new IllegalArgumentException("O limite de memória deve ser positivo: " + limiteMemoria);
+        }
+        this.grafo = grafo;
+        this.n = grafo.getNumVertices();
+        
+        Niveis niveis = new OrdenacaoTopologica(grafo).ordenarPorNiveis(paralelo);
+        int[] ordem = niveis.getOrdem();
+        this.posicao = new int[n];
+        for (int i = 0; i < n; i++) {
+            posicao[ordem[i]] = i;
+        }
+        
+        this.inicioArestas = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            inicioArestas[v + 1] = inicioArestas[v] + grafo.getGrauSaida(v);
+        }
+        this.removida = new boolean[inicioArestas[n]];
+        this.arestasOrdenadas = new int[inicioArestas[n]];
+        intervalo(0, n, paralelo).forEach(this::ordenarArestas);
+        
+        // Palavras de 64 bits por vértice em cada bloco de posições de destino
+        int palavrasTotais = (n + 63) >>> 6;
+        long porVertice = limiteMemoria / (8L * Math.max(1, n));
+        int palavrasBloco = (int) Math.max(1, Math.min(palavrasTotais, Math.min(porVertice, Integer.MAX_VALUE / Math.max(1, n))));
+        long[] alcance = new long[n * palavrasBloco];
+        
+        int[] inicioNiveis = niveis.getInicioNiveis();
+        for (int bloco = 0; bloco < palavrasTotais; bloco += palavrasBloco) {
+            int primeiraPalavra = bloco;
+            int numPalavras = Math.min(palavrasBloco, palavrasTotais - bloco);
+            for (int nivel = niveis.getNumNiveis() - 1; nivel >= 0; nivel--) {
+                int inicio = inicioNiveis[nivel];
+                int fim = inicioNiveis[nivel + 1];
+                intervalo(inicio, fim, paralelo && fim - inicio >= LIMIAR_PARALELO).forEach(i ->
+                    processar(ordem[i], alcance, palavrasBloco, primeiraPalavra, numPalavras));
+            }
+        }
+        
+        Grafo resultado = new Grafo(n);
+        int removidas = 0;
+        for (int v = 0; v < n; v++) {
+            for (int i = 0; i < grafo.getGrauSaida(v); i++) {
+                if (removida[inicioArestas[v] + i]) {
+                    removidas++;
+                } else if (grafo.isPonderado()) {
+                    resultado.adicionarAresta(v, grafo.getAdjacente(v, i), grafo.getPeso(v, i));
+                } else {
+                    resultado.adicionarAresta(v, grafo.getAdjacente(v, i));
+                }
+            }
+        }
+        this.reduzido = resultado;
+        this.numArestasRemovidas = removidas;
+    }
+    
+    /**
+     * Retorna o grafo reduzido, com as arestas restantes na ordem original e com os
+     * pesos originais.
+     * 
+     * @return a redução transitiva
+     */
+    public Grafo getGrafoReduzido() {
+        return reduzido;
+    }
+    
+    /**
+     * Retorna o número de arestas removidas, incluindo as repetidas.
+     * 
+     * @return arestas do original que não estão na redução
+     */
+    public int getNumArestasRemovidas() {
+        return numArestasRemovidas;
+    }
+    
+    /**
+     * Verifica se uma aresta do grafo original foi removida.
+     * 
+     * @param vertice o vértice de origem
+     * @param i índice da aresta, como em {@link Grafo#getAdjacente(int, int)}
+     * @return true se a aresta é redundante
+     */
+    public boolean isRemovida(int vertice, int i) {
+        if (i < 0 || i >= grafo.getGrauSaida(vertice)) {
+            throw new IndexOutOfBoundsException("Índice de adjacência inválido: " + i);
+        }
+        return removida[inicioArestas[vertice] + i];
+    }
+    
+    /**
+     * Ordena as arestas de {@code v} pela posição topológica do destino.
+     */
+    private void ordenarArestas(int v) {
+        int grau = grafo.getGrauSaida(v);
+        long[] chaves = new long[grau];
+        for (int i = 0; i < grau; i++) {
+            chaves[i] = ((long) posicao[grafo.getAdjacente(v, i)] << 32) | i;
+        }
+        Arrays.sort(chaves);
+        for (int i = 0; i < grau; i++) {
+            arestasOrdenadas[inicioArestas[v] + i] = (int) chaves[i];
+        }
+    }
+    
+    /**
+     * Calcula os bits do bloco alcançáveis a partir de {@code v} e marca as arestas
+     * redundantes cujo destino está no bloco. Os sucessores já foram processados, pois
+     * estão em níveis posteriores.
+     */
+    private void processar(int v, long[] alcance, int palavrasBloco, int primeiraPalavra, int numPalavras) {
+        int base = v * palavrasBloco;
+        Arrays.fill(alcance, base, base + numPalavras, 0L);
+        int inicioBloco = primeiraPalavra << 6;
+        int fimBloco = inicioBloco + (numPalavras << 6);
+        
+        for (int k = inicioArestas[v]; k < inicioArestas[v + 1]; k++) {
+            int i = arestasOrdenadas[k];
+            int w = grafo.getAdjacente(v, i);
+            int p = posicao[w];
+            boolean noBloco = p >= inicioBloco && p < fimBloco;
+            if (noBloco) {
+                int bit = p - inicioBloco;
+                long mascara = 1L << (bit & 63);
+                if ((alcance[base + (bit >>> 6)] & mascara) != 0) {
+                    // w já é alcançável por um sucessor anterior (ou é uma aresta repetida)
+                    removida[inicioArestas[v] + i] = true;
+                    continue;
+                }
+                alcance[base + (bit >>> 6)] |= mascara;
+            }
+            int baseW = w * palavrasBloco;
+            for (int j = 0; j < numPalavras; j++) {
+                alcance[base + j] |= alcance[baseW + j];
+            }
+        }
+    }
+    
+    private static IntStream intervalo(int inicio, int fim, boolean paralelo) {
+        IntStream indices = IntStream.range(inicio, fim);
+        return paralelo ? indices.parallel() : indices;
+    }
+}
@@ -1,16 +1,32 @@
 package br.ufcg.computacao.toposort.graph;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.Set;
 
 /**
  * Implementação de um grafo direcionado utilizando lista de adjacência.
  * 
- * <p>A estrutura de dados utilizada é um {@code Map<Integer, List<Integer>>}, onde
- * cada chave é um vértice e seu valor associado é uma lista dos vértices adjacentes.
+ * <p>Como os vértices são densos ({@code 0..n-1}), a lista de adjacência de cada vértice
+ * é um vetor {@code int[]} indexado pelo próprio vértice, que cresce geometricamente
+ * conforme as arestas são adicionadas, sem <i>boxing</i> nem busca em mapa. Os métodos
+ * {@link #getGrauSaida(int)} e {@link #getAdjacente(int, int)} dão acesso direto aos
+ * vetores; {@link #getAdjacentes(int)} e {@link #getVertices()} continuam disponíveis
+ * como visões somente leitura.
+ * 
+ * <p>Para que {@link #existeAresta(int, int)} custe $O(1)$ esperado, o conjunto de arestas
+ * também é mantido em uma tabela hash de endereçamento aberto com chaves {@code long}
+ * ({@code origem << 32 | destino}).
+ * 
+ * <p>As arestas podem ter pesos inteiros ({@link #adicionarAresta(int, int, int)}); arestas
+ * sem peso informado valem {@code 1}. Os vetores de pesos, paralelos aos de sucessores,
+ * só são alocados quando a primeira aresta com peso diferente de {@code 1} é adicionada,
+ * de modo que grafos sem pesos não pagam memória extra.
  * 
  * <p>Baseado nos estudos de:
  * <ul>
@@ -24,12 +40,32 @@ import java.util.Set;
  * </ul></p>
  * 
  * @author Joyce Vitória Nascimento Rodrigues
- * @version 1.0
+ * @version 1.2
  */
 public class Grafo {
     
-    // Mapa que associa cada vértice a sua lista de adjacência
-    private final Map<Integer, List<Integer>> listaAdj;
+    // Marcador de posição vazia na tabela de arestas (nenhuma chave válida é negativa)
+    private static final long VAZIO = -1L;
+    
+    private static final int CAPACIDADE_INICIAL_ADJACENCIA = 4;
+    
+    // Vetor de sucessores de cada vértice; apenas as primeiras grau[v] posições são válidas
+    private final int[][] adjacentes;
+    
+    // Grau de saída de cada vértice
+    private final int[] grau;
+    
+    // Peso de cada aresta, paralelo a 'adjacentes'; null enquanto todos os pesos valem 1
+    private int[][] pesos;
+    
+    // Tabela hash com as arestas distintas; o tamanho é sempre potência de 2
+    private long[] arestas;
+    
+    // Número de arestas distintas na tabela
+    private int numArestasDistintas;
+    
+    // Número de arestas, contando repetições
+    private int numArestas;
     
     // Número de vértices no grafo
     private final int numVertices;
@@ -41,24 +77,52 @@ public class Grafo {
      */
     public Grafo(int numVertices) {
         this.numVertices = numVertices;
-        this.listaAdj = new HashMap<>();
-        
-        // Inicialização da lista de adjacência para cada vértice
-        for (int i = 0; i < numVertices; i++) {
-            listaAdj.put(i, new ArrayList<>());
-        }
+        this.adjacentes = new int[numVertices][];
+        this.grau = new int[numVertices];
+        this.arestas = new long[16];
+        Arrays.fill(this.arestas, VAZIO);
     }
     
     /**
-     * Adiciona uma aresta direcionada do vértice origem para o vértice destino.
+     * Adiciona uma aresta direcionada do vértice origem para o vértice destino, com peso 1.
      * 
      * @param origem vértice de origem
      * @param destino vértice de destino
      */
     public void adicionarAresta(int origem, int destino) {
+        adicionarAresta(origem, destino, 1);
+    }
+    
+    /**
+     * Adiciona uma aresta direcionada e ponderada do vértice origem para o vértice destino.
+     * 
+     * @param origem vértice de origem
+     * @param destino vértice de destino
+     * @param peso peso da aresta (pode ser negativo)
+     */
+    public void adicionarAresta(int origem, int destino, int peso) {
         // vértices  válidos
         if (origem >= 0 && origem < numVertices && destino >= 0 && destino < numVertices) {
-            listaAdj.get(origem).add(destino);
+            int[] lista = adjacentes[origem];
+            if (lista == null) {
+                lista = adjacentes[origem] = new int[CAPACIDADE_INICIAL_ADJACENCIA];
+            } else if (grau[origem] == lista.length) {
+                lista = adjacentes[origem] = Arrays.copyOf(lista, lista.length * 2);
+            }
+            if (pesos == null && peso != 1) {
+                criarPesos();
+            }
+            if (pesos != null) {
+                if (pesos[origem] == null || pesos[origem].length < lista.length) {
+                    int[] linha = pesos[origem] == null ? new int[lista.length] : Arrays.copyOf(pesos[origem], lista.length);
+                    Arrays.fill(linha, grau[origem], linha.length, 1);
+                    pesos[origem] = linha;
+                }
+                pesos[origem][grau[origem]] = peso;
+            }
+            lista[grau[origem]++] = destino;
+            numArestas++;
+            registrarAresta(origem, destino);
         } else {
             throw new IllegalArgumentException("Vértices inválidos: " + origem + ", " + destino);
         }
@@ -67,15 +131,64 @@ public class Grafo {
     /**
      * Retorna a lista de vértices adjacentes (sucessores) de um determinado vértice.
      * 
+     * <p>A lista é uma visão somente leitura sobre o vetor interno e reflete arestas
+     * adicionadas depois da chamada.
+     * 
      * @param vertice o vértice para o qual se deseja obter a lista de adjacência
      * @return lista de vértices adjacentes
      */
     public List<Integer> getAdjacentes(int vertice) {
-        if (vertice >= 0 && vertice < numVertices) {
-            return listaAdj.get(vertice);
-        } else {
-            throw new IllegalArgumentException("Vértice inválido: " + vertice);
+        validarVertice(vertice);
+        return new Adjacentes(vertice);
+    }
+    
+    /**
+     * Retorna o grau de saída (número de sucessores) de um vértice.
+     * 
+     * @param vertice o vértice
+     * @return número de arestas que saem do vértice
+     */
+    public int getGrauSaida(int vertice) {
+        validarVertice(vertice);
+        return grau[vertice];
+    }
+    
+    /**
+     * Retorna o {@code i}-ésimo sucessor de um vértice, na ordem de inserção das arestas.
+     * 
+     * @param vertice o vértice
+     * @param i índice do sucessor, entre {@code 0} e {@code getGrauSaida(vertice) - 1}
+     * @return o sucessor
+     */
+    public int getAdjacente(int vertice, int i) {
+        if (i < 0 || i >= getGrauSaida(vertice)) {
+            throw new IndexOutOfBoundsException("Índice de adjacência inválido: " + i);
+        }
+        return adjacentes[vertice][i];
+    }
+    
+    /**
+     * Retorna o peso do {@code i}-ésimo sucessor de um vértice, na mesma ordem de
+     * {@link #getAdjacente(int, int)}.
+     * 
+     * @param vertice o vértice
+     * @param i índice do sucessor, entre {@code 0} e {@code getGrauSaida(vertice) - 1}
+     * @return o peso da aresta
+     */
+    public int getPeso(int vertice, int i) {
+        if (i < 0 || i >= getGrauSaida(vertice)) {
+            throw new IndexOutOfBoundsException("Índice de adjacência inválido: " + i);
         }
+        return pesos == null ? 1 : pesos[vertice][i];
+    }
+    
+    /**
+     * Verifica se alguma aresta tem peso diferente de 1.
+     * 
+     * @return true se o grafo tem pesos explícitos
+     */
+    public boolean isPonderado() {
+        return pesos != null;
     }
     
     /**
@@ -87,13 +200,22 @@ public class Grafo {
         return numVertices;
     }
     
+    /**
+     * Retorna o número de arestas do grafo, contando repetições.
+     * 
+     * @return número de arestas
+     */
+    public int getNumArestas() {
+        return numArestas;
+    }
+    
     /**
      * Retorna o conjunto de vértices do grafo.
      * 
      * @return conjunto de vértices
      */
     public Set<Integer> getVertices() {
-        return listaAdj.keySet();
+        return new Vertices();
     }
     
     /**
@@ -105,7 +227,13 @@ public class Grafo {
      */
     public boolean existeAresta(int origem, int destino) {
         if (origem >= 0 && origem < numVertices && destino >= 0 && destino < numVertices) {
-            return listaAdj.get(origem).contains(destino);
+            long chave = chave(origem, destino);
+            int mascara = arestas.length - 1;
+            for (int i = espalhar(chave) & mascara; arestas[i] != VAZIO; i = (i + 1) & mascara) {
+                if (arestas[i] == chave) {
+                    return true;
+                }
+            }
         }
         return false;
     }
@@ -120,11 +248,139 @@ public class Grafo {
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < numVertices; i++) {
             sb.append(i).append(" -> ");
-            for (Integer v : listaAdj.get(i)) {
-                sb.append(v).append(" ");
+            for (int j = 0; j < grau[i]; j++) {
+                sb.append(adjacentes[i][j]).append(" ");
             }
             sb.append("\n");
         }
         return sb.toString();
     }
+    
+    /**
+     * Aloca os vetores de pesos para as arestas já existentes, todas com peso 1.
+     */
+    private void criarPesos() {
+        pesos = new int[numVertices][];
+        for (int v = 0; v < numVertices; v++) {
+            if (adjacentes[v] != null) {
+                pesos[v] = new int[adjacentes[v].length];
+                Arrays.fill(pesos[v], 1);
+            }
+        }
+    }
+    
+    private void validarVertice(int vertice) {
+        if (vertice < 0 || vertice >= numVertices) {
+            throw new IllegalArgumentException("Vértice inválido: " + vertice);
+        }
+    }
+    
+    /**
+     * Insere a aresta na tabela hash, se ainda não estiver presente (sondagem linear).
+     */
+    private void registrarAresta(int origem, int destino) {
+        long chave = chave(origem, destino);
+        int mascara = arestas.length - 1;
+        int i = espalhar(chave) & mascara;
+        while (arestas[i] != VAZIO) {
+            if (arestas[i] == chave) {
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        arestas[i] = chave;
+        numArestasDistintas++;
+        
+        // fator de carga máximo de 1/2
+        if (numArestasDistintas * 2 > arestas.length) {
+            long[] antiga = arestas;
+            arestas = new long[antiga.length * 2];
+            Arrays.fill(arestas, VAZIO);
+            mascara = arestas.length - 1;
+            for (long c : antiga) {
+                if (c != VAZIO) {
+                    int j = espalhar(c) & mascara;
+                    while (arestas[j] != VAZIO) {
+                        j = (j + 1) & mascara;
+                    }
+                    arestas[j] = c;
+                }
+            }
+        }
+    }
+    
+    private static long chave(int origem, int destino) {
+        return ((long) origem << 32) | destino;
+    }
+    
+    /**
+     * Função de espalhamento de 64 bits (finalizador do MurmurHash3).
+     */
+    private static int espalhar(long chave) {
+        long h = chave;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+    
+    /**
+     * Visão somente leitura dos sucessores de um vértice.
+     */
+    private final class Adjacentes extends AbstractList<Integer> implements RandomAccess {
+        
+        private final int vertice;
+        
+        Adjacentes(int vertice) {
+            this.vertice = vertice;
+        }
+        
+        @Override
+        public Integer get(int i) {
+            return getAdjacente(vertice, i);
+        }
+        
+        @Override
+        public int size() {
+            return grau[vertice];
+        }
+    }
+    
+    /**
+     * Visão somente leitura do conjunto {@code {0, ..., n-1}}.
+     */
+    private final class Vertices extends AbstractSet<Integer> {
+        
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer && (Integer) o >= 0 && (Integer) o < numVertices;
+        }
+        
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<Integer>() {
+                private int proximo = 0;
+                
+                @Override
+                public boolean hasNext() {
+                    return proximo < numVertices;
+                }
+                
+                @Override
+                public Integer next() {
+                    if (proximo >= numVertices) {
+                        throw new NoSuchElementException();
+                    }
+                    return proximo++;
+                }
+            };
+        }
+        
+        @Override
+        public int size() {
+            return numVertices;
+        }
+    }
 }
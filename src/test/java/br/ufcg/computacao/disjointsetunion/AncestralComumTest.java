@@ -0,0 +1,84 @@
+package br.ufcg.computacao.disjointsetunion;
+
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+public class AncestralComumTest{
+
+    private static int ingenuo(int[] pais, int u, int v) {
+        boolean[] ancestralDeU = new boolean[pais.length];
+        for (int x = u; x != -1; x = pais[x])
+            ancestralDeU[x] = true;
+        for (int x = v; x != -1; x = pais[x])
+            if (ancestralDeU[x])
+                return x;
+        return -1;
+    }
+
+    @Test
+    void testArvorePequena(){
+        //        0         5
+        //      /   \       |
+        //     1     2      6
+        //    / \
+        //   3   4
+        int[] pais = {-1, 0, 0, 1, 1, -1, 5};
+        int[] a = {3, 3, 4, 2, 6, 3};
+        int[] b = {4, 2, 1, 2, 5, 6};
+        int[] esperado = {1, 0, 1, 2, 5, -1};
+
+        assertArrayEquals(esperado, AncestralComum.tarjan(pais, a, b));
+        AncestralComum lca = new AncestralComum(pais);
+        for (int i = 0; i < a.length; i++)
+            assertEquals(esperado[i], lca.consultar(a[i], b[i]));
+    }
+
+    @Test
+    void testFlorestaAleatoriaEquivalenteAoIngenuo(){
+        int n = 3000;
+        int q = 2000;
+        Random random = new Random(9);
+        int[] pais = new int[n];
+        for (int v = 0; v < n; v++)
+            pais[v] = v == 0 || random.nextInt(50) == 0 ? -1 : random.nextInt(v);
+        int[] a = new int[q];
+        int[] b = new int[q];
+        for (int i = 0; i < q; i++) {
+            a[i] = random.nextInt(n);
+            b[i] = random.nextInt(n);
+        }
+
+        int[] offline = AncestralComum.tarjan(pais, a, b);
+        AncestralComum online = new AncestralComum(pais);
+        for (int i = 0; i < q; i++) {
+            int esperado = ingenuo(pais, a[i], b[i]);
+            assertEquals(esperado, offline[i]);
+            assertEquals(esperado, online.consultar(a[i], b[i]));
+        }
+    }
+
+    @Test
+    void testCaminhoProfundo(){
+        int n = 200000;
+        int[] pais = new int[n];
+        for (int v = 0; v < n; v++)
+            pais[v] = v - 1;
+        int[] respostas = AncestralComum.tarjan(pais, new int[]{n - 1, 10}, new int[]{n / 2, n - 5});
+        assertArrayEquals(new int[]{n / 2, 10}, respostas);
+        assertEquals(n / 2, new AncestralComum(pais).consultar(n - 1, n / 2));
+    }
+
+    @Test
+    void testCicloNoVetorDePais(){
+        int[] pais = {-1, 2, 1};
+        assertThrows(IllegalArgumentException.class, () -> AncestralComum.tarjan(pais, new int[0], new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AncestralComum(pais));
+    }
+}
@@ -0,0 +1,50 @@
+package br.ufcg.computacao.disjointsetunion;
+
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+public class BoruvkaTest{
+
+    @Test
+    void testGrafoSimples(){
+        // 0-1 (4), 0-2 (1), 1-2 (2), 1-3 (5), 2-3 (8), 3-4 (3), laço em 4, 5 isolado
+        int[] u = {0, 0, 1, 1, 2, 3, 4};
+        int[] v = {1, 2, 2, 3, 3, 4, 4};
+        int[] w = {4, 1, 2, 5, 8, 3, 0};
+
+        ArvoreGeradora arvore = new Boruvka(6, u, v, w).executar();
+        assertArrayEquals(new int[] {1, 2, 3, 5}, arvore.getArestas());
+        assertEquals(11, arvore.getPesoTotal());
+        assertEquals(2, arvore.getNumComponentes());
+    }
+
+    @Test
+    void testMesmoResultadoDoKruskal(){
+        Random random = new Random(42);
+        int n = 5000;
+        int m = 60000;
+        int[] u = new int[m];
+        int[] v = new int[m];
+        int[] w = new int[m];
+        for (int i = 0; i < m; i++) {
+            u[i] = random.nextInt(n);
+            v[i] = random.nextInt(n);
+            w[i] = random.nextInt(50); // muitos empates
+        }
+
+        ArvoreGeradora esperado = new Kruskal(n, u, v, w).executar();
+        ArvoreGeradora paralelo = new Boruvka(n, u, v, w).executar(true);
+        ArvoreGeradora sequencial = new Boruvka(n, u, v, w).executar(false);
+
+        assertArrayEquals(esperado.getArestas(), paralelo.getArestas());
+        assertArrayEquals(esperado.getArestas(), sequencial.getArestas());
+        assertEquals(esperado.getPesoTotal(), paralelo.getPesoTotal());
+        assertEquals(esperado.getNumComponentes(), paralelo.getNumComponentes());
+    }
+}
@@ -0,0 +1,112 @@
+package br.ufcg.computacao.disjointsetunion;
+
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+public class ComponentesConexosTest{
+
+    private Path diretorio;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        diretorio = Files.createTempDirectory("componentes");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : (Iterable<Path>) arquivos::iterator)
+                Files.delete(arquivo);
+        }
+        Files.delete(diretorio);
+    }
+
+    @Test
+    void testTextoComComentarios() throws IOException {
+        Path arestas = diretorio.resolve("arestas.txt");
+        Path saida = diretorio.resolve("componentes.txt");
+        Files.write(arestas, "# grafo de teste\n4 5\r\n0\t2\n  % outro comentário\n2 0\n5 6".getBytes(StandardCharsets.UTF_8));
+
+        for (ComponentesConexos.Estrutura estrutura : ComponentesConexos.Estrutura.values()) {
+            ComponentesConexos.Resultado resultado =
+                    new ComponentesConexos(7, ComponentesConexos.Formato.TEXTO, estrutura, 2).processar(arestas, saida);
+            assertEquals(4, resultado.getNumArestas());
+            assertEquals(4, resultado.getNumComponentes());
+            assertEquals("0 0\n1 1\n2 0\n3 2\n4 3\n5 3\n6 3\n",
+                    new String(Files.readAllBytes(saida), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testBinarioEquivalenteAoDSULogn() throws IOException {
+        int n = 500;
+        int m = 400;
+        Random random = new Random(5);
+        DSULogn esperado = new DSULogn(n);
+        for (int v = 0; v < n; v++)
+            esperado.makeSet(v);
+
+        Path arestas = diretorio.resolve("arestas.bin");
+        try (DataOutputStream saida = new DataOutputStream(Files.newOutputStream(arestas))) {
+            for (int i = 0; i < m; i++) {
+                int u = random.nextInt(n);
+                int v = random.nextInt(n);
+                esperado.unionSet(u, v);
+                saida.writeInt(u);
+                saida.writeInt(v);
+            }
+        }
+
+        int[][] rotulos = new int[2][n];
+        ComponentesConexos.Estrutura[] estruturas = ComponentesConexos.Estrutura.values();
+        for (int e = 0; e < estruturas.length; e++) {
+            Path saida = diretorio.resolve("componentes-" + e + ".bin");
+            ComponentesConexos.Resultado resultado =
+                    new ComponentesConexos(n, ComponentesConexos.Formato.BINARIO, estruturas[e], 64).processar(arestas, saida);
+            assertEquals(m, resultado.getNumArestas());
+            assertEquals(esperado.getNumComponentes(), resultado.getNumComponentes());
+            try (DataInputStream entrada = new DataInputStream(Files.newInputStream(saida))) {
+                for (int v = 0; v < n; v++)
+                    rotulos[e][v] = entrada.readInt();
+            }
+            for (int u = 0; u < n; u++) {
+                int v = random.nextInt(n);
+                assertEquals(esperado.findSet(u) == esperado.findSet(v), rotulos[e][u] == rotulos[e][v]);
+            }
+        }
+        assertArrayEquals(rotulos[0], rotulos[1]);
+    }
+
+    @Test
+    void testArquivosInvalidos() throws IOException {
+        Path arestas = diretorio.resolve("arestas.txt");
+        Path saida = diretorio.resolve("componentes.txt");
+        ComponentesConexos componentes =
+                new ComponentesConexos(3, ComponentesConexos.Formato.TEXTO, ComponentesConexos.Estrutura.SEQUENCIAL);
+
+        Files.write(arestas, "0 1\n2".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> componentes.processar(arestas, saida));
+
+        Files.write(arestas, "0 -1\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> componentes.processar(arestas, saida));
+
+        Files.write(arestas, "0 3\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> componentes.processar(arestas, saida));
+    }
+}
@@ -0,0 +1,81 @@
+package br.ufcg.computacao.disjointsetunion;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+public class ConectividadeDinamicaTest{
+
+    private static final int A = ConectividadeDinamica.ADICIONAR;
+    private static final int R = ConectividadeDinamica.REMOVER;
+    private static final int C = ConectividadeDinamica.CONSULTAR;
+
+    @Test
+    void testLinhaDoTempoSimples(){
+        int[] tipos = { A, A, C, R, C, A, C, R, C };
+        int[] u =     { 0, 1, 0, 1, 0, 0, 2, 2, 0 };
+        int[] v =     { 1, 2, 2, 2, 2, 2, 1, 0, 1 };
+
+        boolean[] respostas = new ConectividadeDinamica(3).resolver(tipos, u, v);
+        assertEquals(4, respostas.length);
+        assertEquals(true, respostas[0]);
+        assertEquals(false, respostas[1]);
+        assertEquals(true, respostas[2]);
+        assertEquals(true, respostas[3]);
+    }
+
+    @Test
+    void testRemocaoInvalida(){
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConectividadeDinamica(2).resolver(new int[] { R }, new int[] { 0 }, new int[] { 1 }));
+    }
+
+    @Test
+    void testEquivalenteARecalcularComponentes(){
+        int n = 30;
+        int m = 1500;
+        Random random = new Random(11);
+        int[] tipos = new int[m];
+        int[] u = new int[m];
+        int[] v = new int[m];
+        List<int[]> ativas = new ArrayList<>();
+        List<Boolean> esperado = new ArrayList<>();
+
+        for (int t = 0; t < m; t++) {
+            int sorteio = random.nextInt(3);
+            if (sorteio == R && ativas.isEmpty())
+                sorteio = A;
+            tipos[t] = sorteio;
+            if (sorteio == R) {
+                int[] aresta = ativas.remove(random.nextInt(ativas.size()));
+                u[t] = aresta[1]; // extremidades invertidas de propósito
+                v[t] = aresta[0];
+            } else {
+                u[t] = random.nextInt(n);
+                v[t] = random.nextInt(n);
+                if (sorteio == A) {
+                    ativas.add(new int[] { u[t], v[t] });
+                } else {
+                    DSULogn dsu = new DSULogn(n);
+                    for (int x = 0; x < n; x++)
+                        dsu.makeSet(x);
+                    for (int[] aresta : ativas)
+                        dsu.unionSet(aresta[0], aresta[1]);
+                    esperado.add(dsu.findSet(u[t]) == dsu.findSet(v[t]));
+                }
+            }
+        }
+
+        boolean[] respostas = new ConectividadeDinamica(n).resolver(tipos, u, v);
+        assertEquals(esperado.size(), respostas.length);
+        for (int i = 0; i < respostas.length; i++)
+            assertEquals(esperado.get(i), respostas[i]);
+    }
+}
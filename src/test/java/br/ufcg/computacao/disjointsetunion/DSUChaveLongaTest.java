@@ -0,0 +1,81 @@
+package br.ufcg.computacao.disjointsetunion;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+public class DSUChaveLongaTest{
+
+    @Test
+    void testChavesArbitrarias(){
+        DSUChaveLonga dsu = new DSUChaveLonga();
+        long a = Long.MIN_VALUE, b = -1L, c = 0L, d = Long.MAX_VALUE, e = 1L << 40;
+
+        assertTrue(dsu.makeSet(a));
+        assertFalse(dsu.makeSet(a));
+        assertTrue(dsu.unionSet(a, b));
+        assertTrue(dsu.unionSet(c, d));
+        assertFalse(dsu.unionSet(b, a));
+        assertEquals(4, dsu.getNumElementos());
+        assertEquals(2, dsu.getNumConjuntos());
+        assertEquals(dsu.findSet(a), dsu.findSet(b));
+        assertTrue(dsu.findSet(a) != dsu.findSet(c));
+
+        dsu.unionSet(b, c);
+        assertEquals(dsu.findSet(a), dsu.findSet(d));
+        assertEquals(4, dsu.sizeOf(d));
+
+        assertFalse(dsu.contains(e));
+        assertThrows(IllegalArgumentException.class, () -> dsu.findSet(e));
+    }
+
+    @Test
+    void testCrescimentoEquivalenteAoDSULogn(){
+        int n = 5000;
+        Random random = new Random(7);
+        long[] chaves = new long[n];
+        for (int i = 0; i < n; i++)
+            chaves[i] = random.nextLong();
+
+        DSULogn esperado = new DSULogn(n);
+        for (int v = 0; v < n; v++)
+            esperado.makeSet(v);
+        DSUChaveLonga dsu = new DSUChaveLonga(1);
+
+        for (int i = 0; i < 2 * n; i++) {
+            int x = random.nextInt(n);
+            int y = random.nextInt(n);
+            esperado.unionSet(x, y);
+            dsu.unionSet(chaves[x], chaves[y]);
+        }
+
+        for (int x = 0; x < n; x++) {
+            if (!dsu.contains(chaves[x]))
+                continue;
+            for (int k = 0; k < 3; k++) {
+                int y = random.nextInt(n);
+                if (dsu.contains(chaves[y]))
+                    assertEquals(esperado.findSet(x) == esperado.findSet(y),
+                            dsu.findSet(chaves[x]) == dsu.findSet(chaves[y]));
+            }
+        }
+    }
+
+    @Test
+    void testCapacidadeInicialInvalida(){
+        assertThrows(IllegalArgumentException.class, () -> new DSUChaveLonga(-1));
+        assertThrows(IllegalArgumentException.class, () -> new DSUChaveLonga(DSUChaveLonga.MAX_ELEMENTOS + 1));
+        assertThrows(IllegalArgumentException.class, () -> new DSUChaveLonga(Integer.MAX_VALUE));
+
+        DSUChaveLonga dsu = new DSUChaveLonga(0);
+        assertTrue(dsu.makeSet(Long.MIN_VALUE));
+        assertEquals(1, dsu.getNumElementos());
+    }
+}
@@ -0,0 +1,117 @@
+package br.ufcg.computacao.disjointsetunion;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+public class DSUCompactoTest{
+
+    private static DSUCompacto criar(int n, DSUCompacto.Compressao compressao, DSUCompacto.Uniao uniao) {
+        DSUCompacto dsu = new DSUCompacto(n, compressao, uniao);
+        for (int v = 0; v < n; v++)
+            dsu.makeSet(v);
+        return dsu;
+    }
+
+    @Test
+    void testUnionSetTodasAsVariantes(){
+        for (DSUCompacto.Compressao compressao : DSUCompacto.Compressao.values())
+            for (DSUCompacto.Uniao uniao : DSUCompacto.Uniao.values()) {
+                DSUCompacto dsu = criar(7, compressao, uniao);
+                assertTrue(dsu.unionSet(0, 1));
+                assertTrue(dsu.unionSet(2, 3));
+                assertTrue(dsu.unionSet(4, 5));
+                assertFalse(dsu.unionSet(1, 0));
+                assertEquals(dsu.findSet(0), dsu.findSet(1));
+
+                dsu.unionSet(1, 2);
+                assertEquals(dsu.findSet(0), dsu.findSet(3));
+
+                dsu.unionSet(5, 6);
+                dsu.unionSet(6, 0);
+                for (int v = 1; v < 7; v++)
+                    assertEquals(dsu.findSet(0), dsu.findSet(v));
+            }
+    }
+
+    @Test
+    void testEquivalenteAoDSULogn(){
+        int n = 2000;
+        Random random = new Random(42);
+        DSULogn esperado = new DSULogn(n);
+        for (int v = 0; v < n; v++)
+            esperado.makeSet(v);
+        DSUCompacto[] variantes = {
+            criar(n, DSUCompacto.Compressao.HALVING, DSUCompacto.Uniao.TAMANHO),
+            criar(n, DSUCompacto.Compressao.HALVING, DSUCompacto.Uniao.RANK),
+            criar(n, DSUCompacto.Compressao.SPLITTING, DSUCompacto.Uniao.TAMANHO),
+            criar(n, DSUCompacto.Compressao.SPLITTING, DSUCompacto.Uniao.RANK)
+        };
+
+        for (int i = 0; i < 1500; i++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            esperado.unionSet(a, b);
+            for (DSUCompacto dsu : variantes)
+                dsu.unionSet(a, b);
+
+            int x = random.nextInt(n);
+            int y = random.nextInt(n);
+            boolean mesmoConjunto = esperado.findSet(x) == esperado.findSet(y);
+            for (DSUCompacto dsu : variantes)
+                assertEquals(mesmoConjunto, dsu.findSet(x) == dsu.findSet(y));
+        }
+    }
+
+    @Test
+    void testSizeOf(){
+        DSUCompacto dsu = criar(5, DSUCompacto.Compressao.HALVING, DSUCompacto.Uniao.TAMANHO);
+        dsu.unionSet(0, 1);
+        dsu.unionSet(1, 2);
+        assertEquals(3, dsu.sizeOf(2));
+        assertEquals(1, dsu.sizeOf(4));
+
+        DSUCompacto porRank = criar(2, DSUCompacto.Compressao.HALVING, DSUCompacto.Uniao.RANK);
+        assertThrows(IllegalStateException.class, () -> porRank.sizeOf(0));
+    }
+
+    @Test
+    void testCadeiaLongaSemRecursao(){
+        // cadeia de 10^6 elementos: o findSet iterativo não pode estourar a pilha
+        int n = 1_000_000;
+        DSUCompacto dsu = criar(n, DSUCompacto.Compressao.SPLITTING, DSUCompacto.Uniao.TAMANHO);
+        for (int v = 1; v < n; v++)
+            dsu.unionSet(v - 1, v);
+        assertEquals(dsu.findSet(0), dsu.findSet(n - 1));
+        assertEquals(n, dsu.sizeOf(n / 2));
+    }
+
+    @Test
+    void testElementosSemMakeSet(){
+        for (DSUCompacto.Compressao compressao : DSUCompacto.Compressao.values()) {
+            // sem makeSet(0): antes, findSet(2) entrava em laço infinito em 0
+            DSUCompacto dsu = new DSUCompacto(3, compressao, DSUCompacto.Uniao.TAMANHO);
+            dsu.makeSet(1);
+            assertEquals(2, dsu.findSet(2));
+            assertEquals(0, dsu.findSet(0));
+            assertEquals(1, dsu.sizeOf(2));
+
+            // com makeSet(0): antes, findSet(2) devolvia 0 silenciosamente
+            DSUCompacto outro = new DSUCompacto(4, compressao, DSUCompacto.Uniao.TAMANHO);
+            outro.makeSet(0);
+            assertEquals(2, outro.findSet(2));
+            assertTrue(outro.unionSet(2, 3));
+            assertFalse(outro.unionSet(3, 2));
+            assertEquals(outro.findSet(2), outro.findSet(3));
+            assertEquals(0, outro.findSet(0));
+            assertEquals(2, outro.sizeOf(3));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package br.ufcg.computacao.disjointsetunion;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+public class DSUConcorrenteTest{
+
+    private DSUConcorrente dsu;
+
+    @BeforeEach
+    public void setUp() {
+        dsu = new DSUConcorrente(7);
+    }
+
+    @Test
+    void testInicializacao() {
+        for (int v = 0; v < 7; v++)
+            assertEquals(v, dsu.findSet(v));
+    }
+
+    @Test
+    void testUnionSet(){
+        assertTrue(dsu.unionSet(0, 1));
+        assertTrue(dsu.unionSet(2, 3));
+        assertTrue(dsu.unionSet(4, 5));
+        assertFalse(dsu.unionSet(1, 0));
+
+        assertTrue(dsu.sameSet(0, 1));
+        assertFalse(dsu.sameSet(1, 2));
+
+        dsu.unionSet(1, 2);
+        assertEquals(dsu.findSet(0), dsu.findSet(3));
+
+        dsu.unionSet(5, 6);
+        dsu.unionSet(6, 0);
+        for (int v = 1; v < 7; v++)
+            assertTrue(dsu.sameSet(0, v));
+    }
+
+    @Test
+    void testUnioesConcorrentes() throws InterruptedException {
+        int n = 20000;
+        int operacoes = 40000;
+        Random random = new Random(42);
+        int[] a = new int[operacoes];
+        int[] b = new int[operacoes];
+        DSULogn esperado = new DSULogn(n);
+        for (int v = 0; v < n; v++)
+            esperado.makeSet(v);
+        int componentesEsperados = n;
+        for (int i = 0; i < operacoes; i++) {
+            a[i] = random.nextInt(n);
+            b[i] = random.nextInt(n);
+            if (esperado.findSet(a[i]) != esperado.findSet(b[i]))
+                componentesEsperados--;
+            esperado.unionSet(a[i], b[i]);
+        }
+
+        DSUConcorrente concorrente = new DSUConcorrente(n);
+        int threads = 4;
+        AtomicInteger unioesEfetivas = new AtomicInteger();
+        List<Thread> lista = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int inicio = t;
+            Thread thread = new Thread(() -> {
+                for (int i = inicio; i < operacoes; i += threads)
+                    if (concorrente.unionSet(a[i], b[i]))
+                        unioesEfetivas.incrementAndGet();
+            });
+            lista.add(thread);
+        }
+        for (Thread thread : lista)
+            thread.start();
+        for (Thread thread : lista)
+            thread.join();
+
+        // cada união efetiva reduz exatamente um componente
+        assertEquals(componentesEsperados, n - unioesEfetivas.get());
+        for (int v = 0; v < n; v++)
+            assertEquals(esperado.findSet(v) == esperado.findSet(0), concorrente.sameSet(v, 0));
+    }
+}
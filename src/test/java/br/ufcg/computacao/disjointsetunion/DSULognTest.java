@@ -1,8 +1,11 @@
 package br.ufcg.computacao.disjointsetunion;
 
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +56,29 @@ public class DSULognTest{
         assertEquals(0, dsu.findSet(5));
         assertEquals(0, dsu.findSet(6));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testEstatisticasDosComponentes(){
+        assertEquals(7, dsu.getNumComponentes());
+        assertArrayEquals(new int[]{3}, dsu.membros(3));
+
+        dsu.unionSet(0, 1);
+        dsu.unionSet(2, 3);
+        dsu.unionSet(1, 3);
+        dsu.unionSet(3, 0);
+        dsu.unionSet(5, 6);
+        assertEquals(3, dsu.getNumComponentes());
+        assertEquals(4, dsu.sizeOf(2));
+        assertEquals(2, dsu.sizeOf(6));
+        assertEquals(1, dsu.sizeOf(4));
+
+        int[] membros = dsu.membros(2);
+        assertEquals(2, membros[0]);
+        Arrays.sort(membros);
+        assertArrayEquals(new int[]{0, 1, 2, 3}, membros);
+
+        int[] outros = dsu.membros(6);
+        Arrays.sort(outros);
+        assertArrayEquals(new int[]{5, 6}, outros);
+    }
+}
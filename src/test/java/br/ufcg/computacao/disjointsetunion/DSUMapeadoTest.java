@@ -0,0 +1,87 @@
+package br.ufcg.computacao.disjointsetunion;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+public class DSUMapeadoTest{
+
+    private Path arquivo;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        arquivo = Files.createTempFile("dsu-mapeado", ".bin");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Test
+    void testUnionSet() throws IOException {
+        try (DSUMapeado dsu = new DSUMapeado(7)) {
+            assertEquals(7, dsu.getNumComponentes());
+            assertEquals(3, dsu.findSet(3));
+            assertTrue(dsu.unionSet(0, 1));
+            assertTrue(dsu.unionSet(2, 3));
+            assertTrue(dsu.unionSet(1, 3));
+            assertFalse(dsu.unionSet(0, 2));
+            assertEquals(dsu.findSet(0), dsu.findSet(3));
+            assertTrue(dsu.findSet(0) != dsu.findSet(4));
+            assertEquals(4, dsu.getNumComponentes());
+            assertThrows(IndexOutOfBoundsException.class, () -> dsu.findSet(7));
+        }
+    }
+
+    @Test
+    void testUnionAllEmVariosSegmentosEquivalenteAoDSULogn() throws IOException {
+        int n = 1000;
+        int m = 1500;
+        Random random = new Random(3);
+        DSULogn esperado = new DSULogn(n);
+        for (int v = 0; v < n; v++)
+            esperado.makeSet(v);
+
+        LongBuffer arestas = LongBuffer.allocate(2 * m);
+        for (int i = 0; i < m; i++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            esperado.unionSet(u, v);
+            arestas.put(u).put(v);
+        }
+        arestas.flip();
+
+        try (DSUMapeado dsu = new DSUMapeado(n, arquivo, 6)) { // segmentos de 64 elementos
+            long unioes = dsu.unionAll(arestas);
+            assertFalse(arestas.hasRemaining());
+            assertEquals(esperado.getNumComponentes(), dsu.getNumComponentes());
+            assertEquals(n - unioes, dsu.getNumComponentes());
+            for (int u = 0; u < n; u++) {
+                int v = random.nextInt(n);
+                assertEquals(esperado.findSet(u) == esperado.findSet(v), dsu.findSet(u) == dsu.findSet(v));
+            }
+        }
+        assertEquals(9L * n, Files.size(arquivo));
+    }
+
+    @Test
+    void testUnionAllRejeitaParIncompleto() throws IOException {
+        try (DSUMapeado dsu = new DSUMapeado(4)) {
+            assertThrows(IllegalArgumentException.class, () -> dsu.unionAll(LongBuffer.wrap(new long[]{0, 1, 2})));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.ufcg.computacao.disjointsetunion;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+
+public class DSURollbackTest{
+
+    @Test
+    void testRollbackRestauraEstado(){
+        DSURollback dsu = new DSURollback(6);
+        assertTrue(dsu.unionSet(0, 1));
+        int marcador = dsu.snapshot();
+
+        assertTrue(dsu.unionSet(2, 3));
+        assertTrue(dsu.unionSet(1, 3));
+        assertFalse(dsu.unionSet(0, 2));
+        assertEquals(4, dsu.sizeOf(2));
+        assertEquals(3, dsu.getNumComponentes());
+
+        dsu.rollback(marcador);
+        assertEquals(5, dsu.getNumComponentes());
+        assertEquals(dsu.findSet(0), dsu.findSet(1));
+        assertTrue(dsu.findSet(0) != dsu.findSet(2));
+        assertTrue(dsu.findSet(2) != dsu.findSet(3));
+        assertEquals(2, dsu.sizeOf(1));
+        assertEquals(1, dsu.sizeOf(3));
+
+        dsu.rollback(0);
+        assertEquals(6, dsu.getNumComponentes());
+        assertThrows(IllegalArgumentException.class, () -> dsu.rollback(1));
+    }
+}
@@ -0,0 +1,85 @@
+package br.ufcg.computacao.disjointsetunion;
+
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+public class KruskalTest{
+
+    @Test
+    void testGrafoSimples(){
+        // 0-1 (4), 0-2 (1), 1-2 (2), 1-3 (5), 2-3 (8), 3-4 (3), 5 isolado
+        int[] u = {0, 0, 1, 1, 2, 3};
+        int[] v = {1, 2, 2, 3, 3, 4};
+        int[] w = {4, 1, 2, 5, 8, 3};
+
+        for (Kruskal.Modo modo : Kruskal.Modo.values()) {
+            ArvoreGeradora arvore = new Kruskal(6, u, v, w).executar(modo);
+            assertArrayEquals(new int[] {1, 2, 3, 5}, arvore.getArestas());
+            assertEquals(11, arvore.getPesoTotal());
+            assertEquals(2, arvore.getNumComponentes());
+        }
+    }
+
+    @Test
+    void testModosEquivalentes(){
+        Random random = new Random(42);
+        int n = 3000;
+        int m = 40000;
+        int[] u = new int[m];
+        int[] v = new int[m];
+        int[] w = new int[m];
+        for (int i = 0; i < m; i++) {
+            u[i] = random.nextInt(n);
+            v[i] = random.nextInt(n);
+            w[i] = random.nextInt(2000) - 1000; // pesos negativos e muitos empates
+        }
+
+        ArvoreGeradora paralela = new Kruskal(n, u, v, w).executar(Kruskal.Modo.ORDENACAO_PARALELA);
+        ArvoreGeradora radix = new Kruskal(n, u, v, w).executar(Kruskal.Modo.RADIX);
+        ArvoreGeradora filter = new Kruskal(n, u, v, w).executar(Kruskal.Modo.FILTER_KRUSKAL);
+
+        assertArrayEquals(paralela.getArestas(), radix.getArestas());
+        assertArrayEquals(paralela.getArestas(), filter.getArestas());
+        assertEquals(paralela.getPesoTotal(), filter.getPesoTotal());
+        assertEquals(prim(n, u, v, w), paralela.getPesoTotal());
+    }
+
+    /**
+     * Peso da floresta mínima pelo algoritmo de Prim em O(n^2), usado como referência.
+     */
+    private static long prim(int n, int[] u, int[] v, int[] w) {
+        long[][] custo = new long[n][n];
+        for (long[] linha : custo)
+            Arrays.fill(linha, Long.MAX_VALUE);
+        for (int i = 0; i < u.length; i++)
+            if (u[i] != v[i]) {
+                custo[u[i]][v[i]] = Math.min(custo[u[i]][v[i]], w[i]);
+                custo[v[i]][u[i]] = custo[u[i]][v[i]];
+            }
+
+        boolean[] naArvore = new boolean[n];
+        long[] melhor = new long[n];
+        Arrays.fill(melhor, Long.MAX_VALUE);
+        long total = 0;
+        for (int passo = 0; passo < n; passo++) {
+            int escolhido = -1;
+            for (int x = 0; x < n; x++)
+                if (!naArvore[x] && (escolhido == -1 || melhor[x] < melhor[escolhido]))
+                    escolhido = x;
+            naArvore[escolhido] = true;
+            if (melhor[escolhido] != Long.MAX_VALUE)
+                total += melhor[escolhido]; // senão inicia um novo componente
+            for (int x = 0; x < n; x++)
+                if (!naArvore[x] && custo[escolhido][x] < melhor[x])
+                    melhor[x] = custo[escolhido][x];
+        }
+        return total;
+    }
+}
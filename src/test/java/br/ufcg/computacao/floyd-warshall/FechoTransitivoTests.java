@@ -0,0 +1,104 @@
+package br.ufcg.computacao.floydwarshall;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de testes unitários para a classe {@code FechoTransitivo}.
+ * <p>
+ * Verifica se a alcançabilidade calculada com conjuntos de bits coincide com a obtida
+ * pelo {@code FloydWarshall} e por buscas simples, tanto na versão sequencial quanto
+ * na paralela.
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+class FechoTransitivoTests {
+
+    private static final int INF = FloydWarshall.INFINITO;
+
+    private static int[][] grafoAleatorio(int n, double densidade, long semente) {
+        Random random = new Random(semente);
+        int[][] matriz = new int[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                matriz[i][j] = (i == j) ? 0 : (random.nextDouble() < densidade ? random.nextInt(10) + 1 : INF);
+        return matriz;
+    }
+
+    /**
+     * Testa o fecho em um grafo 4x4 direcionado acíclico.
+     */
+    @Test
+    void testGrafoSimples() {
+        int[][] matriz = {
+            {0,   3,  10, INF},
+            {INF, 0,   1,  7},
+            {INF, INF, 0,  2},
+            {INF, INF, INF, 0}
+        };
+
+        FechoTransitivo fecho = new FechoTransitivo(matriz);
+        assertTrue(fecho.alcanca(0, 3));
+        assertTrue(fecho.alcanca(2, 2));
+        assertFalse(fecho.alcanca(3, 0));
+        assertEquals(4, fecho.contarAlcancaveis(0));
+        assertEquals(1, fecho.contarAlcancaveis(3));
+    }
+
+    /**
+     * Compara com a verificação {@code getDistancia(u, v) != INFINITO} do {@code FloydWarshall}.
+     */
+    @Test
+    void testEquivalenteAoFloydWarshall() {
+        int n = 150;
+        int[][] matriz = grafoAleatorio(n, 0.01, 42);
+
+        FloydWarshall fw = new FloydWarshall(matriz);
+        FechoTransitivo fecho = new FechoTransitivo(matriz);
+
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                assertEquals(fw.getDistancia(i, j) != INF, fecho.alcanca(i, j));
+    }
+
+    /**
+     * Compara a versão paralela, com mais de um bloco de palavras, com buscas em profundidade.
+     */
+    @Test
+    void testParaleloEquivalenteABusca() {
+        int n = 2100;
+        Random random = new Random(7);
+        boolean[][] grafo = new boolean[n][n];
+        for (int a = 0; a < 2 * n; a++)
+            grafo[random.nextInt(n)][random.nextInt(n)] = true;
+
+        FechoTransitivo fecho = new FechoTransitivo();
+        fecho.inicializar(grafo);
+        fecho.calcularFecho(true);
+
+        for (int origem = 0; origem < n; origem += 37) {
+            boolean[] visitado = new boolean[n];
+            Deque<Integer> pilha = new ArrayDeque<>();
+            for (int j = 0; j < n; j++)
+                if (grafo[origem][j] && !visitado[j]) {
+                    visitado[j] = true;
+                    pilha.push(j);
+                }
+            while (!pilha.isEmpty()) {
+                int u = pilha.pop();
+                for (int j = 0; j < n; j++)
+                    if (grafo[u][j] && !visitado[j]) {
+                        visitado[j] = true;
+                        pilha.push(j);
+                    }
+            }
+            for (int j = 0; j < n; j++)
+                assertEquals(visitado[j], fecho.alcanca(origem, j), "origem " + origem + ", destino " + j);
+        }
+    }
+}
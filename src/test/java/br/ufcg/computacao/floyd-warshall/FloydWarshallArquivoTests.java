@@ -0,0 +1,97 @@
+package br.ufcg.computacao.floydwarshall;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de testes unitários para a classe {@code FloydWarshallArquivo}.
+ * <p>
+ * Verifica se as matrizes gravadas em disco e lidas por mapeamento em memória
+ * produzem as mesmas distâncias e caminhos da instância original de {@code FloydWarshall},
+ * inclusive quando as matrizes são divididas em vários segmentos.
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+class FloydWarshallArquivoTests {
+
+    private static final int INF = FloydWarshall.INFINITO;
+
+    private Path arquivo;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        arquivo = Files.createTempFile("floyd-warshall", ".bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+
+    /**
+     * Grava e relê o grafo 4x4 usado nos testes de {@code FloydWarshall}.
+     */
+    @Test
+    void testSalvarELer() throws IOException {
+        int[][] matriz = {
+            {0,   3,  10, INF},
+            {INF, 0,   1,  7},
+            {INF, INF, 0,  2},
+            {INF, INF, INF, 0}
+        };
+
+        FloydWarshall fw = new FloydWarshall(matriz);
+        FloydWarshallArquivo.salvar(fw, arquivo);
+
+        try (FloydWarshallArquivo mapeado = new FloydWarshallArquivo(arquivo)) {
+            assertEquals(4, mapeado.getNumVertices());
+            assertEquals(6, mapeado.getDistancia(0, 3));
+            assertEquals(INF, mapeado.getDistancia(3, 0));
+            assertEquals(List.of(0, 1, 2, 3), mapeado.getCaminho(0, 3));
+            assertTrue(mapeado.getCaminho(3, 0).isEmpty());
+        }
+    }
+
+    /**
+     * Força segmentos de poucas linhas e compara todas as posições com a instância em memória.
+     */
+    @Test
+    void testLeituraSegmentada() throws IOException {
+        Random random = new Random(42);
+        int n = 25;
+        int[][] matriz = new int[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                matriz[i][j] = (i == j) ? 0 : (random.nextDouble() < 0.2 ? random.nextInt(30) + 1 : INF);
+
+        FloydWarshall fw = new FloydWarshall(matriz);
+        FloydWarshallArquivo.salvar(fw, arquivo);
+
+        // 3 linhas por segmento: 25 linhas ocupam 9 segmentos por matriz
+        try (FloydWarshallArquivo mapeado = new FloydWarshallArquivo(arquivo, 3L * 4 * n)) {
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < n; j++) {
+                    assertEquals(fw.getDistancia(i, j), mapeado.getDistancia(i, j));
+                    assertEquals(fw.getCaminho(i, j), mapeado.getCaminho(i, j));
+                }
+        }
+    }
+
+    /**
+     * Verifica que arquivos em outro formato são rejeitados.
+     */
+    @Test
+    void testArquivoInvalido() throws IOException {
+        Files.write(arquivo, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        assertThrows(IOException.class, () -> new FloydWarshallArquivo(arquivo));
+    }
+}
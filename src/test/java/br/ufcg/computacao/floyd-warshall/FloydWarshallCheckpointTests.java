@@ -0,0 +1,113 @@
+package br.ufcg.computacao.floydwarshall;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de testes unitários para a classe {@code FloydWarshallCheckpoint}.
+ * <p>
+ * Verifica que um cálculo interrompido e retomado a partir do checkpoint produz as mesmas
+ * matrizes de uma execução contínua, e que o observador recebe o andamento de cada fase.
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+class FloydWarshallCheckpointTests {
+
+    private static final int INF = FloydWarshall.INFINITO;
+
+    private Path diretorio;
+    private Path arquivo;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        diretorio = Files.createTempDirectory("floyd-warshall");
+        arquivo = diretorio.resolve("checkpoint.bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(arquivo);
+        Files.deleteIfExists(diretorio.resolve("checkpoint.bin.tmp"));
+        Files.deleteIfExists(diretorio);
+    }
+
+    private static int[][] grafoAleatorio(int n, long semente) {
+        Random random = new Random(semente);
+        int[][] matriz = new int[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                matriz[i][j] = (i == j) ? 0 : (random.nextDouble() < 0.1 ? random.nextInt(20) + 1 : INF);
+        return matriz;
+    }
+
+    /**
+     * Interrompe o cálculo na fase 23, retoma a partir do checkpoint e compara com uma
+     * execução contínua.
+     */
+    @Test
+    void testInterromperERetomar() throws IOException {
+        int n = 40;
+        int[][] matriz = grafoAleatorio(n, 42);
+        FloydWarshall esperado = new FloydWarshall(matriz);
+
+        FloydWarshallCheckpoint checkpoint = new FloydWarshallCheckpoint(arquivo, 10);
+        FloydWarshall fw = new FloydWarshall();
+        fw.inicializar(matriz);
+
+        boolean terminou = checkpoint.executar(fw, false, (concluidas, total) -> concluidas < 23);
+        assertFalse(terminou);
+        assertEquals(23, checkpoint.getFasesConcluidas());
+        assertThrows(IOException.class, () -> new FloydWarshallArquivo(arquivo));
+
+        List<Integer> fases = new ArrayList<>();
+        FloydWarshall retomado = checkpoint.retomar(true, (concluidas, total) -> fases.add(concluidas));
+        assertEquals(24, fases.get(0));
+        assertEquals(n, fases.get(fases.size() - 1));
+        assertEquals(n, checkpoint.getFasesConcluidas());
+
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(esperado.getDistancias()[i], retomado.getDistancias()[i]);
+            assertArrayEquals(esperado.getSucessores()[i], retomado.getSucessores()[i]);
+        }
+
+        // o checkpoint final é um arquivo completo e pode ser mapeado
+        try (FloydWarshallArquivo mapeado = new FloydWarshallArquivo(arquivo)) {
+            assertEquals(esperado.getCaminho(0, n - 1), mapeado.getCaminho(0, n - 1));
+        }
+    }
+
+    /**
+     * Simula uma falha após um checkpoint periódico: a retomada parte da última fase salva.
+     */
+    @Test
+    void testRetomarDoUltimoCheckpointPeriodico() throws IOException {
+        int n = 30;
+        int[][] matriz = grafoAleatorio(n, 7);
+        FloydWarshall esperado = new FloydWarshall(matriz);
+
+        FloydWarshallCheckpoint checkpoint = new FloydWarshallCheckpoint(arquivo, 8);
+        FloydWarshall fw = new FloydWarshall();
+        fw.inicializar(matriz);
+
+        // o "processo" morre durante a fase 20, depois do checkpoint da fase 16
+        assertThrows(IllegalStateException.class, () -> checkpoint.executar(fw, false, (concluidas, total) -> {
+            if (concluidas == 20) throw new IllegalStateException("processo encerrado");
+            return true;
+        }));
+        assertEquals(16, checkpoint.getFasesConcluidas());
+
+        FloydWarshall retomado = checkpoint.retomar(false, FloydWarshallCheckpoint.SEM_OBSERVADOR);
+        for (int i = 0; i < n; i++)
+            assertArrayEquals(esperado.getDistancias()[i], retomado.getDistancias()[i]);
+    }
+}
@@ -0,0 +1,131 @@
+package br.ufcg.computacao.floydwarshall;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de testes unitários para a classe {@code FloydWarshallSobDemanda}.
+ * <p>
+ * Contém testes para:
+ * <ul>
+ * <li>Equivalência das distâncias e caminhos com o {@code FloydWarshall}.</li>
+ * <li>Descarte LRU e métricas de acertos, falhas e remoções.</li>
+ * <li>Agrupamento de requisições concorrentes para a mesma origem.</li>
+ * </ul>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+class FloydWarshallSobDemandaTests {
+
+    private static final int INF = FloydWarshall.INFINITO;
+
+    private static int[][] grafoAleatorio(int n, double densidade, long semente) {
+        Random random = new Random(semente);
+        int[][] matriz = new int[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                matriz[i][j] = (i == j) ? 0 : (random.nextDouble() < densidade ? random.nextInt(30) + 1 : INF);
+        return matriz;
+    }
+
+    /**
+     * Compara todas as distâncias com as calculadas pelo {@code FloydWarshall} e verifica
+     * que os caminhos reconstruídos têm o custo esperado.
+     */
+    @Test
+    void testEquivalenteAoFloydWarshall() {
+        int n = 30;
+        int[][] matriz = grafoAleatorio(n, 0.15, 42);
+
+        FloydWarshall fw = new FloydWarshall(matriz);
+        FloydWarshallSobDemanda sobDemanda = new FloydWarshallSobDemanda(matriz, 5);
+
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) {
+                assertEquals(fw.getDistancia(i, j), sobDemanda.getDistancia(i, j));
+
+                List<Integer> caminho = sobDemanda.getCaminho(i, j);
+                assertEquals(fw.getCaminho(i, j).isEmpty(), caminho.isEmpty());
+                if (caminho.isEmpty()) continue;
+                assertEquals(i, caminho.get(0));
+                assertEquals(j, caminho.get(caminho.size() - 1));
+                int custo = 0;
+                for (int p = 0; p + 1 < caminho.size(); p++)
+                    custo += matriz[caminho.get(p)][caminho.get(p + 1)];
+                assertEquals(fw.getDistancia(i, j), custo);
+            }
+    }
+
+    /**
+     * Verifica o descarte da linha usada há mais tempo e as métricas do cache.
+     */
+    @Test
+    void testCacheLRU() {
+        int[][] matriz = grafoAleatorio(10, 0.3, 7);
+        FloydWarshallSobDemanda sobDemanda = new FloydWarshallSobDemanda(matriz, 2);
+
+        sobDemanda.getDistancia(0, 1); // falha
+        sobDemanda.getDistancia(1, 2); // falha
+        sobDemanda.getDistancia(0, 3); // acerto: 0 passa a ser a mais recente
+        sobDemanda.getDistancia(2, 3); // falha: descarta a linha 1
+        sobDemanda.getDistancia(0, 4); // acerto
+        sobDemanda.getDistancia(1, 4); // falha: descarta a linha 2
+
+        assertEquals(4, sobDemanda.getFalhas());
+        assertEquals(2, sobDemanda.getAcertos());
+        assertEquals(2, sobDemanda.getRemocoes());
+        assertEquals(2, sobDemanda.getLinhasEmCache());
+    }
+
+    /**
+     * Verifica que várias threads consultando a mesma origem executam um único Dijkstra.
+     */
+    @Test
+    void testRequisicoesConcorrentesAgrupadas() throws InterruptedException {
+        int[][] matriz = grafoAleatorio(300, 0.2, 3);
+        FloydWarshallSobDemanda sobDemanda = new FloydWarshallSobDemanda(matriz, 4);
+        int esperado = new FloydWarshall(matriz).getDistancia(5, 200);
+
+        int threads = 8;
+        CountDownLatch largada = new CountDownLatch(1);
+        int[] resultados = new int[threads];
+        List<Thread> lista = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int indice = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                resultados[indice] = sobDemanda.getDistancia(5, 200);
+            });
+            lista.add(thread);
+            thread.start();
+        }
+        largada.countDown();
+        for (Thread thread : lista)
+            thread.join();
+
+        for (int resultado : resultados)
+            assertEquals(esperado, resultado);
+        assertEquals(1, sobDemanda.getFalhas());
+        assertEquals(threads - 1, sobDemanda.getAcertos());
+    }
+
+    /**
+     * Verifica a validação dos parâmetros do construtor.
+     */
+    @Test
+    void testParametrosInvalidos() {
+        int[][] matriz = {{0, -1}, {INF, 0}};
+        assertThrows(IllegalArgumentException.class, () -> new FloydWarshallSobDemanda(matriz, 4));
+        assertThrows(IllegalArgumentException.class, () -> new FloydWarshallSobDemanda(new int[][] {{0}}, 0));
+    }
+}
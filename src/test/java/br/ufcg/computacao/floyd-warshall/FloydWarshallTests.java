@@ -2,6 +2,7 @@ package br.ufcg.computacao.floydwarshall;
 
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
  * <li>Verificação das menores distâncias para todos os pares de vértices.</li>
  * <li>Verificação da reconstrução dos caminhos mínimos.</li>
  * <li>Comportamento com grafos direcionados, não direcionados, com ciclos e desconectados.</li>
+ * <li>Atualização incremental após inserção de arestas ou redução de pesos.</li>
  * </ul>
  * <p>
  * Os testes utilizam diferentes grafos, instanciados localmente em cada método de teste:
@@ -167,5 +169,93 @@ class FloydWarshallTests {
 
     }
 
+    /**
+     * Verifica a atualização incremental ao inserir uma aresta que encurta
+     * caminhos já calculados, incluindo a reconstrução dos novos caminhos.
+     */
+    @Test
+    void testAtualizarAresta() {
+        int[][] matriz = {
+            {0,   3,  10, INF},
+            {INF, 0,   1,  7},
+            {INF, INF, 0,  2},
+            {INF, INF, INF, 0}
+        };
+
+        FloydWarshall fw = new FloydWarshall(matriz);
+        fw.atualizarAresta(3, 0, 1); // nova aresta fecha um ciclo
+
+        assertEquals(1, fw.getDistancia(3, 0));
+        assertEquals(4, fw.getDistancia(3, 1));
+        assertEquals(3, fw.getDistancia(2, 0));
+        assertEquals(List.of(2, 3, 0, 1), fw.getCaminho(2, 1));
+
+        fw.atualizarAresta(0, 3, 2); // reduz o caminho 0 -> 3 de 6 para 2
+        assertEquals(2, fw.getDistancia(0, 3));
+        assertEquals(List.of(0, 3), fw.getCaminho(0, 3));
+
+        fw.atualizarAresta(0, 3, 5); // peso maior que a distância atual: nada muda
+        assertEquals(2, fw.getDistancia(0, 3));
+    }
+
+    /**
+     * Compara a atualização incremental (sequencial e paralela) com o recálculo
+     * completo em grafos aleatórios.
+     */
+    @Test
+    void testAtualizarArestaEquivaleARecalculo() {
+        Random random = new Random(42);
+        int n = 30;
+        int[][] matriz = new int[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                matriz[i][j] = (i == j) ? 0 : (random.nextDouble() < 0.1 ? random.nextInt(50) + 1 : INF);
+
+        FloydWarshall sequencial = new FloydWarshall(matriz);
+        FloydWarshall paralelo = new FloydWarshall(matriz);
+
+        for (int t = 0; t < 50; t++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            if (u == v) continue;
+            int peso = random.nextInt(20) + 1;
+            matriz[u][v] = Math.min(matriz[u][v], peso);
+
+            sequencial.atualizarAresta(u, v, peso);
+            paralelo.atualizarAresta(u, v, peso, true);
+            FloydWarshall esperado = new FloydWarshall(matriz);
+
+            for (int i = 0; i < n; i++) {
+                assertArrayEquals(esperado.getDistancias()[i], sequencial.getDistancias()[i]);
+                assertArrayEquals(esperado.getDistancias()[i], paralelo.getDistancias()[i]);
+            }
+        }
+
+        // os caminhos reconstruídos devem ter o custo da distância calculada
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) {
+                List<Integer> caminho = sequencial.getCaminho(i, j);
+                if (caminho.isEmpty()) continue;
+                int custo = 0;
+                for (int p = 0; p + 1 < caminho.size(); p++)
+                    custo += matriz[caminho.get(p)][caminho.get(p + 1)];
+                assertEquals(sequencial.getDistancia(i, j), custo);
+            }
+    }
+
+    /**
+     * Verifica que uma aresta que cria ciclo negativo é rejeitada.
+     */
+    @Test
+    void testAtualizarArestaCicloNegativo() {
+        int[][] matriz = {
+            {0,   1},
+            {INF, 0}
+        };
+
+        FloydWarshall fw = new FloydWarshall(matriz);
+        assertThrows(IllegalArgumentException.class, () -> fw.atualizarAresta(1, 0, -2));
+    }
+
 }
 
@@ -0,0 +1,160 @@
+package br.ufcg.computacao.floydwarshall;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de testes unitários para o {@code MotorSemianel} e suas especializações.
+ * <p>
+ * Contém testes para:
+ * <ul>
+ * <li>Equivalência entre as versões sequencial e paralela do (mínimo, soma) no {@code FloydWarshall}.</li>
+ * <li>Caminhos de maior gargalo (máximo, mínimo).</li>
+ * <li>Caminhos mais confiáveis (máximo, produto).</li>
+ * <li>Alcançabilidade (ou, e) comparada ao {@code FechoTransitivo}.</li>
+ * </ul>
+ *
+ * @author Gleydson Fabricio Rodrigues de Moura
+ */
+class MotorSemianelTests {
+
+    private static final int INF = FloydWarshall.INFINITO;
+    private static final int SEM = SemianelMaxMin.SEM_CAMINHO;
+
+    /**
+     * Compara o cálculo sequencial e o paralelo do {@code FloydWarshall} em um grafo aleatório.
+     */
+    @Test
+    void testMinSomaParalelo() {
+        Random random = new Random(42);
+        int n = 60;
+        int[][] matriz = new int[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                matriz[i][j] = (i == j) ? 0 : (random.nextDouble() < 0.1 ? random.nextInt(20) + 1 : INF);
+
+        FloydWarshall sequencial = new FloydWarshall(matriz);
+        FloydWarshall paralelo = new FloydWarshall();
+        paralelo.inicializar(matriz);
+        paralelo.calcularDistancias(true);
+
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(sequencial.getDistancias()[i], paralelo.getDistancias()[i]);
+            assertArrayEquals(sequencial.getSucessores()[i], paralelo.getSucessores()[i]);
+        }
+
+        SemianelMinSoma motor = new SemianelMinSoma(matriz);
+        motor.calcular();
+        for (int i = 0; i < n; i++)
+            assertArrayEquals(sequencial.getDistancias()[i], motor.getDistancias()[i]);
+    }
+
+    /**
+     * Testa o maior gargalo em um grafo pequeno onde o caminho mais largo não é o mais curto.
+     */
+    @Test
+    void testMaxMin() {
+        int[][] capacidades = {
+            {SEM, 2,   8,   SEM},
+            {SEM, SEM, SEM, 9},
+            {SEM, SEM, SEM, 5},
+            {SEM, SEM, SEM, SEM}
+        };
+
+        SemianelMaxMin motor = new SemianelMaxMin(capacidades);
+        motor.calcular();
+
+        assertEquals(5, motor.getGargalo(0, 3));
+        assertEquals(List.of(0, 2, 3), motor.getCaminho(0, 3));
+        assertEquals(SEM, motor.getGargalo(3, 0));
+        assertTrue(motor.getCaminho(3, 0).isEmpty());
+        assertEquals(SEM, capacidades[0][3], "a matriz de entrada não deve ser alterada");
+    }
+
+    /**
+     * Verifica, em grafos aleatórios com muitos empates, que o caminho reconstruído tem o
+     * gargalo calculado e que as versões sequencial e paralela coincidem.
+     */
+    @Test
+    void testMaxMinCaminhosAleatorios() {
+        Random random = new Random(7);
+        int n = 40;
+        for (int rodada = 0; rodada < 5; rodada++) {
+            int[][] capacidades = new int[n][n];
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < n; j++)
+                    capacidades[i][j] = (i != j && random.nextDouble() < 0.15) ? random.nextInt(3) + 1 : SEM;
+
+            SemianelMaxMin sequencial = new SemianelMaxMin(capacidades);
+            sequencial.calcular();
+            SemianelMaxMin paralelo = new SemianelMaxMin(capacidades);
+            paralelo.calcular(true);
+
+            for (int i = 0; i < n; i++) {
+                assertArrayEquals(sequencial.getGargalos()[i], paralelo.getGargalos()[i]);
+                for (int j = 0; j < n; j++) {
+                    if (i == j || sequencial.getGargalo(i, j) == SEM) continue;
+                    List<Integer> caminho = sequencial.getCaminho(i, j);
+                    int gargalo = Integer.MAX_VALUE;
+                    for (int p = 0; p + 1 < caminho.size(); p++)
+                        gargalo = Math.min(gargalo, capacidades[caminho.get(p)][caminho.get(p + 1)]);
+                    assertEquals(sequencial.getGargalo(i, j), gargalo);
+                }
+            }
+        }
+    }
+
+    /**
+     * Testa a maior confiabilidade, que prefere dois enlaces confiáveis a um enlace direto ruim.
+     */
+    @Test
+    void testMaxProduto() {
+        double[][] probabilidades = {
+            {1.0, 0.9, 0.5},
+            {0.0, 1.0, 0.9},
+            {0.0, 0.0, 1.0}
+        };
+
+        SemianelMaxProduto motor = new SemianelMaxProduto(probabilidades);
+        motor.calcular(true);
+
+        assertEquals(0.81, motor.getConfiabilidade(0, 2), 1e-9);
+        assertEquals(List.of(0, 1, 2), motor.getCaminho(0, 2));
+        assertEquals(0.0, motor.getConfiabilidade(2, 0), 0.0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new SemianelMaxProduto(new double[][] {{1.0, 1.5}, {0.0, 1.0}}));
+    }
+
+    /**
+     * Compara o semianel (ou, e) com o {@code FechoTransitivo}.
+     */
+    @Test
+    void testOuE() {
+        Random random = new Random(3);
+        int n = 70;
+        boolean[][] adjacencia = new boolean[n][n];
+        for (int a = 0; a < 2 * n; a++)
+            adjacencia[random.nextInt(n)][random.nextInt(n)] = true;
+
+        SemianelOuE motor = new SemianelOuE(adjacencia);
+        motor.calcular();
+        FechoTransitivo fecho = new FechoTransitivo();
+        fecho.inicializar(adjacencia);
+        fecho.calcularFecho();
+
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) {
+                assertEquals(fecho.alcanca(i, j), motor.alcanca(i, j));
+                if (motor.alcanca(i, j)) {
+                    List<Integer> caminho = motor.getCaminho(i, j);
+                    for (int p = 0; p + 1 < caminho.size(); p++)
+                        assertTrue(adjacencia[caminho.get(p)][caminho.get(p + 1)]);
+                }
+            }
+    }
+}
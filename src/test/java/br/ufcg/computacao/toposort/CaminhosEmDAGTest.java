@@ -0,0 +1,205 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Testes unitários para a classe {@link CaminhosEmDAG}.
+ * 
+ * <p>
+ * Verificam menores e maiores caminhos, a reconstrução pelos pais, o caminho crítico
+ * e a comparação com Bellman-Ford em DAGs aleatórios com pesos negativos.
+ * </p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ * @see CaminhosEmDAG
+ * @see Caminhos
+ */
+public class CaminhosEmDAGTest {
+
+    /**
+     * Testa um DAG pequeno com caminhos conhecidos.
+     */
+    @Test
+    @DisplayName("Deve calcular menores e maiores caminhos a partir de uma origem")
+    void testGrafoPequeno() {
+        Grafo grafo = new Grafo(6);
+        grafo.adicionarAresta(0, 1, 5);
+        grafo.adicionarAresta(0, 2, 3);
+        grafo.adicionarAresta(1, 3, 6);
+        grafo.adicionarAresta(1, 2, 2);
+        grafo.adicionarAresta(2, 4, 4);
+        grafo.adicionarAresta(2, 5, 2);
+        grafo.adicionarAresta(2, 3, 7);
+        grafo.adicionarAresta(3, 4, -1);
+        grafo.adicionarAresta(4, 5, -2);
+        CaminhosEmDAG caminhos = new CaminhosEmDAG(grafo);
+
+        Caminhos menores = caminhos.menoresCaminhos(1);
+        assertFalse(menores.isAlcancavel(0));
+        assertEquals(Long.MAX_VALUE, menores.getDistancia(0));
+        assertEquals(0, menores.getDistancia(1));
+        assertEquals(2, menores.getDistancia(2));
+        assertEquals(6, menores.getDistancia(3));
+        assertEquals(5, menores.getDistancia(4));
+        assertEquals(3, menores.getDistancia(5));
+        assertArrayEquals(new int[] { 1, 3, 4 }, menores.getCaminho(4));
+        assertArrayEquals(new int[0], menores.getCaminho(0));
+
+        Caminhos maiores = caminhos.maioresCaminhos(0);
+        assertEquals(13, maiores.getDistancia(4));
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 4 }, maiores.getCaminho(4));
+        assertEquals(11, maiores.getDistancia(5));
+        assertEquals(-1, maiores.getPais()[0]);
+    }
+
+    /**
+     * Testa o caminho crítico, que pode começar em qualquer vértice.
+     */
+    @Test
+    @DisplayName("Deve encontrar o caminho crítico do grafo")
+    void testCaminhoCritico() {
+        // duas cadeias independentes: 0 -> 1 -> 2 (peso 4) e 3 -> 4 (peso 10)
+        Grafo grafo = new Grafo(5);
+        grafo.adicionarAresta(0, 1, 2);
+        grafo.adicionarAresta(1, 2, 2);
+        grafo.adicionarAresta(3, 4, 10);
+        CaminhosEmDAG caminhos = new CaminhosEmDAG(grafo);
+
+        assertArrayEquals(new int[] { 3, 4 }, caminhos.caminhoCritico());
+        Caminhos maiores = caminhos.maioresCaminhos();
+        assertEquals(4, maiores.getVerticeMaisDistante());
+        assertEquals(10, maiores.getDistancia(4));
+        assertEquals(4, maiores.getDistancia(2));
+        assertTrue(maiores.isAlcancavel(0));
+
+        // sem pesos explícitos, o caminho crítico é o de mais arestas
+        Grafo semPesos = new Grafo(4);
+        semPesos.adicionarAresta(0, 3);
+        semPesos.adicionarAresta(0, 1);
+        semPesos.adicionarAresta(1, 2);
+        semPesos.adicionarAresta(2, 3);
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, new CaminhosEmDAG(semPesos).caminhoCritico());
+        assertEquals(0, new CaminhosEmDAG(new Grafo(0)).caminhoCritico().length);
+    }
+
+    /**
+     * Testa a rejeição de grafos com ciclos e de vértices inválidos.
+     */
+    @Test
+    @DisplayName("Deve rejeitar ciclos e vértices inválidos")
+    void testEntradasInvalidas() {
+        Grafo grafo = new Grafo(3);
+        grafo.adicionarAresta(0, 1);
+        grafo.adicionarAresta(1, 2);
+        CaminhosEmDAG caminhos = new CaminhosEmDAG(grafo);
+        assertThrows(IllegalArgumentException.class, () -> caminhos.menoresCaminhos(3));
+        assertThrows(IllegalArgumentException.class, () -> caminhos.maioresCaminhos(-1));
+
+        grafo.adicionarAresta(2, 0);
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new CaminhosEmDAG(grafo));
+        assertTrue(exception.getMessage().contains("ciclos"));
+    }
+
+    /**
+     * Compara com Bellman-Ford em DAGs aleatórios, com pesos negativos.
+     */
+    @Test
+    @DisplayName("Deve coincidir com Bellman-Ford em DAGs aleatórios")
+    void testDAGsAleatorios() {
+        Random random = new Random(3);
+        for (int rodada = 0; rodada < 40; rodada++) {
+            int n = 1 + random.nextInt(30);
+            Grafo grafo = new Grafo(n);
+            // arestas de um rótulo menor para um maior de uma permutação aleatória
+            int[] rotulo = permutacao(n, random);
+            int m = random.nextInt(3 * n + 1);
+            for (int i = 0; i < m && n > 1; i++) {
+                int a = random.nextInt(n);
+                int b = random.nextInt(n);
+                if (a != b) {
+                    grafo.adicionarAresta(rotulo[Math.min(a, b)], rotulo[Math.max(a, b)], random.nextInt(21) - 10);
+                }
+            }
+            CaminhosEmDAG caminhos = new CaminhosEmDAG(grafo);
+            int origem = random.nextInt(n);
+            for (boolean maior : new boolean[] { false, true }) {
+                Caminhos resultado = maior ? caminhos.maioresCaminhos(origem) : caminhos.menoresCaminhos(origem);
+                long[] esperado = bellmanFord(grafo, origem, maior);
+                assertArrayEquals(esperado, resultado.getDistancias());
+                for (int v = 0; v < n; v++) {
+                    if (resultado.isAlcancavel(v)) {
+                        assertEquals(esperado[v], pesoDoCaminho(grafo, resultado.getCaminho(v), maior));
+                        assertEquals(origem, resultado.getCaminho(v)[0]);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int[] permutacao(int n, Random random) {
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) {
+            p[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int aux = p[i];
+            p[i] = p[j];
+            p[j] = aux;
+        }
+        return p;
+    }
+
+    private static long[] bellmanFord(Grafo grafo, int origem, boolean maior) {
+        int n = grafo.getNumVertices();
+        long inalcancavel = maior ? Long.MIN_VALUE : Long.MAX_VALUE;
+        long[] distancias = new long[n];
+        Arrays.fill(distancias, inalcancavel);
+        distancias[origem] = 0;
+        for (int rodada = 0; rodada < n; rodada++) {
+            for (int u = 0; u < n; u++) {
+                if (distancias[u] == inalcancavel) {
+                    continue;
+                }
+                for (int i = 0; i < grafo.getGrauSaida(u); i++) {
+                    int v = grafo.getAdjacente(u, i);
+                    long candidata = distancias[u] + grafo.getPeso(u, i);
+                    if (maior ? candidata > distancias[v] : candidata < distancias[v]) {
+                        distancias[v] = candidata;
+                    }
+                }
+            }
+        }
+        return distancias;
+    }
+
+    /**
+     * Soma o melhor peso entre arestas paralelas de cada passo do caminho.
+     */
+    private static long pesoDoCaminho(Grafo grafo, int[] caminho, boolean maior) {
+        long total = 0;
+        for (int k = 0; k + 1 < caminho.length; k++) {
+            int u = caminho[k];
+            long melhor = maior ? Long.MIN_VALUE : Long.MAX_VALUE;
+            for (int i = 0; i < grafo.getGrauSaida(u); i++) {
+                if (grafo.getAdjacente(u, i) == caminho[k + 1]) {
+                    melhor = maior ? Math.max(melhor, grafo.getPeso(u, i)) : Math.min(melhor, grafo.getPeso(u, i));
+                }
+            }
+            total += melhor;
+        }
+        return total;
+    }
+}
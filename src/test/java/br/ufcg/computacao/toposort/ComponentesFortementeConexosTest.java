@@ -0,0 +1,222 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Testes unitários para a classe {@link ComponentesFortementeConexos}.
+ * 
+ * <p>
+ * Verificam as componentes contra a alcançabilidade mútua calculada por força bruta,
+ * a validade da condensação em CSR e a equivalência entre os modos sequencial e paralelo.
+ * </p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ * @see ComponentesFortementeConexos
+ */
+public class ComponentesFortementeConexosTest {
+
+    /**
+     * Testa um grafo pequeno com três componentes conhecidas.
+     */
+    @Test
+    @DisplayName("Deve encontrar as componentes e a condensação de um grafo pequeno")
+    void testGrafoPequeno() {
+        // {0, 1, 2} -> {3, 4} -> {5}, com aresta repetida entre componentes
+        Grafo grafo = new Grafo(6);
+        grafo.adicionarAresta(0, 1);
+        grafo.adicionarAresta(1, 2);
+        grafo.adicionarAresta(2, 0);
+        grafo.adicionarAresta(1, 3);
+        grafo.adicionarAresta(2, 4);
+        grafo.adicionarAresta(3, 4);
+        grafo.adicionarAresta(4, 3);
+        grafo.adicionarAresta(4, 5);
+
+        ComponentesFortementeConexos cfc = new ComponentesFortementeConexos(grafo);
+        assertEquals(3, cfc.getNumComponentes());
+        assertEquals(0, cfc.getComponente(0));
+        assertEquals(0, cfc.getComponente(2));
+        assertEquals(1, cfc.getComponente(3));
+        assertEquals(1, cfc.getComponente(4));
+        assertEquals(2, cfc.getComponente(5));
+        assertFalse(cfc.isAciclico());
+
+        int[] inicio = cfc.getInicioCondensacao();
+        int[] destinos = cfc.getDestinosCondensacao();
+        assertEquals(2, inicio[3], "Arestas repetidas entre componentes devem aparecer uma vez");
+        assertEquals(1, destinos[inicio[0]]);
+        assertEquals(2, destinos[inicio[1]]);
+        assertEquals(inicio[2], inicio[3]);
+        assertEquals(3, cfc.getOrdemTopologica().length);
+
+        assertThrows(IllegalArgumentException.class, () -> cfc.getComponente(6));
+    }
+
+    /**
+     * Testa se um DAG tem uma componente por vértice e se um laço o torna cíclico.
+     */
+    @Test
+    @DisplayName("Deve reconhecer grafos acíclicos")
+    void testAciclico() {
+        Grafo grafo = new Grafo(4);
+        grafo.adicionarAresta(3, 1);
+        grafo.adicionarAresta(1, 0);
+        grafo.adicionarAresta(3, 2);
+        ComponentesFortementeConexos cfc = new ComponentesFortementeConexos(grafo);
+        assertEquals(4, cfc.getNumComponentes());
+        assertTrue(cfc.isAciclico());
+        assertTrue(cfc.getComponente(3) < cfc.getComponente(1));
+        assertTrue(cfc.getComponente(1) < cfc.getComponente(0));
+
+        grafo.adicionarAresta(2, 2);
+        assertFalse(new ComponentesFortementeConexos(grafo).isAciclico());
+    }
+
+    /**
+     * Compara os dois modos com a alcançabilidade mútua em grafos aleatórios.
+     */
+    @Test
+    @DisplayName("Deve coincidir com a força bruta em grafos aleatórios, nos dois modos")
+    void testGrafosAleatorios() {
+        Random random = new Random(7);
+        for (int rodada = 0; rodada < 30; rodada++) {
+            int n = 1 + random.nextInt(40);
+            Grafo grafo = new Grafo(n);
+            int m = random.nextInt(2 * n + 1);
+            for (int i = 0; i < m; i++) {
+                grafo.adicionarAresta(random.nextInt(n), random.nextInt(n));
+            }
+            boolean[][] alcanca = fechoTransitivo(grafo);
+            verificar(grafo, alcanca, new ComponentesFortementeConexos(grafo));
+            verificar(grafo, alcanca, new ComponentesFortementeConexos(grafo, true));
+        }
+    }
+
+    /**
+     * Testa grafos grandes, com cadeias longas e muitos ciclos disjuntos, que estourariam
+     * a pilha em uma implementação recursiva e exercitam a divisão em tarefas paralelas.
+     */
+    @Test
+    @DisplayName("Deve processar grafos grandes sem recursão, nos dois modos")
+    void testGrafoGrande() {
+        int n = 200_000;
+        Grafo grafo = new Grafo(n);
+        // cadeia 0 -> 1 -> ... -> n - 1, com ciclos de tamanho 4 fechados a cada bloco
+        for (int v = 0; v < n; v++) {
+            if (v + 1 < n) {
+                grafo.adicionarAresta(v, v + 1);
+            }
+            if (v % 4 == 3) {
+                grafo.adicionarAresta(v, v - 3);
+            }
+        }
+        ComponentesFortementeConexos sequencial = new ComponentesFortementeConexos(grafo);
+        ComponentesFortementeConexos paralelo = new ComponentesFortementeConexos(grafo, true);
+        assertEquals(n / 4, sequencial.getNumComponentes());
+        assertEquals(n / 4, paralelo.getNumComponentes());
+        for (int v = 0; v < n; v++) {
+            assertEquals(v / 4, sequencial.getComponente(v));
+            assertEquals(v / 4, paralelo.getComponente(v));
+        }
+    }
+
+    /**
+     * Compara os dois modos em um grafo aleatório grande, com uma componente gigante e
+     * muitas componentes pequenas.
+     */
+    @Test
+    @DisplayName("Deve produzir a mesma partição nos dois modos em um grafo aleatório grande")
+    void testModosEquivalentes() {
+        int n = 50_000;
+        Random random = new Random(11);
+        Grafo grafo = new Grafo(n);
+        for (int i = 0; i < n + n / 2; i++) {
+            grafo.adicionarAresta(random.nextInt(n), random.nextInt(n));
+        }
+        int[] sequencial = new ComponentesFortementeConexos(grafo).getComponentes();
+        ComponentesFortementeConexos paralelo = new ComponentesFortementeConexos(grafo, true);
+
+        // as partições coincidem se a correspondência entre identificadores for uma bijeção
+        int[] correspondente = new int[n];
+        Arrays.fill(correspondente, -1);
+        for (int v = 0; v < n; v++) {
+            int c = sequencial[v];
+            if (correspondente[c] == -1) {
+                correspondente[c] = paralelo.getComponente(v);
+            }
+            assertEquals(correspondente[c], paralelo.getComponente(v));
+        }
+        assertEquals(new ComponentesFortementeConexos(grafo).getNumComponentes(), paralelo.getNumComponentes());
+    }
+
+    private static void verificar(Grafo grafo, boolean[][] alcanca, ComponentesFortementeConexos cfc) {
+        int n = grafo.getNumVertices();
+        int[] componente = cfc.getComponentes();
+        for (int u = 0; u < n; u++) {
+            assertTrue(componente[u] >= 0 && componente[u] < cfc.getNumComponentes());
+            for (int v = 0; v < n; v++) {
+                boolean mesma = alcanca[u][v] && alcanca[v][u];
+                assertEquals(mesma, componente[u] == componente[v], "Vértices " + u + " e " + v);
+            }
+        }
+
+        // toda aresta entre componentes aparece uma vez na condensação e respeita a ordem
+        int k = cfc.getNumComponentes();
+        int[] inicio = cfc.getInicioCondensacao();
+        int[] destinos = cfc.getDestinosCondensacao();
+        boolean[][] condensacao = new boolean[k][k];
+        for (int c = 0; c < k; c++) {
+            for (int p = inicio[c]; p < inicio[c + 1]; p++) {
+                assertTrue(c < destinos[p], "Condensação fora de ordem topológica");
+                assertFalse(condensacao[c][destinos[p]], "Aresta repetida na condensação");
+                condensacao[c][destinos[p]] = true;
+            }
+        }
+        int arestas = 0;
+        for (int u = 0; u < n; u++) {
+            for (int v : grafo.getAdjacentes(u)) {
+                if (componente[u] != componente[v]) {
+                    assertTrue(condensacao[componente[u]][componente[v]]);
+                }
+            }
+        }
+        for (int c = 0; c < k; c++) {
+            for (int d = 0; d < k; d++) {
+                arestas += condensacao[c][d] ? 1 : 0;
+            }
+        }
+        assertEquals(inicio[k], arestas);
+    }
+
+    private static boolean[][] fechoTransitivo(Grafo grafo) {
+        int n = grafo.getNumVertices();
+        boolean[][] alcanca = new boolean[n][n];
+        for (int u = 0; u < n; u++) {
+            alcanca[u][u] = true;
+            for (int v : grafo.getAdjacentes(u)) {
+                alcanca[u][v] = true;
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                if (alcanca[i][k]) {
+                    for (int j = 0; j < n; j++) {
+                        alcanca[i][j] |= alcanca[k][j];
+                    }
+                }
+            }
+        }
+        return alcanca;
+    }
+}
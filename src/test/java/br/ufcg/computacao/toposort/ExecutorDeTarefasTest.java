@@ -0,0 +1,166 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.ufcg.computacao.toposort.ExecutorDeTarefas.Estado;
+import br.ufcg.computacao.toposort.ExecutorDeTarefas.Execucao;
+import br.ufcg.computacao.toposort.ExecutorDeTarefas.Tarefa;
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Testes unitários para a classe {@link ExecutorDeTarefas}.
+ * 
+ * <p>
+ * Verificam se cada tarefa só começa depois de todos os seus predecessores, se uma
+ * falha interrompe o envio de novas tarefas e é propagada, se o cancelamento é
+ * respeitado e se o caminho crítico é calculado a partir dos tempos medidos.
+ * </p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ * @see ExecutorDeTarefas
+ */
+public class ExecutorDeTarefasTest {
+
+    private ExecutorService pool;
+
+    @BeforeEach
+    public void setUp() {
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        pool.shutdownNow();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Testa se as dependências são respeitadas em um DAG com vários níveis.
+     */
+    @Test
+    @DisplayName("Cada tarefa deve começar após todos os seus predecessores")
+    void testRespeitaDependencias() throws Exception {
+        int n = 200;
+        Grafo grafo = new Grafo(n);
+        for (int v = 1; v < n; v++) {
+            grafo.adicionarAresta(v / 2, v);
+            grafo.adicionarAresta(v - 1, v);
+        }
+
+        AtomicInteger relogio = new AtomicInteger();
+        AtomicIntegerArray ordem = new AtomicIntegerArray(n);
+        Tarefa[] tarefas = new Tarefa[n];
+        for (int v = 0; v < n; v++) {
+            int vertice = v;
+            tarefas[v] = () -> ordem.set(vertice, relogio.incrementAndGet());
+        }
+
+        Execucao execucao = new ExecutorDeTarefas(grafo, pool).executar(tarefas);
+        for (int u = 0; u < n; u++) {
+            assertEquals(Estado.CONCLUIDA, execucao.getEstado(u));
+            for (int v : grafo.getAdjacentes(u)) {
+                assertTrue(ordem.get(u) < ordem.get(v), u + " deve terminar antes de " + v);
+            }
+        }
+    }
+
+    /**
+     * Testa a propagação de falhas: os sucessores da tarefa que falhou não são executados.
+     */
+    @Test
+    @DisplayName("Falha deve ser propagada e impedir novas tarefas")
+    void testPropagaFalha() {
+        Grafo grafo = new Grafo(4);
+        grafo.adicionarAresta(0, 1);
+        grafo.adicionarAresta(1, 2);
+        grafo.adicionarAresta(2, 3);
+
+        IllegalStateException erro = new IllegalStateException("falhou");
+        Tarefa[] tarefas = { () -> { }, () -> { throw erro; }, () -> { }, () -> { } };
+
+        ExecutorDeTarefas executor = new ExecutorDeTarefas(grafo, pool);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> executor.executar(tarefas));
+        assertSame(erro, exception.getCause());
+
+        Execucao execucao = executor.iniciar(tarefas);
+        assertThrows(ExecutionException.class, execucao::aguardar);
+        assertEquals(Estado.CONCLUIDA, execucao.getEstado(0));
+        assertEquals(Estado.FALHOU, execucao.getEstado(1));
+        assertEquals(Estado.NAO_EXECUTADA, execucao.getEstado(2));
+        assertEquals(Estado.NAO_EXECUTADA, execucao.getEstado(3));
+    }
+
+    /**
+     * Testa o cancelamento com uma tarefa em andamento.
+     */
+    @Test
+    @DisplayName("Cancelamento deve impedir o início de novas tarefas")
+    void testCancelamento() throws Exception {
+        Grafo grafo = new Grafo(2);
+        grafo.adicionarAresta(0, 1);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Tarefa[] tarefas = { () -> { iniciada.countDown(); liberar.await(); }, () -> { } };
+
+        Execucao execucao = new ExecutorDeTarefas(grafo, pool).iniciar(tarefas);
+        iniciada.await();
+        execucao.cancelar();
+        liberar.countDown();
+
+        assertThrows(CancellationException.class, execucao::aguardar);
+        assertEquals(Estado.CONCLUIDA, execucao.getEstado(0));
+        assertEquals(Estado.NAO_EXECUTADA, execucao.getEstado(1));
+    }
+
+    /**
+     * Testa o caminho crítico em um grafo em que uma das ramificações é bem mais lenta.
+     */
+    @Test
+    @DisplayName("Deve identificar o caminho crítico pelas durações medidas")
+    void testCaminhoCritico() throws Exception {
+        //   0 -> 1 (lenta) -> 3
+        //   0 -> 2 (rápida) -> 3
+        Grafo grafo = new Grafo(4);
+        grafo.adicionarAresta(0, 1);
+        grafo.adicionarAresta(0, 2);
+        grafo.adicionarAresta(1, 3);
+        grafo.adicionarAresta(2, 3);
+        Tarefa[] tarefas = { () -> { }, () -> Thread.sleep(50), () -> { }, () -> { } };
+
+        Execucao execucao = new ExecutorDeTarefas(grafo, pool).executar(tarefas);
+        assertArrayEquals(new int[] { 0, 1, 3 }, execucao.getCaminhoCritico());
+        assertTrue(execucao.getDuracaoCaminhoCritico() >= execucao.getDuracao(1));
+        assertTrue(execucao.getDuracaoCaminhoCritico() <= execucao.getTrabalhoTotal());
+        assertTrue(execucao.getTempoTotal() >= execucao.getDuracao(1));
+    }
+
+    /**
+     * Testa a rejeição de grafos com ciclos.
+     */
+    @Test
+    @DisplayName("Deve rejeitar grafo com ciclo")
+    void testGrafoComCiclo() {
+        Grafo grafo = new Grafo(2);
+        grafo.adicionarAresta(0, 1);
+        grafo.adicionarAresta(1, 0);
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorDeTarefas(grafo, pool));
+    }
+}
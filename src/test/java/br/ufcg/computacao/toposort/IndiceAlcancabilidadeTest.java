@@ -0,0 +1,151 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Testes unitários para a classe {@link IndiceAlcancabilidade}.
+ * 
+ * <p>
+ * Comparam as respostas do índice com o fecho transitivo calculado por força bruta,
+ * com diferentes números de intervalos, e verificam a configuração por orçamento de
+ * memória e as entradas inválidas.
+ * </p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ * @see IndiceAlcancabilidade
+ */
+public class IndiceAlcancabilidadeTest {
+
+    /**
+     * Testa um DAG pequeno em forma de losango com um vértice isolado.
+     */
+    @Test
+    @DisplayName("Deve responder consultas em um DAG pequeno")
+    void testGrafoPequeno() {
+        Grafo grafo = new Grafo(6);
+        grafo.adicionarAresta(0, 1);
+        grafo.adicionarAresta(0, 2);
+        grafo.adicionarAresta(1, 3);
+        grafo.adicionarAresta(2, 3);
+        grafo.adicionarAresta(3, 4);
+        IndiceAlcancabilidade indice = new IndiceAlcancabilidade(grafo);
+
+        assertTrue(indice.alcanca(0, 4));
+        assertTrue(indice.alcanca(2, 4));
+        assertTrue(indice.alcanca(5, 5));
+        assertFalse(indice.alcanca(1, 2));
+        assertFalse(indice.alcanca(4, 0));
+        assertFalse(indice.alcanca(0, 5));
+        assertEquals(3, indice.getNivel(4));
+        assertEquals(0, indice.getNivel(5));
+    }
+
+    /**
+     * Compara todas as consultas com o fecho transitivo em DAGs aleatórios.
+     */
+    @Test
+    @DisplayName("Deve coincidir com o fecho transitivo em DAGs aleatórios")
+    void testDAGsAleatorios() {
+        Random random = new Random(5);
+        for (int rodada = 0; rodada < 20; rodada++) {
+            int n = 1 + random.nextInt(80);
+            Grafo grafo = gerarDAG(n, random.nextInt(3 * n + 1), random);
+            boolean[][] alcanca = fechoTransitivo(grafo);
+            for (int k : new int[] { 1, 2, 5 }) {
+                IndiceAlcancabilidade indice = new IndiceAlcancabilidade(grafo, k);
+                for (int u = 0; u < n; u++) {
+                    for (int v = 0; v < n; v++) {
+                        assertEquals(alcanca[u][v], indice.alcanca(u, v), "Consulta " + u + " -> " + v + " com k = " + k);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Testa a escolha do número de intervalos pelo orçamento de memória.
+     */
+    @Test
+    @DisplayName("Deve respeitar o orçamento de memória")
+    void testLimiteDeMemoria() {
+        Grafo grafo = gerarDAG(1000, 3000, new Random(1));
+        // 6 inteiros por vértice: nível, pré-ordem, um intervalo e as marcas e a pilha de uma thread
+        assertEquals(1, IndiceAlcancabilidade.comLimiteDeMemoria(grafo, 6 * 4 * 1000).getNumIntervalos());
+        assertEquals(4, IndiceAlcancabilidade.comLimiteDeMemoria(grafo, 12 * 4 * 1000 + 100).getNumIntervalos());
+        assertEquals(1, IndiceAlcancabilidade.comLimiteDeMemoria(grafo, 10 * 4 * 1000, 3).getNumIntervalos());
+        assertEquals(IndiceAlcancabilidade.MAX_INTERVALOS,
+                IndiceAlcancabilidade.comLimiteDeMemoria(grafo, 1L << 30).getNumIntervalos());
+        assertThrows(IllegalArgumentException.class, () -> IndiceAlcancabilidade.comLimiteDeMemoria(grafo, 4 * 4 * 1000));
+        assertThrows(IllegalArgumentException.class, () -> IndiceAlcancabilidade.comLimiteDeMemoria(grafo, 1L << 30, 0));
+    }
+
+    /**
+     * Testa a rejeição de ciclos e de parâmetros inválidos.
+     */
+    @Test
+    @DisplayName("Deve rejeitar ciclos e parâmetros inválidos")
+    void testEntradasInvalidas() {
+        Grafo grafo = new Grafo(3);
+        grafo.adicionarAresta(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> new IndiceAlcancabilidade(grafo, 0));
+        IndiceAlcancabilidade indice = new IndiceAlcancabilidade(grafo);
+        assertThrows(IllegalArgumentException.class, () -> indice.alcanca(0, 3));
+
+        grafo.adicionarAresta(1, 0);
+        assertThrows(IllegalArgumentException.class, () -> new IndiceAlcancabilidade(grafo));
+    }
+
+    private static Grafo gerarDAG(int n, int m, Random random) {
+        // arestas de um rótulo menor para um maior de uma permutação aleatória
+        int[] rotulo = new int[n];
+        for (int i = 0; i < n; i++) {
+            rotulo[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int aux = rotulo[i];
+            rotulo[i] = rotulo[j];
+            rotulo[j] = aux;
+        }
+        Grafo grafo = new Grafo(n);
+        for (int i = 0; i < m && n > 1; i++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            if (a != b) {
+                grafo.adicionarAresta(rotulo[Math.min(a, b)], rotulo[Math.max(a, b)]);
+            }
+        }
+        return grafo;
+    }
+
+    private static boolean[][] fechoTransitivo(Grafo grafo) {
+        int n = grafo.getNumVertices();
+        boolean[][] alcanca = new boolean[n][n];
+        for (int u = 0; u < n; u++) {
+            alcanca[u][u] = true;
+            for (int v : grafo.getAdjacentes(u)) {
+                alcanca[u][v] = true;
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                if (alcanca[i][k]) {
+                    for (int j = 0; j < n; j++) {
+                        alcanca[i][j] |= alcanca[k][j];
+                    }
+                }
+            }
+        }
+        return alcanca;
+    }
+}
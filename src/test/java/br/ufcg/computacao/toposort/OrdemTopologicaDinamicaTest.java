@@ -0,0 +1,112 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Testes unitários para a classe {@link OrdemTopologicaDinamica}.
+ * 
+ * <p>
+ * Verificam se a ordem continua válida após cada inserção de aresta e se as
+ * arestas que criariam ciclos são rejeitadas sem alterar o grafo.
+ * </p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ * @see OrdemTopologicaDinamica
+ */
+public class OrdemTopologicaDinamicaTest {
+
+    /**
+     * Testa a reordenação local e a rejeição de ciclos em um grafo pequeno.
+     */
+    @Test
+    @DisplayName("Deve reordenar apenas a região afetada e rejeitar ciclos")
+    void testInsercoes() {
+        Grafo grafo = new Grafo(4);
+        OrdemTopologicaDinamica ordem = new OrdemTopologicaDinamica(grafo);
+
+        ordem.adicionarAresta(3, 0);
+        assertTrue(ordem.getPosicao(3) < ordem.getPosicao(0));
+        ordem.adicionarAresta(0, 2);
+        ordem.adicionarAresta(2, 1);
+        verificarOrdem(grafo, ordem.getOrdem());
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> ordem.adicionarAresta(1, 3));
+        assertTrue(exception.getMessage().contains("criaria um ciclo"));
+        assertThrows(IllegalArgumentException.class, () -> ordem.adicionarAresta(2, 2));
+        assertEquals(3, grafo.getNumArestas(), "Aresta rejeitada não deve ser inserida");
+        assertEquals(0, grafo.getGrauSaida(1));
+    }
+
+    /**
+     * Testa uma sequência aleatória de inserções, comparando a decisão de aceitar ou
+     * rejeitar cada aresta com uma busca completa de alcançabilidade.
+     */
+    @Test
+    @DisplayName("Deve manter uma ordem válida em inserções aleatórias")
+    void testInsercoesAleatorias() {
+        int n = 150;
+        Random random = new Random(42);
+        Grafo grafo = new Grafo(n);
+        OrdemTopologicaDinamica ordem = new OrdemTopologicaDinamica(grafo);
+
+        for (int i = 0; i < 3000; i++) {
+            int origem = random.nextInt(n);
+            int destino = random.nextInt(n);
+            boolean criaCiclo = alcanca(grafo, destino, origem);
+            if (criaCiclo) {
+                assertThrows(IllegalArgumentException.class, () -> ordem.adicionarAresta(origem, destino));
+            } else {
+                ordem.adicionarAresta(origem, destino);
+            }
+            if (i % 100 == 0) {
+                verificarOrdem(grafo, ordem.getOrdem());
+            }
+        }
+        verificarOrdem(grafo, ordem.getOrdem());
+    }
+
+    private static boolean alcanca(Grafo grafo, int origem, int destino) {
+        boolean[] visitado = new boolean[grafo.getNumVertices()];
+        int[] pilha = new int[grafo.getNumVertices()];
+        int topo = 0;
+        pilha[topo++] = origem;
+        visitado[origem] = true;
+        while (topo > 0) {
+            int v = pilha[--topo];
+            if (v == destino) {
+                return true;
+            }
+            for (int w : grafo.getAdjacentes(v)) {
+                if (!visitado[w]) {
+                    visitado[w] = true;
+                    pilha[topo++] = w;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void verificarOrdem(Grafo grafo, int[] ordem) {
+        int[] posicao = new int[grafo.getNumVertices()];
+        boolean[] presente = new boolean[grafo.getNumVertices()];
+        for (int i = 0; i < ordem.length; i++) {
+            assertTrue(!presente[ordem[i]], "Vértice repetido na ordem: " + ordem[i]);
+            presente[ordem[i]] = true;
+            posicao[ordem[i]] = i;
+        }
+        for (int u = 0; u < grafo.getNumVertices(); u++) {
+            for (int v : grafo.getAdjacentes(u)) {
+                assertTrue(posicao[u] < posicao[v], "Ordem topológica inválida: " + u + " -> " + v);
+            }
+        }
+    }
+}
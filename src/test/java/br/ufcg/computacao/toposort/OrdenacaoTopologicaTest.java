@@ -1,7 +1,9 @@
 package br.ufcg.computacao.toposort;
 
 import java.util.List;
+import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -178,6 +180,121 @@ public class OrdenacaoTopologicaTest {
         assertTrue(resultado.isEmpty(), "A ordenação de um grafo vazio deve ser vazia");
     }
 
+    /**
+     * Testa se o modo iterativo produz exatamente a mesma ordem do modo recursivo.
+     */
+    @Test
+    @DisplayName("Modo iterativo deve produzir a mesma ordem do recursivo")
+    void testOrdenacaoIterativaMesmaOrdem() {
+        for (Grafo grafo : new Grafo[] { grafoSimples, grafoDisciplinas, new Grafo(0) }) {
+            OrdenacaoTopologica ordenacao = new OrdenacaoTopologica(grafo);
+            List<Integer> esperado = ordenacao.ordenar();
+            int[] resultado = ordenacao.ordenarIterativo();
+
+            assertEquals(esperado.size(), resultado.length);
+            for (int i = 0; i < resultado.length; i++) {
+                assertEquals((int) esperado.get(i), resultado[i], "Posição " + i + " diverge do modo recursivo");
+            }
+        }
+    }
+
+    /**
+     * Testa a detecção de ciclos no modo iterativo.
+     */
+    @Test
+    @DisplayName("Modo iterativo deve lançar exceção para grafo com ciclo")
+    void testOrdenacaoIterativaComCiclo() {
+        OrdenacaoTopologica ordenacao = new OrdenacaoTopologica(grafoCiclico);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, ordenacao::ordenarIterativo);
+        assertTrue(exception.getMessage().contains("O grafo contém ciclos"));
+    }
+
+    /**
+     * Testa o modo iterativo em uma cadeia de dependências longa, que estouraria a pilha
+     * de recursão do modo recursivo.
+     */
+    @Test
+    @DisplayName("Modo iterativo deve ordenar cadeias longas sem estouro de pilha")
+    void testOrdenacaoIterativaCadeiaLonga() {
+        int n = 100000;
+        Grafo cadeia = new Grafo(n);
+        for (int i = n - 1; i > 0; i--) {
+            cadeia.adicionarAresta(i, i - 1);
+        }
+
+        int[] resultado = new OrdenacaoTopologica(cadeia).ordenarIterativo();
+        for (int i = 0; i < n; i++) {
+            assertEquals(n - 1 - i, resultado[i]);
+        }
+    }
+
+    /**
+     * Testa a separação em níveis no grafo simples.
+     */
+    @Test
+    @DisplayName("Deve separar o grafo simples em níveis")
+    void testOrdenacaoPorNiveis() {
+        for (boolean paralelo : new boolean[] { false, true }) {
+            Niveis niveis = new OrdenacaoTopologica(grafoSimples).ordenarPorNiveis(paralelo);
+
+            assertEquals(4, niveis.getNumNiveis());
+            assertArrayEquals(new int[] { 4, 5, 0, 2, 3, 1 }, niveis.getOrdem());
+            assertArrayEquals(new int[] { 0, 2, 4, 5, 6 }, niveis.getInicioNiveis());
+            assertArrayEquals(new int[] { 0, 2 }, niveis.getNivel(1));
+        }
+        assertEquals(0, new OrdenacaoTopologica(new Grafo(0)).ordenarPorNiveis().getNumNiveis());
+    }
+
+    /**
+     * Testa, em um DAG aleatório grande, se o nível de cada vértice é um a mais que o
+     * maior nível entre seus predecessores e se os modos sequencial e paralelo coincidem.
+     */
+    @Test
+    @DisplayName("Níveis devem respeitar as dependências em DAG grande")
+    void testOrdenacaoPorNiveisDagGrande() {
+        int n = 20000;
+        Random random = new Random(42);
+        Grafo dag = new Grafo(n);
+        for (int i = 0; i < 5 * n; i++) {
+            int origem = random.nextInt(n - 1);
+            int destino = origem + 1 + random.nextInt(Math.min(50, n - origem - 1));
+            dag.adicionarAresta(origem, destino);
+        }
+
+        OrdenacaoTopologica ordenacao = new OrdenacaoTopologica(dag);
+        Niveis sequencial = ordenacao.ordenarPorNiveis(false);
+        Niveis paralelo = ordenacao.ordenarPorNiveis(true);
+        assertArrayEquals(sequencial.getOrdem(), paralelo.getOrdem());
+        assertArrayEquals(sequencial.getInicioNiveis(), paralelo.getInicioNiveis());
+
+        int[] nivel = new int[n];
+        for (int l = 0; l < paralelo.getNumNiveis(); l++) {
+            for (int v : paralelo.getNivel(l)) {
+                nivel[v] = l;
+            }
+        }
+        int[] esperado = new int[n];
+        for (int u = 0; u < n; u++) {
+            for (int v : dag.getAdjacentes(u)) {
+                esperado[v] = Math.max(esperado[v], esperado[u] + 1);
+            }
+        }
+        assertArrayEquals(esperado, nivel);
+    }
+
+    /**
+     * Testa a detecção de ciclos na ordenação por níveis.
+     */
+    @Test
+    @DisplayName("Ordenação por níveis deve lançar exceção para grafo com ciclo")
+    void testOrdenacaoPorNiveisComCiclo() {
+        OrdenacaoTopologica ordenacao = new OrdenacaoTopologica(grafoCiclico);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> ordenacao.ordenarPorNiveis(true));
+        assertTrue(exception.getMessage().contains("O grafo contém ciclos"));
+    }
+
     /**
      * Método auxiliar para verificar se uma ordenação topológica é válida.
      * 
@@ -0,0 +1,189 @@
+package br.ufcg.computacao.toposort;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.ufcg.computacao.toposort.graph.Grafo;
+
+/**
+ * Testes unitários para a classe {@link ReducaoTransitiva}.
+ * 
+ * <p>
+ * Verificam se a redução preserva a alcançabilidade, se nenhuma aresta restante é
+ * redundante e se os modos sequencial, paralelo e com blocos pequenos de memória
+ * produzem o mesmo resultado.
+ * </p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ * @see ReducaoTransitiva
+ */
+public class ReducaoTransitivaTest {
+
+    /**
+     * Testa um grafo pequeno com atalhos e uma aresta repetida.
+     */
+    @Test
+    @DisplayName("Deve remover atalhos e arestas repetidas")
+    void testGrafoPequeno() {
+        Grafo grafo = new Grafo(5);
+        grafo.adicionarAresta(0, 1);
+        grafo.adicionarAresta(0, 2, 7);
+        grafo.adicionarAresta(0, 3);
+        grafo.adicionarAresta(1, 2);
+        grafo.adicionarAresta(2, 3);
+        grafo.adicionarAresta(2, 3);
+        grafo.adicionarAresta(4, 3);
+
+        ReducaoTransitiva reducao = new ReducaoTransitiva(grafo);
+        Grafo reduzido = reducao.getGrafoReduzido();
+        assertEquals(3, reducao.getNumArestasRemovidas());
+        assertEquals(4, reduzido.getNumArestas());
+        assertTrue(reduzido.existeAresta(0, 1));
+        assertFalse(reduzido.existeAresta(0, 2));
+        assertFalse(reduzido.existeAresta(0, 3));
+        assertTrue(reduzido.existeAresta(2, 3));
+        assertTrue(reduzido.existeAresta(4, 3));
+        assertTrue(reducao.isRemovida(0, 1));
+        assertFalse(reducao.isRemovida(2, 0));
+        assertTrue(reducao.isRemovida(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> reducao.isRemovida(3, 0));
+    }
+
+    /**
+     * Compara a redução com a definição em DAGs aleatórios, nos três modos.
+     */
+    @Test
+    @DisplayName("Deve produzir a redução mínima em DAGs aleatórios")
+    void testDAGsAleatorios() {
+        Random random = new Random(9);
+        for (int rodada = 0; rodada < 25; rodada++) {
+            int n = 1 + random.nextInt(200);
+            Grafo grafo = gerarDAG(n, random.nextInt(5 * n + 1), random);
+            boolean[][] original = fechoTransitivo(grafo);
+
+            ReducaoTransitiva sequencial = new ReducaoTransitiva(grafo, false, ReducaoTransitiva.LIMITE_MEMORIA_PADRAO);
+            ReducaoTransitiva paralela = new ReducaoTransitiva(grafo);
+            // 8 bytes por vértice: um bloco de 64 posições por passada
+            ReducaoTransitiva emBlocos = new ReducaoTransitiva(grafo, true, 8L * n);
+            for (ReducaoTransitiva reducao : new ReducaoTransitiva[] { sequencial, paralela, emBlocos }) {
+                Grafo reduzido = reducao.getGrafoReduzido();
+                assertEquals(grafo.getNumArestas() - reducao.getNumArestasRemovidas(), reduzido.getNumArestas());
+                boolean[][] fecho = fechoTransitivo(reduzido);
+                for (int u = 0; u < n; u++) {
+                    for (int v = 0; v < n; v++) {
+                        assertEquals(original[u][v], fecho[u][v], "Alcançabilidade alterada: " + u + " -> " + v);
+                    }
+                    for (int i = 0; i < reduzido.getGrauSaida(u); i++) {
+                        int w = reduzido.getAdjacente(u, i);
+                        assertFalse(alcancavelSemAresta(reduzido, u, w), "Aresta redundante: " + u + " -> " + w);
+                    }
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                for (int i = 0; i < grafo.getGrauSaida(v); i++) {
+                    assertEquals(sequencial.isRemovida(v, i), paralela.isRemovida(v, i));
+                    assertEquals(sequencial.isRemovida(v, i), emBlocos.isRemovida(v, i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Testa a rejeição de ciclos e de limites inválidos.
+     */
+    @Test
+    @DisplayName("Deve rejeitar ciclos e limites de memória inválidos")
+    void testEntradasInvalidas() {
+        Grafo grafo = new Grafo(2);
+        grafo.adicionarAresta(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> new ReducaoTransitiva(grafo, false, 0));
+        grafo.adicionarAresta(1, 0);
+        assertThrows(IllegalArgumentException.class, () -> new ReducaoTransitiva(grafo));
+        assertEquals(0, new ReducaoTransitiva(new Grafo(0)).getNumArestasRemovidas());
+    }
+
+    /**
+     * Verifica se {@code w} é alcançável a partir de {@code u} sem usar nenhuma aresta
+     * direta {@code u -> w}.
+     */
+    private static boolean alcancavelSemAresta(Grafo grafo, int u, int w) {
+        boolean[] visitado = new boolean[grafo.getNumVertices()];
+        int[] pilha = new int[grafo.getNumVertices()];
+        int topo = 0;
+        for (int x : grafo.getAdjacentes(u)) {
+            if (x != w && !visitado[x]) {
+                visitado[x] = true;
+                pilha[topo++] = x;
+            }
+        }
+        while (topo > 0) {
+            int v = pilha[--topo];
+            if (v == w) {
+                return true;
+            }
+            for (int x : grafo.getAdjacentes(v)) {
+                if (!visitado[x]) {
+                    visitado[x] = true;
+                    pilha[topo++] = x;
+                }
+            }
+        }
+        // arestas repetidas u -> w também são redundantes
+        int diretas = 0;
+        for (int x : grafo.getAdjacentes(u)) {
+            diretas += x == w ? 1 : 0;
+        }
+        return diretas > 1;
+    }
+
+    private static Grafo gerarDAG(int n, int m, Random random) {
+        // arestas de um rótulo menor para um maior de uma permutação aleatória
+        int[] rotulo = new int[n];
+        for (int i = 0; i < n; i++) {
+            rotulo[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int aux = rotulo[i];
+            rotulo[i] = rotulo[j];
+            rotulo[j] = aux;
+        }
+        Grafo grafo = new Grafo(n);
+        for (int i = 0; i < m && n > 1; i++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            if (a != b) {
+                grafo.adicionarAresta(rotulo[Math.min(a, b)], rotulo[Math.max(a, b)]);
+            }
+        }
+        return grafo;
+    }
+
+    private static boolean[][] fechoTransitivo(Grafo grafo) {
+        int n = grafo.getNumVertices();
+        boolean[][] alcanca = new boolean[n][n];
+        for (int u = 0; u < n; u++) {
+            alcanca[u][u] = true;
+            for (int v : grafo.getAdjacentes(u)) {
+                alcanca[u][v] = true;
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                if (alcanca[i][k]) {
+                    for (int j = 0; j < n; j++) {
+                        alcanca[i][j] |= alcanca[k][j];
+                    }
+                }
+            }
+        }
+        return alcanca;
+    }
+}
@@ -0,0 +1,123 @@
+package br.ufcg.computacao.toposort.graph;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para a classe {@link Grafo}.
+ * 
+ * <p>
+ * Verificam a lista de adjacência baseada em vetores primitivos: crescimento dos
+ * vetores, consulta de arestas pela tabela hash e as visões {@code List}/{@code Set}
+ * expostas pelos métodos públicos já existentes.
+ * </p>
+ * 
+ * @author Joyce Vitória Nascimento Rodrigues
+ * @version 1.0
+ * @see Grafo
+ */
+public class GrafoTest {
+
+    /**
+     * Testa a adição de arestas e as consultas de adjacência.
+     */
+    @Test
+    @DisplayName("Deve manter os sucessores na ordem de inserção")
+    void testAdjacencia() {
+        Grafo grafo = new Grafo(4);
+        grafo.adicionarAresta(0, 3);
+        grafo.adicionarAresta(0, 1);
+        grafo.adicionarAresta(2, 0);
+
+        List<Integer> adjacentes = grafo.getAdjacentes(0);
+        assertEquals(2, adjacentes.size());
+        assertEquals(3, adjacentes.get(0));
+        assertEquals(1, adjacentes.get(1));
+        assertEquals(2, grafo.getGrauSaida(0));
+        assertEquals(0, grafo.getGrauSaida(1));
+        assertEquals(0, grafo.getAdjacente(2, 0));
+        assertEquals(3, grafo.getNumArestas());
+        assertEquals("0 -> 3 1 \n1 -> \n2 -> 0 \n3 -> \n", grafo.toString());
+
+        grafo.adicionarAresta(0, 2);
+        assertEquals(3, adjacentes.size(), "A visão deve refletir arestas adicionadas depois");
+        assertThrows(UnsupportedOperationException.class, () -> adjacentes.add(1));
+        assertThrows(IllegalArgumentException.class, () -> grafo.adicionarAresta(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> grafo.getAdjacentes(-1));
+    }
+
+    /**
+     * Testa a verificação de existência de arestas após várias expansões da tabela.
+     */
+    @Test
+    @DisplayName("Deve encontrar arestas existentes e rejeitar as inexistentes")
+    void testExisteAresta() {
+        int n = 300;
+        Grafo grafo = new Grafo(n);
+        for (int u = 0; u < n; u++) {
+            for (int v = u + 1; v < n; v += 7) {
+                grafo.adicionarAresta(u, v);
+            }
+        }
+
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                boolean esperado = v > u && (v - u - 1) % 7 == 0;
+                assertEquals(esperado, grafo.existeAresta(u, v));
+            }
+        }
+        assertFalse(grafo.existeAresta(-1, 0));
+        assertFalse(grafo.existeAresta(0, n));
+    }
+
+    /**
+     * Testa o conjunto de vértices.
+     */
+    @Test
+    @DisplayName("Deve expor os vértices 0..n-1 como conjunto")
+    void testVertices() {
+        Set<Integer> vertices = new Grafo(5).getVertices();
+        assertEquals(5, vertices.size());
+        assertTrue(vertices.contains(4));
+        assertFalse(vertices.contains(5));
+        int soma = 0;
+        for (int v : vertices) {
+            soma += v;
+        }
+        assertEquals(10, soma);
+    }
+
+    /**
+     * Testa os pesos das arestas, inclusive quando o grafo passa a ser ponderado depois
+     * de já ter arestas sem peso.
+     */
+    @Test
+    @DisplayName("Deve guardar os pesos das arestas, com 1 como padrão")
+    void testPesos() {
+        Grafo grafo = new Grafo(3);
+        grafo.adicionarAresta(0, 1);
+        grafo.adicionarAresta(0, 2);
+        assertFalse(grafo.isPonderado());
+        assertEquals(1, grafo.getPeso(0, 1));
+
+        for (int i = 0; i < 10; i++) {
+            grafo.adicionarAresta(0, 1, -i);
+        }
+        grafo.adicionarAresta(1, 2);
+        assertTrue(grafo.isPonderado());
+        assertEquals(1, grafo.getPeso(0, 0));
+        assertEquals(1, grafo.getPeso(0, 1));
+        assertEquals(0, grafo.getPeso(0, 2));
+        assertEquals(-1, grafo.getPeso(0, 3));
+        assertEquals(-9, grafo.getPeso(0, 11));
+        assertEquals(1, grafo.getPeso(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> grafo.getPeso(2, 0));
+    }
+}